@@ -0,0 +1,86 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link Card} and {@link Deck}
+ * {@link.uri https://github.com/openjdk/jmh target=newtab JMH} benchmarks.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+    private String[] strings = null;
+
+    /**
+     * Method to set up the {@link Card} {@link String}s to parse.
+     */
+    @Setup
+    public void setup() {
+        var deck = new ball.game.card.poker.Deck();
+
+        strings = new String[deck.size()];
+
+        for (int i = 0; i < strings.length; i += 1) {
+            strings[i] = deck.get(i).toString();
+        }
+    }
+
+    /**
+     * {@link Card#parse(String)} benchmark (every {@link Card} in a
+     * {@link Deck} per operation).
+     *
+     * @param   blackhole       The {@link Blackhole}.
+     */
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (var string : strings) {
+            blackhole.consume(Card.parse(string));
+        }
+    }
+
+    /**
+     * {@link Deck} construction (from its
+     * {@link java.util.ResourceBundle}) benchmark.
+     *
+     * @return  The {@link Deck}.
+     */
+    @Benchmark
+    public Deck deck() {
+        return new ball.game.card.poker.Deck();
+    }
+}
@@ -0,0 +1,151 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Poker {@link Evaluator}, {@link Ranking}, and {@link java.util.Comparator}
+ * {@link.uri https://github.com/openjdk/jmh target=newtab JMH} benchmarks.
+ * Each operation evaluates the next of {@value #HANDS} hands dealt from a
+ * {@link Random} with a fixed seed.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PokerBenchmark {
+    private static final int HANDS = 1024;
+
+    @Param({ "5", "7" })
+    private int size = 5;
+
+    private List<List<Card>> hands = null;
+    private int index = 0;
+
+    /**
+     * Method to deal the hands.
+     */
+    @Setup
+    public void setup() {
+        var random = new Random(0);
+
+        hands = new ArrayList<>(HANDS);
+
+        for (int i = 0; i < HANDS; i += 1) {
+            var deck = new Deck();
+
+            Collections.shuffle(deck, random);
+
+            var hand = new ArrayList<Card>(deck.subList(0, size));
+
+            hands.add(hand);
+        }
+    }
+
+    private List<Card> next() {
+        index = (index + 1) & (HANDS - 1);
+
+        return hands.get(index);
+    }
+
+    /**
+     * {@link Evaluator} construction benchmark.
+     *
+     * @return  The {@link Ranking}.
+     */
+    @Benchmark
+    public Ranking evaluator() {
+        return new Evaluator(next()).getRanking();
+    }
+
+    /**
+     * {@link LookupEvaluator} construction benchmark (for comparison with
+     * {@link #evaluator()}).
+     *
+     * @return  The {@link Ranking}.
+     */
+    @Benchmark
+    public Ranking lookup() {
+        return new LookupEvaluator(next()).getRanking();
+    }
+
+    /**
+     * {@link Ranking#find(java.util.Collection)} benchmark.
+     *
+     * @param   find            The {@link Find} parameters.
+     *
+     * @return  The hand found.
+     */
+    @Benchmark
+    public List<Card> find(Find find) {
+        return find.ranking.find(next());
+    }
+
+    /**
+     * {@link Evaluator#HAND} benchmark.
+     *
+     * @return  The comparison.
+     */
+    @Benchmark
+    public int hand() {
+        return Evaluator.HAND.compare(next(), next());
+    }
+
+    /**
+     * {@link Evaluator#CARD} benchmark.
+     *
+     * @return  The comparison.
+     */
+    @Benchmark
+    public int card() {
+        var hand = next();
+
+        return Evaluator.CARD.compare(hand.get(0), hand.get(1));
+    }
+
+    /**
+     * {@link #find(Find)} parameters.
+     */
+    @State(Scope.Thread)
+    public static class Find {
+        @Param({ "Pair", "Flush", "FullHouse" })
+        private Ranking ranking = Ranking.Pair;
+    }
+}
@@ -0,0 +1,89 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Suit;
+import ball.game.card.Dealer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DoubleDummy}
+ * {@link.uri https://github.com/openjdk/jmh target=newtab JMH} benchmark.
+ * Each operation solves the next of {@value #DEALS} full (52-{@link
+ * ball.game.card.Card}) deals dealt from consecutive seeds with West on
+ * lead.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class DoubleDummyBenchmark {
+    private static final int DEALS = 16;
+    private static final long SEED = 1000;
+
+    @Param({ "NOTRUMP", "SPADES" })
+    private String strain = "NOTRUMP";
+
+    private Suit trump = null;
+    private long[][] deals = null;
+    private DoubleDummy solver = null;
+    private int index = 0;
+
+    /**
+     * Method to deal the hands.
+     */
+    @Setup
+    public void setup() {
+        trump = strain.equals("NOTRUMP") ? null : Suit.valueOf(strain);
+        deals = new long[DEALS][Position.values().length];
+
+        for (int i = 0; i < DEALS; i += 1) {
+            new Dealer(SEED + i).deal(deals[i], 13);
+        }
+
+        solver = new DoubleDummy(deals[0], trump);
+    }
+
+    /**
+     * {@link DoubleDummy#solve(Position)} benchmark.
+     *
+     * @return  The number of tricks North-South take.
+     */
+    @Benchmark
+    public int solve() {
+        index = (index + 1) & (DEALS - 1);
+
+        return solver.reset(deals[index], trump).solve(Position.WEST);
+    }
+}
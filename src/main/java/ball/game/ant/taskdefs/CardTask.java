@@ -19,15 +19,22 @@ package ball.game.ant.taskdefs;
  * ##########################################################################
  */
 import ball.game.card.Card;
+import ball.game.card.poker.Equity;
 import ball.game.card.poker.Evaluator;
+import ball.game.card.poker.PreflopTable;
+import ball.game.card.solitaire.FreeCell;
+import ball.game.card.trick.bridge.Analysis;
 import ball.util.ant.taskdefs.AnnotatedAntTask;
 import ball.util.ant.taskdefs.AntTask;
 import ball.util.ant.taskdefs.ClasspathDelegateAntTask;
 import ball.util.ant.taskdefs.ConfigurableAntTask;
 import ball.util.ant.taskdefs.NotNull;
+import java.io.File;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -114,4 +121,126 @@ public abstract class CardTask extends Task implements AnnotatedAntTask, Classpa
             }
         }
     }
+
+    /**
+     * {@link.uri http://ant.apache.org/ Ant}
+     * {@link org.apache.tools.ant.Task} to generate a {@link PreflopTable}.
+     *
+     * {@ant.task}
+     */
+    @AntTask("poker-preflop-table")
+    @NoArgsConstructor @ToString
+    public static class PokerPreflopTable extends CardTask {
+        @NotNull @Getter @Setter
+        private File file = null;
+        @Getter @Setter
+        private double interval = Equity.INTERVAL;
+        @Getter @Setter
+        private long trials = Equity.TRIALS;
+
+        @Override
+        public void execute() throws BuildException {
+            super.execute();
+
+            try {
+                var random = new SplittableRandom();
+                var table = new float[PreflopTable.HANDS][];
+
+                for (int i = 0; i < table.length; i += 1) {
+                    table[i] = PreflopTable.equities(i, getInterval(), getTrials(), random);
+
+                    log(PreflopTable.name(i) + ": " + Arrays.toString(table[i]));
+                }
+
+                PreflopTable.write(getFile().toPath(), table);
+            } catch (BuildException exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+                throw new BuildException(throwable);
+            }
+        }
+    }
+
+    /**
+     * {@link.uri http://ant.apache.org/ Ant}
+     * {@link org.apache.tools.ant.Task} to analyze a PBN file of bridge
+     * deals (see {@link Analysis}).
+     *
+     * {@ant.task}
+     */
+    @AntTask("bridge-analyze")
+    @NoArgsConstructor @ToString
+    public static class BridgeAnalyze extends CardTask {
+        @NotNull @Getter @Setter
+        private File file = null;
+        @NotNull @Getter @Setter
+        private File output = null;
+        @Getter @Setter
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        @Override
+        public void execute() throws BuildException {
+            super.execute();
+
+            try (var reader = Files.newBufferedReader(getFile().toPath());
+                 var writer = Files.newBufferedWriter(getOutput().toPath())) {
+                var metrics = new Analysis(getThreads()).run(reader, writer);
+
+                log(String.valueOf(metrics));
+            } catch (BuildException exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+                throw new BuildException(throwable);
+            }
+        }
+    }
+
+    /**
+     * {@link.uri http://ant.apache.org/ Ant}
+     * {@link org.apache.tools.ant.Task} to solve Microsoft FreeCell deals
+     * (see {@link FreeCell}).
+     *
+     * {@ant.task}
+     */
+    @AntTask("freecell-solve")
+    @NoArgsConstructor @ToString
+    public static class FreeCellSolve extends CardTask {
+        @Getter @Setter
+        private int first = 1;
+        @Getter @Setter
+        private int last = FreeCell.DEALS;
+
+        @Override
+        public void execute() throws BuildException {
+            super.execute();
+
+            try {
+                var start = System.nanoTime();
+                var solutions = FreeCell.solve(getFirst(), getLast());
+                var won = 0;
+                var nodes = 0L;
+
+                for (var solution : solutions) {
+                    log(String.valueOf(solution));
+
+                    if (solution.getResult() == FreeCell.Result.WON) {
+                        won += 1;
+                    }
+
+                    nodes += solution.getNodes();
+                }
+
+                log(String.format("deals=%d, won=%d, nodes=%d, elapsed=%.3fs",
+                                  solutions.size(), won, nodes,
+                                  (System.nanoTime() - start) / 1e9));
+            } catch (BuildException exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+                throw new BuildException(throwable);
+            }
+        }
+    }
 }
@@ -19,18 +19,21 @@ package ball.game.ant.taskdefs;
  * ##########################################################################
  */
 import ball.game.scrabble.AI;
+import ball.game.scrabble.Anagrams;
 import ball.game.scrabble.Board;
+import ball.game.scrabble.Dawg;
 import ball.game.scrabble.Game;
 import ball.game.scrabble.Player;
 import ball.game.scrabble.Rack;
-import ball.game.scrabble.Tile;
+import ball.game.scrabble.WordList;
+import ball.game.scrabble.wordlist.OWL;
 import ball.util.ant.taskdefs.AnnotatedAntTask;
 import ball.util.ant.taskdefs.AntTask;
 import ball.util.ant.taskdefs.ClasspathDelegateAntTask;
 import ball.util.ant.taskdefs.ConfigurableAntTask;
 import ball.util.ant.taskdefs.NotNull;
+import java.io.File;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -41,7 +44,6 @@ import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.util.ClasspathUtils;
 
-import static java.util.stream.Collectors.toCollection;
 import static lombok.AccessLevel.PROTECTED;
 
 /**
@@ -96,14 +98,44 @@ public abstract class ScrabbleTask extends Task implements AnnotatedAntTask, Cla
 
                 log(String.valueOf(player.getRack()));
 
-                var set =
-                    player.getRack().combinations()
-                    .map(t -> Tile.toString(t))
-                    .collect(toCollection(LinkedHashSet::new));
+                var words = new Anagrams(game.getWordList()).of(player.getRack());
 
-                set.retainAll(game.getWordList());
+                log(String.valueOf(words));
+            } catch (BuildException exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+                throw new BuildException(throwable);
+            }
+        }
+    }
+
+    /**
+     * {@link.uri http://ant.apache.org/ Ant} {@link Task} to compile a
+     * {@link WordList} to a memory-mappable {@link Dawg} file (see
+     * {@link Dawg#map(java.nio.file.Path)}).
+     *
+     * {@ant.task}
+     */
+    @AntTask("scrabble-compile")
+    @NoArgsConstructor @ToString
+    public static class Compile extends ScrabbleTask {
+        @NotNull @Getter @Setter
+        private String type = OWL.class.getName();
+        @NotNull @Getter @Setter
+        private File file = null;
+
+        @Override
+        public void execute() throws BuildException {
+            super.execute();
+
+            try {
+                var type = Class.forName(getType(), true, getClassLoader()).asSubclass(WordList.class);
+                var dawg = new Dawg(type.getDeclaredConstructor().newInstance().keySet());
+
+                dawg.write(getFile().toPath());
 
-                log(String.valueOf(set));
+                log(type.getSimpleName() + ": " + dawg.size() + " words -> " + getFile());
             } catch (BuildException exception) {
                 throw exception;
             } catch (Throwable throwable) {
@@ -20,6 +20,8 @@ package ball.game.ant.taskdefs;
  */
 import ball.activation.ReaderWriterDataSource;
 import ball.game.crossword.Puzzle;
+import ball.game.scrabble.Lexicons;
+import ball.game.scrabble.wordlist.TWL06;
 import ball.util.ant.taskdefs.AnnotatedAntTask;
 import ball.util.ant.taskdefs.AntTask;
 import ball.util.ant.taskdefs.ClasspathDelegateAntTask;
@@ -141,7 +143,7 @@ public abstract class XDTask extends Task implements AnnotatedAntTask, Classpath
         }
 
         private Set<CharSequence> getWordList() {
-            return new ball.game.scrabble.wordlist.TWL06().keySet();
+            return Lexicons.get(TWL06.class);
         }
     }
 }
@@ -22,6 +22,7 @@ import java.beans.ConstructorProperties;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -38,7 +39,8 @@ import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 /**
- * Playing {@link Card}.
+ * Playing {@link Card}.  {@link #of(Suit,Rank)} and {@link #parse(String)}
+ * return canonical (interned) instances.
  *
  * {@bean.info}
  *
@@ -53,6 +55,7 @@ public class Card implements Comparable<Card> {
     private final Suit suit;
     private final Rank rank;
     private final transient String string;
+    private final transient int hashCode;
 
     /**
      * Sole protected constructor.
@@ -80,6 +83,8 @@ public class Card implements Comparable<Card> {
             this.string = rank.toString() + "-" + suit.toString();
             break;
         }
+
+        this.hashCode = Objects.hash(suit, rank);
     }
 
     /**
@@ -114,39 +119,117 @@ public class Card implements Comparable<Card> {
 
     @Override
     public boolean equals(Object object) {
-        return ((object instanceof Card) ? (this.compareTo((Card) object) == 0) : super.equals(object));
+        var equals = (this == object);
+
+        if ((! equals) && object instanceof Card) {
+            var that = (Card) object;
+
+            equals = (this.getSuit() == that.getSuit() && this.getRank() == that.getRank());
+        }
+
+        return equals;
     }
 
     @Override
-    public int hashCode() { return Objects.hash(getSuit(), getRank()); }
+    public int hashCode() { return hashCode; }
 
     @Override
     public String toString() { return string; }
 
+    /**
+     * Static method to get the canonical {@link Card} for a {@link Suit}
+     * and {@link Rank}.
+     *
+     * @param   suit            The {@link Card} {@link Suit} ({@code null}
+     *                          for {@link Rank#JOKER JOKER}).
+     * @param   rank            The {@link Card} {@link Rank}.
+     *
+     * @return  The {@link Card}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the combination is not valid.
+     */
+    public static Card of(Suit suit, Rank rank) {
+        var card = Canonical.CARDS[(suit != null) ? (suit.ordinal() + 1) : 0][rank.ordinal()];
+
+        if (card == null) {
+            throw new IllegalArgumentException("suit=" + suit + ",rank=" + rank);
+        }
+
+        return card;
+    }
+
     /**
      * Static method to parse a {@link String} consistent with
      * {@link #toString} to a {@link Card}.
      *
      * @param   string          The {@link String} to parse.
      *
-     * @return  The {@link Card}.
+     * @return  The canonical {@link Card}.
      */
     public static Card parse(String string) {
-        Card card = null;
+        var card = Canonical.MAP.get(string);
 
-        try {
-            var substrings = string.split(Pattern.quote("-"), 2);
+        if (card == null) {
+            try {
+                var substrings = string.split(Pattern.quote("-"), 2);
 
-            card =
-                new Card((substrings.length > 1) ? Suit.parse(substrings[1]) : null,
-                         Rank.parse(substrings[0]));
-        } catch (Exception exception) {
-            throw new IllegalArgumentException(string, exception);
+                card =
+                    of((substrings.length > 1) ? Suit.parse(substrings[1]) : null,
+                       Rank.parse(substrings[0]));
+            } catch (Exception exception) {
+                throw new IllegalArgumentException(string, exception);
+            }
         }
 
         return card;
     }
 
+    /*
+     * Canonical instances (initialized on first use to avoid a class
+     * initialization cycle with the nested Enum types).
+     */
+    private static class Canonical {
+        private static final Card[][] CARDS;
+        private static final Map<String,Card> MAP;
+
+        static {
+            var suits = Suit.values();
+            var ranks = Rank.values();
+
+            CARDS = new Card[suits.length + 1][ranks.length];
+            CARDS[0][Rank.JOKER.ordinal()] = new Card(null, Rank.JOKER);
+
+            for (var suit : suits) {
+                for (var rank : ranks) {
+                    if (rank != Rank.JOKER) {
+                        CARDS[suit.ordinal() + 1][rank.ordinal()] = new Card(suit, rank);
+                    }
+                }
+            }
+
+            var map = new HashMap<String,Card>();
+
+            map.put(Rank.JOKER.name(), CARDS[0][Rank.JOKER.ordinal()]);
+
+            for (var suit : suits) {
+                for (var rank : ranks) {
+                    var card = CARDS[suit.ordinal() + 1][rank.ordinal()];
+
+                    if (card != null) {
+                        for (var r : List.of(rank.name(), rank.toString())) {
+                            for (var s : List.of(suit.name(), suit.name().substring(0, 1), suit.toString())) {
+                                map.put(r + "-" + s, card);
+                            }
+                        }
+                    }
+                }
+            }
+
+            MAP = unmodifiableMap(map);
+        }
+    }
+
     private static <T> Predicate<List<T>> same(Function<T,Predicate<T>> mapper) {
         return t -> ((! t.isEmpty()) && t.stream().allMatch(mapper.apply(t.get(0))));
     }
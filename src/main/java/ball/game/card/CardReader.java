@@ -0,0 +1,179 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+/**
+ * Compact binary {@link Card} reader over a {@link ReadableByteChannel}
+ * (e.g., a {@link java.nio.channels.FileChannel}).  See
+ * {@link CardWriter} for the format.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class CardReader implements Closeable {
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean eof = false;
+
+    /**
+     * Constructor with a specified buffer size.
+     *
+     * @param   channel         The {@link ReadableByteChannel}.
+     * @param   size            The buffer size.
+     */
+    public CardReader(ReadableByteChannel channel, int size) {
+        if (size < 1 + (6 * CardWriter.MAXIMUM + 7) / 8) {
+            throw new IllegalArgumentException("size=" + size);
+        }
+
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(size);
+        this.buffer.flip();
+    }
+
+    /**
+     * Constructor with the default {@link CardWriter#BUFFER} size.
+     *
+     * @param   channel         The {@link ReadableByteChannel}.
+     */
+    public CardReader(ReadableByteChannel channel) {
+        this(channel, CardWriter.BUFFER);
+    }
+
+    /**
+     * Method to determine if there is more input.
+     *
+     * @return  {@code true} if there is at least one more byte to read;
+     *          {@code false} at end of input.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public boolean hasRemaining() throws IOException {
+        return fill(1);
+    }
+
+    /**
+     * Method to read an encoded {@link Card}.
+     *
+     * @return  The encoded {@link Card}.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public int readCard() throws IOException {
+        return check(require(1).get() & 0xFF);
+    }
+
+    /**
+     * Method to read an array of encoded {@link Card}s.
+     *
+     * @return  The encoded {@link Card}s.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public int[] readCards() throws IOException {
+        var cards = new int[require(1).get() & 0xFF];
+        var buffer = require((6 * cards.length + 7) / 8);
+        var bits = 0L;
+        var count = 0;
+
+        for (int i = 0; i < cards.length; i += 1) {
+            if (count < 6) {
+                bits = (bits << Byte.SIZE) | (buffer.get() & 0xFF);
+                count += Byte.SIZE;
+            }
+
+            count -= 6;
+            cards[i] = check((int) (bits >>> count) & 0x3F);
+        }
+
+        return cards;
+    }
+
+    /**
+     * Method to read a {@link List} of {@link Card}s into a {@link List}
+     * (e.g., a {@link Deck}).  The {@link List} is cleared first.
+     *
+     * @param   <T>             The {@link List} type.
+     * @param   list            The target {@link List}.
+     *
+     * @return  The argument {@link List}.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public <T extends List<Card>> T readCards(T list) throws IOException {
+        return Cards.decode(readCards(), list);
+    }
+
+    /**
+     * Method to read a hand.
+     *
+     * @return  The hand ({@link Cards#mask(java.util.Collection)}).
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public long readHand() throws IOException {
+        var buffer = require(CardWriter.HAND);
+        var hand = 0L;
+
+        for (int i = 0; i < CardWriter.HAND; i += 1) {
+            hand |= (buffer.get() & 0xFFL) << (Byte.SIZE * i);
+        }
+
+        return hand;
+    }
+
+    private static int check(int card) throws IOException {
+        if (card >= Cards.COUNT) {
+            throw new IOException("Invalid card code: " + card);
+        }
+
+        return card;
+    }
+
+    private ByteBuffer require(int bytes) throws IOException {
+        if (! fill(bytes)) {
+            throw new EOFException();
+        }
+
+        return buffer;
+    }
+
+    private boolean fill(int bytes) throws IOException {
+        if (buffer.remaining() < bytes && (! eof)) {
+            buffer.compact();
+
+            while (buffer.position() < bytes && (! eof)) {
+                eof = channel.read(buffer) < 0;
+            }
+
+            buffer.flip();
+        }
+
+        return buffer.remaining() >= bytes;
+    }
+
+    @Override
+    public void close() throws IOException { channel.close(); }
+}
@@ -0,0 +1,221 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * Compact binary {@link Card} writer over a {@link WritableByteChannel}
+ * (e.g., a {@link java.nio.channels.FileChannel}).  {@link Card}s are
+ * written as their {@link Cards} codes:
+ * <ul>
+ *   <li>
+ *     A {@link Card} is one byte.
+ *   </li>
+ *   <li>
+ *     A {@link List} of {@link Card}s (e.g., a {@link Deck} or a hand in
+ *     order dealt; duplicates are preserved) is a one-byte count followed
+ *     by the codes packed 6 bits each (most significant bits first).
+ *   </li>
+ *   <li>
+ *     A hand ({@link Cards#mask(java.util.Collection)}) is a 56-bit
+ *     little-endian mask (7 bytes).
+ *   </li>
+ * </ul>
+ * Records are not tagged:  A {@link CardReader} must read the same
+ * sequence of types written.  Output is buffered; {@link #flush()} or
+ * {@link #close()} to write it to the channel.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class CardWriter implements Closeable, Flushable {
+
+    /**
+     * Default buffer size:
+     * {@link #BUFFER} = {@value #BUFFER}
+     */
+    public static final int BUFFER = 1 << 16;
+
+    /**
+     * Maximum number of {@link Card}s in a {@link List}:
+     * {@link #MAXIMUM} = {@value #MAXIMUM}
+     */
+    public static final int MAXIMUM = 0xFF;
+
+    /**
+     * Bytes per hand:
+     * {@link #HAND} = {@value #HAND}
+     */
+    public static final int HAND = 7;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor with a specified buffer size.
+     *
+     * @param   channel         The {@link WritableByteChannel}.
+     * @param   size            The buffer size.
+     */
+    public CardWriter(WritableByteChannel channel, int size) {
+        if (size < 1 + (6 * MAXIMUM + 7) / 8) {
+            throw new IllegalArgumentException("size=" + size);
+        }
+
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(size);
+    }
+
+    /**
+     * Constructor with the default {@link #BUFFER} size.
+     *
+     * @param   channel         The {@link WritableByteChannel}.
+     */
+    public CardWriter(WritableByteChannel channel) {
+        this(channel, BUFFER);
+    }
+
+    /**
+     * Method to write a {@link Card}.
+     *
+     * @param   card            The {@link Card}.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public void writeCard(Card card) throws IOException {
+        writeCard(Cards.of(card));
+    }
+
+    /**
+     * Method to write an encoded {@link Card}.
+     *
+     * @param   card            The encoded {@link Card}.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public void writeCard(int card) throws IOException {
+        ensure(1).put((byte) check(card));
+    }
+
+    /**
+     * Method to write a {@link List} of {@link Card}s.
+     *
+     * @param   list            The {@link List} of {@link Card}s.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public void writeCards(List<Card> list) throws IOException {
+        writeCards(Cards.encode(list));
+    }
+
+    /**
+     * Method to write an array of encoded {@link Card}s.
+     *
+     * @param   cards           The encoded {@link Card}s (at most
+     *                          {@value #MAXIMUM}).
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public void writeCards(int[] cards) throws IOException {
+        if (cards.length > MAXIMUM) {
+            throw new IllegalArgumentException("Too many cards: " + cards.length);
+        }
+
+        var buffer = ensure(1 + (6 * cards.length + 7) / 8);
+        var bits = 0L;
+        var count = 0;
+
+        buffer.put((byte) cards.length);
+
+        for (var card : cards) {
+            bits = (bits << 6) | check(card);
+            count += 6;
+
+            if (count >= Byte.SIZE) {
+                count -= Byte.SIZE;
+                buffer.put((byte) (bits >>> count));
+            }
+        }
+
+        if (count > 0) {
+            buffer.put((byte) (bits << (Byte.SIZE - count)));
+        }
+    }
+
+    /**
+     * Method to write a hand.
+     *
+     * @param   hand            The hand
+     *                          ({@link Cards#mask(java.util.Collection)}).
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public void writeHand(long hand) throws IOException {
+        if ((hand >>> (Byte.SIZE * HAND)) != 0) {
+            throw new IllegalArgumentException("hand=" + Long.toHexString(hand));
+        }
+
+        var buffer = ensure(HAND);
+
+        for (int i = 0; i < HAND; i += 1) {
+            buffer.put((byte) (hand >>> (Byte.SIZE * i)));
+        }
+    }
+
+    private static int check(int card) {
+        if (card < 0 || card >= Cards.COUNT) {
+            throw new IllegalArgumentException("card=" + card);
+        }
+
+        return card;
+    }
+
+    private ByteBuffer ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+
+        return buffer;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Rank;
+import ball.game.card.Card.Suit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Primitive {@link Card} encoding.  A {@link Card} is encoded as an
+ * {@code int} in the range {@code [0, }{@value #COUNT}{@code )}:
+ * {@code 13 * suit + rank} where {@code suit} is the {@link Suit#ordinal()}
+ * and {@code rank} is {@code 0} for {@link Rank#TWO TWO} through
+ * {@code 12} for {@link Rank#ACE ACE}.  The {@link Rank#JOKER JOKER} is
+ * encoded as {@value #JOKER}.
+ *
+ * A set of {@link Card}s (a hand) is encoded as a {@code long} with bit
+ * {@code n} set if the {@link Card} encoded as {@code n} is present.  Bits
+ * {@code [13 * suit, 13 * suit + 13)} of a hand are the rank mask of the
+ * {@link Suit} (see {@link #suit(long,Suit)}).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public abstract class Cards {
+    private Cards() { }
+
+    /**
+     * {@link #RANKS} = {@value #RANKS}
+     */
+    public static final int RANKS = 13;
+
+    /**
+     * {@link #JOKER} = {@value #JOKER}
+     */
+    public static final int JOKER = RANKS * 4;
+
+    /**
+     * {@link #COUNT} = {@value #COUNT}
+     */
+    public static final int COUNT = JOKER + 1;
+
+    /**
+     * Rank mask: {@link #RANK_MASK} = {@value #RANK_MASK}
+     */
+    public static final int RANK_MASK = (1 << RANKS) - 1;
+
+    /**
+     * Hand of all 52 non-{@link Rank#JOKER JOKER} {@link Card}s:
+     * {@link #DECK} = {@value #DECK}
+     */
+    public static final long DECK = (1L << JOKER) - 1;
+
+    private static final Suit[] SUITS = Suit.values();
+    private static final Rank[] RANKS_OF = new Rank[RANKS];
+    private static final int[] INDICES = new int[Rank.values().length];
+    private static final Card[] CARDS = new Card[COUNT];
+
+    static {
+        for (var rank : Rank.values()) {
+            switch (rank) {
+            case JOKER:
+                INDICES[rank.ordinal()] = -1;
+                break;
+
+            case ACE:
+                INDICES[rank.ordinal()] = RANKS - 1;
+                break;
+
+            default:
+                INDICES[rank.ordinal()] = rank.ordinal() - Rank.TWO.ordinal();
+                break;
+            }
+
+            if (INDICES[rank.ordinal()] >= 0) {
+                RANKS_OF[INDICES[rank.ordinal()]] = rank;
+            }
+        }
+
+        for (var suit : SUITS) {
+            for (var rank : RANKS_OF) {
+                CARDS[of(suit, rank)] = Card.of(suit, rank);
+            }
+        }
+
+        CARDS[JOKER] = Card.of(null, Rank.JOKER);
+    }
+
+    /**
+     * Static method to encode a {@link Card}.
+     *
+     * @param   card            The {@link Card}.
+     *
+     * @return  The encoded {@link Card}.
+     */
+    public static int of(Card card) { return of(card.getSuit(), card.getRank()); }
+
+    /**
+     * Static method to encode a {@link Card}.
+     *
+     * @param   suit            The {@link Card} {@link Suit}.
+     * @param   rank            The {@link Card} {@link Rank}.
+     *
+     * @return  The encoded {@link Card}.
+     */
+    public static int of(Suit suit, Rank rank) {
+        return (rank != Rank.JOKER) ? (RANKS * suit.ordinal() + INDICES[rank.ordinal()]) : JOKER;
+    }
+
+    /**
+     * Static method to decode a {@link Card}.
+     *
+     * @param   card            The encoded {@link Card}.
+     *
+     * @return  The {@link Card}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the argument is not a valid encoding.
+     */
+    public static Card card(int card) {
+        if (card < 0 || card >= COUNT) {
+            throw new IllegalArgumentException(String.valueOf(card));
+        }
+
+        return CARDS[card];
+    }
+
+    /**
+     * Static method to get the {@link Suit} of an encoded {@link Card}.
+     *
+     * @param   card            The encoded {@link Card}.
+     *
+     * @return  The {@link Suit} ({@code null} for
+     *          {@link Rank#JOKER JOKER}).
+     */
+    public static Suit suit(int card) {
+        return (card != JOKER) ? SUITS[card / RANKS] : null;
+    }
+
+    /**
+     * Static method to get the {@link Rank} of an encoded {@link Card}.
+     *
+     * @param   card            The encoded {@link Card}.
+     *
+     * @return  The {@link Rank}.
+     */
+    public static Rank rank(int card) {
+        return (card != JOKER) ? RANKS_OF[card % RANKS] : Rank.JOKER;
+    }
+
+    /**
+     * Static method to get the rank index ({@code 0} for
+     * {@link Rank#TWO TWO} through {@code 12} for {@link Rank#ACE ACE}) of
+     * a {@link Rank}.
+     *
+     * @param   rank            The {@link Rank}.
+     *
+     * @return  The rank index; {@code -1} for {@link Rank#JOKER JOKER}.
+     */
+    public static int index(Rank rank) { return INDICES[rank.ordinal()]; }
+
+    /**
+     * Static method to get the hand consisting of the single encoded
+     * {@link Card}.
+     *
+     * @param   card            The encoded {@link Card}.
+     *
+     * @return  The hand.
+     */
+    public static long mask(int card) { return 1L << card; }
+
+    /**
+     * Static method to encode a {@link Collection} of {@link Card}s as a
+     * hand.  Duplicate {@link Card}s are not preserved.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s.
+     *
+     * @return  The hand.
+     */
+    public static long mask(Collection<Card> collection) {
+        var hand = 0L;
+
+        for (var card : collection) {
+            hand |= mask(of(card));
+        }
+
+        return hand;
+    }
+
+    /**
+     * Static method to encode a {@link List} of {@link Card}s preserving
+     * order and duplicates.
+     *
+     * @param   list            The {@link List} of {@link Card}s (e.g., a
+     *                          {@link Deck}).
+     *
+     * @return  The array of encoded {@link Card}s.
+     */
+    public static int[] encode(List<Card> list) {
+        var array = new int[list.size()];
+
+        for (int i = 0; i < array.length; i += 1) {
+            array[i] = of(list.get(i));
+        }
+
+        return array;
+    }
+
+    /**
+     * Static method to encode a hand.
+     *
+     * @param   hand            The hand.
+     *
+     * @return  The array of encoded {@link Card}s in encoding order.
+     */
+    public static int[] encode(long hand) {
+        var array = new int[Long.bitCount(hand)];
+
+        for (int i = 0; i < array.length; i += 1) {
+            array[i] = Long.numberOfTrailingZeros(hand);
+            hand &= hand - 1;
+        }
+
+        return array;
+    }
+
+    /**
+     * Static method to decode an array of encoded {@link Card}s.
+     *
+     * @param   array           The array of encoded {@link Card}s.
+     *
+     * @return  The {@link List} of {@link Card}s.
+     */
+    public static List<Card> decode(int[] array) {
+        return decode(array, new ArrayList<>(array.length));
+    }
+
+    /**
+     * Static method to decode an array of encoded {@link Card}s into a
+     * {@link List} (e.g., a {@link Deck}).  The {@link List} is cleared
+     * first.
+     *
+     * @param   <T>             The {@link List} type.
+     * @param   array           The array of encoded {@link Card}s.
+     * @param   list            The target {@link List}.
+     *
+     * @return  The argument {@link List}.
+     */
+    public static <T extends List<Card>> T decode(int[] array, T list) {
+        list.clear();
+
+        for (var card : array) {
+            list.add(card(card));
+        }
+
+        return list;
+    }
+
+    /**
+     * Static method to decode a hand.
+     *
+     * @param   hand            The hand.
+     *
+     * @return  The {@link List} of {@link Card}s in encoding order.
+     */
+    public static List<Card> cards(long hand) {
+        var list = new ArrayList<Card>(Long.bitCount(hand));
+
+        while (hand != 0) {
+            list.add(CARDS[Long.numberOfTrailingZeros(hand)]);
+            hand &= hand - 1;
+        }
+
+        return list;
+    }
+
+    /**
+     * Static method to get the number of {@link Card}s in a hand.
+     *
+     * @param   hand            The hand.
+     *
+     * @return  The number of {@link Card}s.
+     */
+    public static int count(long hand) { return Long.bitCount(hand); }
+
+    /**
+     * Static method to test if a hand contains an encoded {@link Card}.
+     *
+     * @param   hand            The hand.
+     * @param   card            The encoded {@link Card}.
+     *
+     * @return  {@code true} if the hand contains the {@link Card};
+     *          {@code false} otherwise.
+     */
+    public static boolean contains(long hand, int card) {
+        return (hand & mask(card)) != 0;
+    }
+
+    /**
+     * Static method to get the rank mask of a {@link Suit} in a hand.
+     *
+     * @param   hand            The hand.
+     * @param   suit            The {@link Suit}.
+     *
+     * @return  The rank mask (bit {@code 0} for {@link Rank#TWO TWO}
+     *          through bit {@code 12} for {@link Rank#ACE ACE}).
+     */
+    public static int suit(long hand, Suit suit) {
+        return suit(hand, suit.ordinal());
+    }
+
+    /**
+     * Static method to get the rank mask of a {@link Suit} (specified by
+     * ordinal) in a hand.
+     *
+     * @param   hand            The hand.
+     * @param   suit            The {@link Suit#ordinal()}.
+     *
+     * @return  The rank mask.
+     *
+     * @see #suit(long,Suit)
+     */
+    public static int suit(long hand, int suit) {
+        return (int) (hand >>> (RANKS * suit)) & RANK_MASK;
+    }
+
+    /**
+     * Static method to get the hand of all {@link Card}s of a {@link Suit}.
+     *
+     * @param   suit            The {@link Suit}.
+     *
+     * @return  The hand.
+     */
+    public static long of(Suit suit) {
+        return ((long) RANK_MASK) << (RANKS * suit.ordinal());
+    }
+
+    /**
+     * Static method to get the hand of all {@link Card}s of a {@link Rank}.
+     *
+     * @param   rank            The {@link Rank}.
+     *
+     * @return  The hand.
+     */
+    public static long of(Rank rank) {
+        var hand = 0L;
+
+        if (rank != Rank.JOKER) {
+            for (var suit : SUITS) {
+                hand |= mask(of(suit, rank));
+            }
+        } else {
+            hand = mask(JOKER);
+        }
+
+        return hand;
+    }
+
+    /**
+     * Static method to get the rank mask of all the {@link Card}s in a
+     * hand regardless of {@link Suit}.
+     *
+     * @param   hand            The hand.
+     *
+     * @return  The rank mask.
+     */
+    public static int ranks(long hand) {
+        return suit(hand, 0) | suit(hand, 1) | suit(hand, 2) | suit(hand, 3);
+    }
+
+    /**
+     * Static method to get the number of {@link Card}s of a {@link Rank} in
+     * a hand.
+     *
+     * @param   hand            The hand.
+     * @param   rank            The {@link Rank}.
+     *
+     * @return  The count.
+     */
+    public static int count(long hand, Rank rank) {
+        return Long.bitCount(hand & of(rank));
+    }
+}
@@ -0,0 +1,203 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * {@link Card} shuffling and dealing engine.  The {@link Dealer} copies a
+ * template deck (encoded as described in {@link Cards}) once and each
+ * {@link #deal()} is one step of a Fisher-Yates shuffle so only the
+ * {@link Card}s actually dealt are shuffled.  {@link #collect()} returns
+ * the dealt {@link Card}s to the deck in constant time (the deck remains a
+ * permutation of the template so no re-initialization is required).
+ * Dealing is reproducible for a given seed and {@link #split()} creates an
+ * independent {@link Dealer} for parallel tasks.
+ *
+ * The methods that deal hands as {@code long} masks do not allocate.  A
+ * {@link Dealer} is not thread-safe.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Dealer {
+    private final int[] template;
+    private final int[] deck;
+    private final SplittableRandom random;
+    private int dealt = 0;
+
+    /**
+     * Constructor for a template deck of {@link Card} codes (which may
+     * include duplicates).
+     *
+     * @param   deck            The template deck ({@link Card} codes).
+     * @param   random          The {@link SplittableRandom}.
+     */
+    public Dealer(int[] deck, SplittableRandom random) {
+        this.template = deck.clone();
+        this.deck = deck.clone();
+        this.random = random;
+    }
+
+    /**
+     * Constructor for a deck of distinct {@link Card}s.
+     *
+     * @param   hand            The template deck
+     *                          ({@link Cards#mask(java.util.Collection)}).
+     * @param   random          The {@link SplittableRandom}.
+     */
+    public Dealer(long hand, SplittableRandom random) {
+        this(Cards.encode(hand), random);
+    }
+
+    /**
+     * Constructor for a {@link Deck} (which may include duplicate
+     * {@link Card}s and {@link Card.Rank#JOKER JOKER}s).
+     *
+     * @param   deck            The template {@link Deck}.
+     * @param   random          The {@link SplittableRandom}.
+     */
+    public Dealer(List<Card> deck, SplittableRandom random) {
+        this(Cards.encode(deck), random);
+    }
+
+    /**
+     * Constructor for a standard 52-{@link Card} deck with a
+     * reproducible seed.
+     *
+     * @param   seed            The {@link SplittableRandom} seed.
+     */
+    public Dealer(long seed) {
+        this(Cards.DECK, new SplittableRandom(seed));
+    }
+
+    /**
+     * Method to get the number of {@link Card}s in the deck.
+     *
+     * @return  The deck size.
+     */
+    public int size() { return deck.length; }
+
+    /**
+     * Method to get the number of {@link Card}s remaining to be dealt.
+     *
+     * @return  The number of {@link Card}s remaining.
+     */
+    public int remaining() { return deck.length - dealt; }
+
+    /**
+     * Method to create a new {@link Dealer} with the same template deck
+     * and a {@link SplittableRandom#split()} {@link SplittableRandom}.
+     *
+     * @return  The new {@link Dealer}.
+     */
+    public Dealer split() {
+        return new Dealer(template, random.split());
+    }
+
+    /**
+     * Method to return every dealt {@link Card} to the deck.
+     */
+    public void collect() { dealt = 0; }
+
+    /**
+     * Method to {@link #collect()} and shuffle the entire deck in place.
+     */
+    public void shuffle() {
+        collect();
+
+        for (int i = deck.length - 1; i > 0; i -= 1) {
+            swap(i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Method to deal one {@link Card}.
+     *
+     * @return  The {@link Card} code.
+     *
+     * @throws  IllegalStateException
+     *                          If there are no {@link Card}s remaining.
+     */
+    public int deal() {
+        if (dealt >= deck.length) {
+            throw new IllegalStateException("No cards remaining");
+        }
+
+        swap(dealt, dealt + random.nextInt(deck.length - dealt));
+
+        return deck[dealt++];
+    }
+
+    /**
+     * Method to deal a hand of distinct {@link Card}s.
+     *
+     * @param   count           The number of {@link Card}s to deal.
+     *
+     * @return  The hand ({@link Cards#mask(java.util.Collection)}).
+     */
+    public long deal(int count) {
+        var hand = 0L;
+
+        for (int i = 0; i < count; i += 1) {
+            hand |= Cards.mask(deal());
+        }
+
+        return hand;
+    }
+
+    /**
+     * Method to deal a hand to each player.
+     *
+     * @param   hands           The array of hands to deal
+     *                          ({@link Cards#mask(java.util.Collection)}).
+     * @param   count           The number of {@link Card}s to deal to each
+     *                          player.
+     */
+    public void deal(long[] hands, int count) {
+        for (int i = 0; i < hands.length; i += 1) {
+            hands[i] = deal(count);
+        }
+    }
+
+    /**
+     * Method to deal {@link Card}s into a {@link List}.
+     *
+     * @param   <T>             The {@link List} type.
+     * @param   list            The {@link List} to add the {@link Card}s
+     *                          to.
+     * @param   count           The number of {@link Card}s to deal.
+     *
+     * @return  The {@link List}.
+     */
+    public <T extends List<Card>> T deal(T list, int count) {
+        for (int i = 0; i < count; i += 1) {
+            list.add(Cards.card(deal()));
+        }
+
+        return list;
+    }
+
+    private void swap(int i, int j) {
+        var card = deck[j];
+
+        deck[j] = deck[i];
+        deck[i] = card;
+    }
+}
@@ -19,27 +19,41 @@ package ball.game.card;
  * ##########################################################################
  */
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 
 /**
- * {@link Card} deck.
+ * {@link Card} deck.  Each subclass's template (specified by the
+ * {@link ResourceBundle} with the subclass's name) is loaded once and
+ * cached; constructing a {@link Deck} or {@link #clone()}-ing one only
+ * copies (canonical) {@link Card} references.
  *
  * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
  */
 public abstract class Deck extends ArrayList<Card> implements Cloneable {
     private static final long serialVersionUID = -1376087186450102030L;
 
+    private static final Map<Class<?>,Card[]> TEMPLATES = new ConcurrentHashMap<>();
+
     /**
      * Sole constructor.
      */
     protected Deck() {
         super(Card.Suit.values().length * Card.Rank.values().length);
 
+        addAll(Arrays.asList(TEMPLATES.computeIfAbsent(getClass(), Deck::template)));
+    }
+
+    private static Card[] template(Class<?> type) {
+        var list = new ArrayList<Card>();
+
         try {
-            var bundle = ResourceBundle.getBundle(getClass().getName());
+            var bundle = ResourceBundle.getBundle(type.getName());
 
             for (var key : bundle.keySet()) {
                 var value = bundle.getString(key);
@@ -47,16 +61,18 @@ public abstract class Deck extends ArrayList<Card> implements Cloneable {
                 if (! StringUtils.isEmpty(value)) {
                     for (var suit : key.split(Pattern.quote(","))) {
                         for (var rank : value.split(Pattern.quote(","))) {
-                            add(new Card(Card.Suit.parse(suit), Card.Rank.parse(rank)));
+                            list.add(Card.of(Card.Suit.parse(suit), Card.Rank.parse(rank)));
                         }
                     }
                 } else {
-                    add(Card.parse(key));
+                    list.add(Card.parse(key));
                 }
             }
         } catch (Exception exception) {
             throw new ExceptionInInitializerError(exception);
         }
+
+        return list.toArray(new Card[] { });
     }
 
     @Override
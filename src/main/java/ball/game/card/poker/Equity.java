@@ -0,0 +1,498 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import ball.game.card.Dealer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Texas Hold'em {@link Equity} calculator:  A hero hand versus a number of
+ * villains holding unknown {@link Card}s given a (possibly empty) partial
+ * board and dead {@link Card}s.  Showdowns are decided with
+ * {@link LookupEvaluator#strength(long)} so {@link Ranking}s are consistent
+ * with {@link Evaluator}.
+ *
+ * If the number of possible outcomes does not exceed {@value #LIMIT} every
+ * outcome is enumerated.  Otherwise, outcomes are sampled until the
+ * 95% confidence interval of the equity is within the target or the
+ * maximum number of trials is reached.  Work is distributed over the
+ * common {@link ForkJoinPool}; each sampling task has its own
+ * {@link SplittableRandom}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Equity {
+
+    /**
+     * {@link #HOLE} = {@value #HOLE}
+     */
+    public static final int HOLE = 2;
+
+    /**
+     * {@link #BOARD} = {@value #BOARD}
+     */
+    public static final int BOARD = 5;
+
+    /**
+     * Maximum number of outcomes to enumerate:
+     * {@link #LIMIT} = {@value #LIMIT}
+     */
+    public static final long LIMIT = 1L << 22;
+
+    /**
+     * Default 95% confidence interval half-width:
+     * {@link #INTERVAL} = {@value #INTERVAL}
+     */
+    public static final double INTERVAL = 0.0025;
+
+    /**
+     * Default maximum number of sampled trials:
+     * {@link #TRIALS} = {@value #TRIALS}
+     */
+    public static final long TRIALS = 1L << 24;
+
+    static final double Z = 1.959964;
+    static final int BATCH = 1 << 14;
+    static final int GRAIN = 16;
+
+    private final long hero;
+    private final long board;
+    private final int villains;
+    private final int[] deck;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   hero            The hero's hole {@link Card}s.
+     * @param   villains        The number of villains.
+     * @param   board           The board {@link Card}s (may be empty).
+     * @param   dead            The dead {@link Card}s (may be empty).
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Card}s overlap or there are
+     *                          not enough remaining {@link Card}s to deal.
+     */
+    public Equity(Collection<Card> hero, int villains, Collection<Card> board, Collection<Card> dead) {
+        this.hero = Cards.mask(hero);
+        this.board = Cards.mask(board);
+        this.villains = villains;
+
+        var dealt = this.hero | this.board | Cards.mask(dead);
+
+        if (Cards.count(this.hero) != HOLE || hero.size() != HOLE) {
+            throw new IllegalArgumentException("hero=" + hero);
+        }
+
+        if (Cards.count(this.board) > BOARD || Cards.count(this.board) != board.size()) {
+            throw new IllegalArgumentException("board=" + board);
+        }
+
+        if (Cards.count(dealt) != (hero.size() + board.size() + dead.size())) {
+            throw new IllegalArgumentException("hero=" + hero + ",board=" + board + ",dead=" + dead);
+        }
+
+        if ((dealt & ~Cards.DECK) != 0) {
+            throw new IllegalArgumentException("dealt=" + Cards.cards(dealt));
+        }
+
+        deck = Cards.encode(Cards.DECK & ~dealt);
+
+        if (villains < 1 || deck.length < (BOARD - Cards.count(this.board)) + HOLE * villains) {
+            throw new IllegalArgumentException("villains=" + villains);
+        }
+    }
+
+    /**
+     * Method to get the number of possible outcomes (board completions and
+     * villain hands).
+     *
+     * @return  The number of outcomes.
+     */
+    public double outcomes() {
+        var remaining = deck.length;
+        var needed = BOARD - Cards.count(board);
+        var outcomes = choose(remaining, needed);
+
+        remaining -= needed;
+
+        for (int i = 0; i < villains; i += 1) {
+            outcomes *= choose(remaining, HOLE);
+            remaining -= HOLE;
+        }
+
+        return outcomes;
+    }
+
+    /**
+     * Method to calculate the hero's {@link Outcome} with
+     * {@link #INTERVAL} and {@link #TRIALS}.
+     *
+     * @return  The {@link Outcome}.
+     */
+    public Outcome calculate() {
+        return calculate(INTERVAL, TRIALS, new SplittableRandom());
+    }
+
+    /**
+     * Method to calculate the hero's {@link Outcome}.
+     *
+     * @param   interval        The target 95% confidence interval
+     *                          half-width (ignored if the outcomes are
+     *                          enumerated).
+     * @param   trials          The maximum number of trials (ignored if the
+     *                          outcomes are enumerated).
+     * @param   random          The {@link SplittableRandom} (ignored if the
+     *                          outcomes are enumerated).
+     *
+     * @return  The {@link Outcome}.
+     */
+    public Outcome calculate(double interval, long trials, SplittableRandom random) {
+        Outcome outcome = null;
+
+        if (outcomes() <= LIMIT) {
+            var prefixes = prefixes();
+
+            outcome = ForkJoinPool.commonPool().invoke(new Enumeration(prefixes, 0, prefixes.size()));
+            outcome.exhaustive();
+        } else {
+            var parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+            outcome = new Outcome();
+
+            while (outcome.getTrials() < trials) {
+                var tasks = new ArrayList<Simulation>(parallelism);
+
+                for (int i = 0; i < parallelism; i += 1) {
+                    var count = Math.min(BATCH, trials - outcome.getTrials() - (long) i * BATCH);
+
+                    if (count > 0) {
+                        tasks.add(new Simulation(random.split(), count));
+                    }
+                }
+
+                for (var task : ForkJoinTask.invokeAll(tasks)) {
+                    outcome.add(task.join());
+                }
+
+                if (outcome.getInterval() <= interval) {
+                    break;
+                }
+            }
+        }
+
+        return outcome;
+    }
+
+    private boolean boardFirst() { return Cards.count(board) < BOARD; }
+
+    private List<Long> prefixes() {
+        var list = new ArrayList<Long>();
+        var count = boardFirst() ? (BOARD - Cards.count(board)) : HOLE;
+
+        combinations(list, deck, 0, count, 0L);
+
+        return list;
+    }
+
+    static void combinations(List<Long> list, int[] deck, int start, int count, long chosen) {
+        if (count > 0) {
+            for (int i = start, n = deck.length - count; i <= n; i += 1) {
+                combinations(list, deck, i + 1, count - 1, chosen | Cards.mask(deck[i]));
+            }
+        } else {
+            list.add(chosen);
+        }
+    }
+
+    static double choose(int n, int k) {
+        var value = 1.0;
+
+        for (int i = 0; i < k; i += 1) {
+            value = (value * (n - i)) / (i + 1);
+        }
+
+        return value;
+    }
+
+    /**
+     * Equity calculation {@link Outcome}.  Each trial may carry a weight
+     * (e.g., the combined weight of the range combinations evaluated on a
+     * board); the fractions are relative to the total weight.
+     */
+    @NoArgsConstructor @ToString
+    public static class Outcome {
+        @Getter private long trials = 0;
+        @Getter private double weight = 0;
+        @Getter private double wins = 0;
+        @Getter private double ties = 0;
+        @Getter private double losses = 0;
+        private double sum = 0;
+        private double squares = 0;
+        @Getter private boolean exhaustive = false;
+
+        /**
+         * Method to get the fraction of trials won outright.
+         *
+         * @return  The win fraction.
+         */
+        public double getWin() { return fraction(wins); }
+
+        /**
+         * Method to get the fraction of trials tied.
+         *
+         * @return  The tie fraction.
+         */
+        public double getTie() { return fraction(ties); }
+
+        /**
+         * Method to get the fraction of trials lost.
+         *
+         * @return  The loss fraction.
+         */
+        public double getLose() { return fraction(losses); }
+
+        /**
+         * Method to get the equity (wins plus the hero's share of ties).
+         *
+         * @return  The equity.
+         */
+        public double getEquity() { return fraction(sum); }
+
+        /**
+         * Method to get the 95% confidence interval half-width of
+         * {@link #getEquity()}.
+         *
+         * @return  The half-width ({@code 0} if exhaustive).
+         */
+        public double getInterval() {
+            var interval = Double.POSITIVE_INFINITY;
+
+            if (exhaustive) {
+                interval = 0;
+            } else if (trials > 1) {
+                var mean = sum / weight;
+                var variance = Math.max(0, (squares / weight) - (mean * mean));
+
+                interval = Z * Math.sqrt(variance / trials);
+            }
+
+            return interval;
+        }
+
+        /**
+         * Method to record a showdown.
+         *
+         * @param   hero            The hero's strength.
+         * @param   best            The best villain strength.
+         * @param   count           The number of villains holding
+         *                          {@code best}.
+         */
+        protected void record(int hero, int best, int count) {
+            if (hero > best) {
+                record(1, 1, 0, 0, 1);
+            } else if (hero == best) {
+                record(1, 0, 1, 0, 1.0 / (count + 1));
+            } else {
+                record(1, 0, 0, 1, 0);
+            }
+        }
+
+        /**
+         * Method to record a weighted trial.
+         *
+         * @param   weight          The trial weight.
+         * @param   win             The fraction of the trial won.
+         * @param   tie             The fraction of the trial tied.
+         * @param   loss            The fraction of the trial lost.
+         * @param   equity          The hero's equity in the trial.
+         */
+        protected void record(double weight, double win, double tie, double loss, double equity) {
+            trials += 1;
+            this.weight += weight;
+            wins += weight * win;
+            ties += weight * tie;
+            losses += weight * loss;
+            sum += weight * equity;
+            squares += weight * equity * equity;
+        }
+
+        /**
+         * Method to add another {@link Outcome} to {@link.this}
+         * {@link Outcome}.
+         *
+         * @param   that            The other {@link Outcome}.
+         */
+        protected void add(Outcome that) {
+            this.trials += that.trials;
+            this.weight += that.weight;
+            this.wins += that.wins;
+            this.ties += that.ties;
+            this.losses += that.losses;
+            this.sum += that.sum;
+            this.squares += that.squares;
+        }
+
+        /**
+         * Method to mark {@link.this} {@link Outcome} as the result of an
+         * exhaustive enumeration.
+         */
+        protected void exhaustive() { exhaustive = true; }
+
+        private double fraction(double value) {
+            return (weight > 0) ? (value / weight) : 0;
+        }
+    }
+
+    private abstract class Showdown extends RecursiveTask<Outcome> {
+        private static final long serialVersionUID = 4312618279380475367L;
+
+        protected final long[] holes = new long[villains];
+        protected Outcome outcome = null;
+
+        protected Showdown() { super(); }
+
+        protected void showdown(long board) {
+            var best = -1;
+            var count = 0;
+
+            for (var hole : holes) {
+                var strength = LookupEvaluator.strength(hole | board);
+
+                if (strength > best) {
+                    best = strength;
+                    count = 1;
+                } else if (strength == best) {
+                    count += 1;
+                }
+            }
+
+            outcome.record(LookupEvaluator.strength(hero | board), best, count);
+        }
+    }
+
+    private class Enumeration extends Showdown {
+        private static final long serialVersionUID = -1838541826264564066L;
+
+        private final List<Long> prefixes;
+        private final int from;
+        private final int to;
+
+        public Enumeration(List<Long> prefixes, int from, int to) {
+            super();
+
+            this.prefixes = prefixes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Outcome compute() {
+            if (to - from > GRAIN) {
+                var middle = (from + to) >>> 1;
+                var left = new Enumeration(prefixes, from, middle);
+                var right = new Enumeration(prefixes, middle, to);
+
+                left.fork();
+                outcome = right.compute();
+                outcome.add(left.join());
+            } else {
+                outcome = new Outcome();
+
+                for (int i = from; i < to; i += 1) {
+                    long prefix = prefixes.get(i);
+
+                    if (boardFirst()) {
+                        enumerate(0, prefix, board | prefix);
+                    } else {
+                        holes[0] = prefix;
+                        enumerate(1, prefix, board);
+                    }
+                }
+            }
+
+            return outcome;
+        }
+
+        private void enumerate(int villain, long used, long board) {
+            if (villain < villains) {
+                for (int i = 0; i < deck.length; i += 1) {
+                    var first = Cards.mask(deck[i]);
+
+                    if ((used & first) == 0) {
+                        for (int j = i + 1; j < deck.length; j += 1) {
+                            var second = Cards.mask(deck[j]);
+
+                            if ((used & second) == 0) {
+                                holes[villain] = first | second;
+                                enumerate(villain + 1, used | first | second, board);
+                            }
+                        }
+                    }
+                }
+            } else {
+                showdown(board);
+            }
+        }
+    }
+
+    private class Simulation extends Showdown {
+        private static final long serialVersionUID = 5526573536385447093L;
+
+        private final SplittableRandom random;
+        private final long trials;
+
+        public Simulation(SplittableRandom random, long trials) {
+            super();
+
+            this.random = random;
+            this.trials = trials;
+        }
+
+        @Override
+        protected Outcome compute() {
+            var dealer = new Dealer(deck, random);
+            var needed = BOARD - Cards.count(Equity.this.board);
+
+            outcome = new Outcome();
+
+            for (long trial = 0; trial < trials; trial += 1) {
+                dealer.collect();
+
+                var board = Equity.this.board | dealer.deal(needed);
+
+                dealer.deal(holes, HOLE);
+
+                showdown(board);
+            }
+
+            return outcome;
+        }
+    }
+}
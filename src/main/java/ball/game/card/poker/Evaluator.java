@@ -89,6 +89,17 @@ public class Evaluator implements Predicate<List<Card>>, Consumer<List<Card>> {
 
         orBetter.removeIf(t -> t.required() > size);
 
+        /*
+         * Only the best Ranking present in the hand (if it can be
+         * determined from the histogram) needs to be searched for.
+         */
+        var found = Ranking.rankings(hand);
+
+        if (found != 0) {
+            orBetter.removeIf(t -> (found & (1 << t.ordinal())) == 0);
+            orBetter.subList(Math.min(1, orBetter.size()), orBetter.size()).clear();
+        }
+
         Combinations.of(size, size, this, hand)
             .forEach(this);
 
@@ -0,0 +1,363 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.CardReader;
+import ball.game.card.CardWriter;
+import ball.game.card.Cards;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Texas Hold'em hand-history index.  A history is a stream of
+ * {@link CardWriter#writeCards(int[])} records, each the
+ * {@value Equity#BOARD} board {@link Card}s followed by the
+ * {@value Equity#HOLE} hole {@link Card}s of the hero and then of each
+ * opponent (see {@link #write(CardWriter,int[],int[]...)}).
+ * {@link #read(CardReader)} evaluates each hand once (in parallel, with
+ * {@link LookupEvaluator#strength(long)}) and stores the results in
+ * columnar primitive arrays:
+ * <ul>
+ *   <li>the hero's strength (the {@link Ranking} and scoring ranks),</li>
+ *   <li>the hero's {@link Ranking},</li>
+ *   <li>the hero's canonical starting hand (see {@link PreflopTable}),</li>
+ *   <li>the {@link Outcome}, and</li>
+ *   <li>the number of players.</li>
+ * </ul>
+ * Queries are filtered scans over parallel {@link IntStream}s of rows;
+ * e.g., the number of hands where the hero held a full house and lost:
+ * {@code history.count(history.is(Ranking.FullHouse).and(history.is(Outcome.LOSS)))}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ *
+ * @see CardReader
+ */
+public class HandHistory {
+    private static final int BLOCK = 1 << 16;
+    private static final Ranking[] RANKINGS = Ranking.values();
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    /**
+     * Hero's showdown {@link Outcome}.
+     */
+    public enum Outcome { WIN, TIE, LOSS }
+
+    private int size = 0;
+    private int[] strengths = new int[0];
+    private byte[] rankings = new byte[0];
+    private short[] holes = new short[0];
+    private byte[] outcomes = new byte[0];
+    private byte[] players = new byte[0];
+
+    /**
+     * Sole constructor.
+     */
+    public HandHistory() { }
+
+    /**
+     * Method to write a hand-history record.
+     *
+     * @param   writer          The {@link CardWriter}.
+     * @param   board           The board ({@value Equity#BOARD} encoded
+     *                          {@link Card}s).
+     * @param   holes           The hole {@link Card}s of the hero followed
+     *                          by each opponent ({@value Equity#HOLE}
+     *                          encoded {@link Card}s each).
+     *
+     * @throws  IOException     If an I/O error occurs.
+     */
+    public static void write(CardWriter writer, int[] board, int[]... holes) throws IOException {
+        var record = Arrays.copyOf(board, board.length + Equity.HOLE * holes.length);
+
+        for (int i = 0; i < holes.length; i += 1) {
+            System.arraycopy(holes[i], 0, record, board.length + Equity.HOLE * i, Equity.HOLE);
+        }
+
+        if (! isValid(record)) {
+            throw new IllegalArgumentException(Cards.decode(record).toString());
+        }
+
+        writer.writeCards(record);
+    }
+
+    /**
+     * Method to read and index a hand history.
+     *
+     * @param   reader          The {@link CardReader}.
+     *
+     * @return  The {@link HandHistory}.
+     *
+     * @throws  IOException     If an I/O error occurs or a record is
+     *                          invalid.
+     */
+    public static HandHistory read(CardReader reader) throws IOException {
+        var history = new HandHistory();
+        var block = new int[BLOCK][];
+
+        while (reader.hasRemaining()) {
+            var count = 0;
+
+            while (count < block.length && reader.hasRemaining()) {
+                block[count] = reader.readCards();
+
+                if (! isValid(block[count])) {
+                    throw new IOException("Invalid record: " + Cards.decode(block[count]));
+                }
+
+                count += 1;
+            }
+
+            history.append(block, count);
+        }
+
+        return history;
+    }
+
+    private static boolean isValid(int[] record) {
+        var valid =
+            record.length >= Equity.BOARD + 2 * Equity.HOLE
+            && (record.length - Equity.BOARD) % Equity.HOLE == 0;
+        var hand = 0L;
+
+        for (int i = 0; valid && i < record.length; i += 1) {
+            valid &= record[i] < Cards.JOKER && (hand & Cards.mask(record[i])) == 0;
+            hand |= Cards.mask(record[i]);
+        }
+
+        return valid;
+    }
+
+    private void append(int[][] block, int count) {
+        if (size + count > strengths.length) {
+            var capacity = Math.max(size + count, 2 * strengths.length);
+
+            strengths = Arrays.copyOf(strengths, capacity);
+            rankings = Arrays.copyOf(rankings, capacity);
+            holes = Arrays.copyOf(holes, capacity);
+            outcomes = Arrays.copyOf(outcomes, capacity);
+            players = Arrays.copyOf(players, capacity);
+        }
+
+        var offset = size;
+
+        IntStream.range(0, count).parallel().forEach(t -> index(offset + t, block[t]));
+
+        size += count;
+    }
+
+    private void index(int row, int[] record) {
+        var board = 0L;
+
+        for (int i = 0; i < Equity.BOARD; i += 1) {
+            board |= Cards.mask(record[i]);
+        }
+
+        var best = Integer.MIN_VALUE;
+        var hero = 0;
+
+        for (int i = Equity.BOARD; i < record.length; i += Equity.HOLE) {
+            var hole = Cards.mask(record[i]) | Cards.mask(record[i + 1]);
+            var strength = LookupEvaluator.strength(board | hole);
+
+            if (i == Equity.BOARD) {
+                hero = strength;
+                holes[row] = (short) PreflopTable.index(hole);
+            } else {
+                best = Math.max(best, strength);
+            }
+        }
+
+        strengths[row] = hero;
+        rankings[row] = (byte) LookupEvaluator.ranking(hero).ordinal();
+        outcomes[row] = (byte) ((hero > best) ? Outcome.WIN : (hero == best) ? Outcome.TIE : Outcome.LOSS).ordinal();
+        players[row] = (byte) ((record.length - Equity.BOARD) / Equity.HOLE);
+    }
+
+    /**
+     * Method to get the number of hands.
+     *
+     * @return  The number of hands.
+     */
+    public int size() { return size; }
+
+    /**
+     * Method to get the hero's strength in a hand.
+     *
+     * @param   row             The hand.
+     *
+     * @return  The strength (see {@link LookupEvaluator}).
+     */
+    public int getStrength(int row) { return strengths[row]; }
+
+    /**
+     * Method to get the hero's {@link Ranking} in a hand.
+     *
+     * @param   row             The hand.
+     *
+     * @return  The {@link Ranking}.
+     */
+    public Ranking getRanking(int row) { return RANKINGS[rankings[row]]; }
+
+    /**
+     * Method to get the hero's canonical starting hand in a hand.
+     *
+     * @param   row             The hand.
+     *
+     * @return  The canonical hand index (see
+     *          {@link PreflopTable#name(int)}).
+     */
+    public int getHole(int row) { return holes[row]; }
+
+    /**
+     * Method to get the hero's {@link Outcome} in a hand.
+     *
+     * @param   row             The hand.
+     *
+     * @return  The {@link Outcome}.
+     */
+    public Outcome getOutcome(int row) { return OUTCOMES[outcomes[row]]; }
+
+    /**
+     * Method to get the number of players in a hand.
+     *
+     * @param   row             The hand.
+     *
+     * @return  The number of players.
+     */
+    public int getPlayers(int row) { return players[row]; }
+
+    /**
+     * Method to get a filter for hands where the hero held a
+     * {@link Ranking}.
+     *
+     * @param   ranking         The {@link Ranking}.
+     *
+     * @return  The filter.
+     */
+    public IntPredicate is(Ranking ranking) {
+        var ordinal = ranking.ordinal();
+
+        return t -> rankings[t] == ordinal;
+    }
+
+    /**
+     * Method to get a filter for hands with an {@link Outcome}.
+     *
+     * @param   outcome         The {@link Outcome}.
+     *
+     * @return  The filter.
+     */
+    public IntPredicate is(Outcome outcome) {
+        var ordinal = outcome.ordinal();
+
+        return t -> outcomes[t] == ordinal;
+    }
+
+    /**
+     * Method to get a filter for hands where the hero held a canonical
+     * starting hand.
+     *
+     * @param   hole            The canonical hand index.
+     *
+     * @return  The filter.
+     */
+    public IntPredicate hole(int hole) { return t -> holes[t] == hole; }
+
+    /**
+     * Method to get a filter for hands with a number of players.
+     *
+     * @param   players         The number of players.
+     *
+     * @return  The filter.
+     */
+    public IntPredicate players(int players) { return t -> this.players[t] == players; }
+
+    /**
+     * Method to get a parallel {@link IntStream} of the hands (rows)
+     * matching a filter.
+     *
+     * @param   filter          The filter.
+     *
+     * @return  The {@link IntStream}.
+     */
+    public IntStream rows(IntPredicate filter) {
+        return IntStream.range(0, size).parallel().filter(filter);
+    }
+
+    /**
+     * Method to count the hands matching a filter.
+     *
+     * @param   filter          The filter.
+     *
+     * @return  The count.
+     */
+    public long count(IntPredicate filter) { return rows(filter).count(); }
+
+    /**
+     * Method to get the frequency of each {@link Ranking} in the hands
+     * matching a filter.
+     *
+     * @param   filter          The filter.
+     *
+     * @return  The counts (indexed by {@link Ranking#ordinal()}).
+     */
+    public long[] frequencies(IntPredicate filter) {
+        return rows(filter)
+            .collect(() -> new long[RANKINGS.length],
+                     (counts, t) -> counts[rankings[t]] += 1,
+                     HandHistory::add);
+    }
+
+    /**
+     * Method to get the win rate (ties count as half a win) of each
+     * canonical starting hand in the hands matching a filter.
+     *
+     * @param   filter          The filter.
+     *
+     * @return  The win rates (indexed by canonical hand;
+     *          {@link Double#NaN} for hands never held).
+     */
+    public double[] winRates(IntPredicate filter) {
+        var counts =
+            rows(filter)
+            .collect(() -> new long[OUTCOMES.length * PreflopTable.HANDS],
+                     (array, t) -> array[OUTCOMES.length * holes[t] + outcomes[t]] += 1,
+                     HandHistory::add);
+        var rates = new double[PreflopTable.HANDS];
+
+        for (int i = 0; i < rates.length; i += 1) {
+            var wins = counts[OUTCOMES.length * i + Outcome.WIN.ordinal()];
+            var ties = counts[OUTCOMES.length * i + Outcome.TIE.ordinal()];
+            var total = wins + ties + counts[OUTCOMES.length * i + Outcome.LOSS.ordinal()];
+
+            rates[i] = (total > 0) ? (wins + ties / 2.0) / total : Double.NaN;
+        }
+
+        return rates;
+    }
+
+    private static void add(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i += 1) {
+            left[i] += right[i];
+        }
+    }
+}
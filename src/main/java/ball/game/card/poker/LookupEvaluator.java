@@ -0,0 +1,421 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Rank;
+import ball.game.card.Card.Suit;
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table-driven poker hand evaluator.  A hand of up to {@value #MAXIMUM}
+ * {@link Card}s is reduced to four 13-bit rank masks (one per
+ * {@link Suit}; see {@link Cards}) which are then classified with the
+ * help of two precomputed 8192-entry tables (straights and kickers indexed
+ * by rank mask).  The result is a single {@code int} strength that may be
+ * compared directly:  The {@link Ranking#ordinal()} occupies bits 20-23 and
+ * the ranks that break ties (scoring ranks followed by kickers, {@code 2} for
+ * deuce through {@code 14} for ace) occupy the five 4-bit fields below.
+ *
+ * {@link #getRanking()}, {@link #getScoring()}, and {@link #getHand()} are
+ * consistent with {@link Evaluator}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class LookupEvaluator implements Comparable<LookupEvaluator> {
+
+    /**
+     * {@link #MAXIMUM} = {@value #MAXIMUM}
+     */
+    public static final int MAXIMUM = 7;
+
+    private static final int RANKS = Cards.RANKS;
+    private static final int ACE = RANKS - 1;
+    private static final int WHEEL = 0x100F;
+    static final int SHIFT = 20;
+    private static final int NIBBLES = (1 << SHIFT) - 1;
+
+    private static final Ranking[] RANKINGS = Ranking.values();
+
+    private static final int HIGH_CARD = Ranking.HighCard.ordinal() << SHIFT;
+    private static final int PAIR = Ranking.Pair.ordinal() << SHIFT;
+    private static final int TWO_PAIR = Ranking.TwoPair.ordinal() << SHIFT;
+    private static final int THREE_OF_A_KIND = Ranking.ThreeOfAKind.ordinal() << SHIFT;
+    private static final int STRAIGHT = Ranking.Straight.ordinal() << SHIFT;
+    private static final int FLUSH = Ranking.Flush.ordinal() << SHIFT;
+    private static final int FULL_HOUSE = Ranking.FullHouse.ordinal() << SHIFT;
+    private static final int FOUR_OF_A_KIND = Ranking.FourOfAKind.ordinal() << SHIFT;
+    private static final int STRAIGHT_FLUSH = Ranking.StraightFlush.ordinal() << SHIFT;
+    private static final int ROYAL_FLUSH = Ranking.RoyalFlush.ordinal() << SHIFT;
+
+    private static final int[] STRAIGHTS = new int[1 << RANKS];
+    private static final int[] KICKERS = new int[1 << RANKS];
+
+    static {
+        for (int mask = 0; mask < (1 << RANKS); mask += 1) {
+            STRAIGHTS[mask] = -1;
+
+            for (int top = ACE; top >= 3; top -= 1) {
+                var straight = (top > 3) ? (0x1F << (top - 4)) : WHEEL;
+
+                if ((mask & straight) == straight) {
+                    STRAIGHTS[mask] = top;
+                    break;
+                }
+            }
+
+            var kickers = 0;
+            var remaining = mask;
+
+            for (int i = 0; i < 5; i += 1) {
+                kickers <<= 4;
+
+                if (remaining != 0) {
+                    var bit = highest(remaining);
+
+                    kickers |= nibble(bit, 0);
+                    remaining &= ~(1 << bit);
+                }
+            }
+
+            KICKERS[mask] = kickers;
+        }
+    }
+
+    private final List<Card> hand;
+    private final int strength;
+    private final Ranking ranking;
+    private final List<Card> scoring;
+
+    /**
+     * Sole public constructor.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s to
+     *                          evaluate.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Collection} contains more
+     *                          than {@value #MAXIMUM} {@link Card}s, a
+     *                          {@link Rank#JOKER JOKER}, or duplicate
+     *                          {@link Card}s.
+     */
+    public LookupEvaluator(Collection<Card> collection) {
+        if (collection.size() > MAXIMUM) {
+            throw new IllegalArgumentException(String.valueOf(collection));
+        }
+
+        var cards = new Card[Suit.values().length][RANKS];
+        var masks = new int[cards.length];
+
+        for (var card : collection) {
+            var bit = bit(card);
+            var suit = card.getSuit().ordinal();
+
+            if ((masks[suit] & (1 << bit)) != 0) {
+                throw new IllegalArgumentException(String.valueOf(collection));
+            }
+
+            cards[suit][bit] = card;
+            masks[suit] |= (1 << bit);
+        }
+
+        strength = strength(masks[0], masks[1], masks[2], masks[3]);
+        ranking = ranking(strength);
+
+        var scoring = new ArrayList<Card>(5);
+
+        switch (ranking) {
+        case HighCard:
+        case Pair:
+        case ThreeOfAKind:
+        case FourOfAKind:
+            add(scoring, cards, masks, rank(strength, 4), ranking.required());
+            break;
+
+        case TwoPair:
+        case FullHouse:
+            add(scoring, cards, masks, rank(strength, 4), ranking.required() - 2);
+            add(scoring, cards, masks, rank(strength, 3), 2);
+            break;
+
+        case Straight:
+            for (int i = 0; i < 5; i += 1) {
+                add(scoring, cards, masks, (rank(strength, 4) - i + RANKS) % RANKS, 1);
+            }
+            break;
+
+        case Flush:
+            for (var suit = masks.length - 1; suit >= 0; suit -= 1) {
+                if (Integer.bitCount(masks[suit]) >= 5) {
+                    for (int i = 4; i >= 0; i -= 1) {
+                        scoring.add(cards[suit][rank(strength, i)]);
+                    }
+                    break;
+                }
+            }
+            break;
+
+        case StraightFlush:
+        case RoyalFlush:
+            for (var suit = masks.length - 1; suit >= 0; suit -= 1) {
+                if (Integer.bitCount(masks[suit]) >= 5) {
+                    var top = STRAIGHTS[masks[suit]];
+
+                    if (top == rank(strength, 4)) {
+                        for (int i = 0; i < 5; i += 1) {
+                            scoring.add(cards[suit][(top - i + RANKS) % RANKS]);
+                        }
+                        break;
+                    }
+                }
+            }
+            break;
+
+        default:
+            break;
+        }
+
+        this.scoring = Collections.unmodifiableList(scoring);
+
+        var hand = new ArrayList<Card>(collection);
+
+        hand.removeAll(scoring);
+        hand.sort(Evaluator.CARD.reversed());
+        hand.addAll(0, scoring);
+
+        this.hand = Collections.unmodifiableList(hand);
+    }
+
+    /**
+     * Method to get this hand as an unmodifiable {@link List} sorted
+     * according to its {@link Ranking}.
+     *
+     * @return  The sorted {@link List}.
+     */
+    public List<Card> getHand() { return hand; }
+
+    /**
+     * Method to get this hand's strength.
+     *
+     * @return  The strength.
+     *
+     * @see #strength(int,int,int,int)
+     */
+    public int getStrength() { return strength; }
+
+    /**
+     * Method to get this hand's {@link Ranking}.
+     *
+     * @return  The {@link Ranking}.
+     */
+    public Ranking getRanking() { return ranking; }
+
+    /**
+     * Method to get this hand's scoring {@link Card}s as an unmodifiable
+     * {@link List}.
+     *
+     * @return  The {@link List} of scoring {@link Card}s.
+     */
+    public List<Card> getScoring() { return scoring; }
+
+    @Override
+    public int compareTo(LookupEvaluator that) {
+        return Integer.compare(this.getStrength(), that.getStrength());
+    }
+
+    @Override
+    public String toString() {
+        return getRanking().name() + ":" + getScoring();
+    }
+
+    /**
+     * Static method to calculate the strength of a hand.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s to
+     *                          evaluate.
+     *
+     * @return  The strength.
+     *
+     * @see #strength(int,int,int,int)
+     */
+    public static int strength(Collection<Card> collection) {
+        var hand = 0L;
+
+        for (var card : collection) {
+            hand |= Cards.mask(RANKS * card.getSuit().ordinal() + bit(card));
+        }
+
+        return strength(hand);
+    }
+
+    /**
+     * Static method to calculate the strength of a hand encoded as
+     * described in {@link Cards}.  This method does not allocate.
+     *
+     * @param   hand            The hand ({@link Cards#mask(Collection)}).
+     *
+     * @return  The strength.
+     *
+     * @see #strength(int,int,int,int)
+     */
+    public static int strength(long hand) {
+        return strength(Cards.suit(hand, 0), Cards.suit(hand, 1),
+                        Cards.suit(hand, 2), Cards.suit(hand, 3));
+    }
+
+    /**
+     * Static method to calculate the strength of a hand of no more than
+     * {@value #MAXIMUM} distinct {@link Card}s specified as rank masks
+     * (bit {@code 0} for deuce through bit {@code 12} for ace).  This
+     * method does not allocate.
+     *
+     * @param   clubs           The {@link Suit#CLUBS} rank mask.
+     * @param   diamonds        The {@link Suit#DIAMONDS} rank mask.
+     * @param   hearts          The {@link Suit#HEARTS} rank mask.
+     * @param   spades          The {@link Suit#SPADES} rank mask.
+     *
+     * @return  The strength.
+     */
+    public static int strength(int clubs, int diamonds, int hearts, int spades) {
+        var strength =
+            Math.max(Math.max(flush(clubs), flush(diamonds)),
+                     Math.max(flush(hearts), flush(spades)));
+
+        if (strength == 0) {
+            var ranks = clubs | diamonds | hearts | spades;
+            var four = clubs & diamonds & hearts & spades;
+            var three =
+                (clubs & diamonds & (hearts | spades))
+                | (hearts & spades & (clubs | diamonds));
+            var two =
+                (clubs & diamonds) | (hearts & spades)
+                | ((clubs | diamonds) & (hearts | spades));
+            var trips = three & ~four;
+            var pairs = two & ~three;
+
+            if (four != 0) {
+                var rank = highest(four);
+
+                strength =
+                    FOUR_OF_A_KIND | nibble(rank, 4)
+                    | kickers(ranks & ~(1 << rank), 1, 1);
+            } else if (trips != 0 && (pairs != 0 || Integer.bitCount(trips) > 1)) {
+                var rank = highest(trips);
+                var pair = highest((trips & ~(1 << rank)) | pairs);
+
+                strength = FULL_HOUSE | nibble(rank, 4) | nibble(pair, 3);
+            } else if (STRAIGHTS[ranks] >= 0) {
+                strength = STRAIGHT | nibble(STRAIGHTS[ranks], 4);
+            } else if (trips != 0) {
+                var rank = highest(trips);
+
+                strength =
+                    THREE_OF_A_KIND | nibble(rank, 4)
+                    | kickers(ranks & ~(1 << rank), 1, 2);
+            } else if (Integer.bitCount(pairs) > 1) {
+                var high = highest(pairs);
+                var low = highest(pairs & ~(1 << high));
+
+                strength =
+                    TWO_PAIR | nibble(high, 4) | nibble(low, 3)
+                    | kickers(ranks & ~((1 << high) | (1 << low)), 2, 1);
+            } else if (pairs != 0) {
+                var rank = highest(pairs);
+
+                strength =
+                    PAIR | nibble(rank, 4)
+                    | kickers(ranks & ~(1 << rank), 1, 3);
+            } else if (ranks != 0) {
+                strength = HIGH_CARD | KICKERS[ranks];
+            }
+        }
+
+        return strength;
+    }
+
+    /**
+     * Static method to get the {@link Ranking} of a strength.
+     *
+     * @param   strength        The strength.
+     *
+     * @return  The {@link Ranking}.
+     *
+     * @see #strength(int,int,int,int)
+     */
+    public static Ranking ranking(int strength) {
+        return RANKINGS[strength >>> SHIFT];
+    }
+
+    private static int flush(int mask) {
+        var strength = 0;
+
+        if (Integer.bitCount(mask) >= 5) {
+            var top = STRAIGHTS[mask];
+
+            if (top < 0) {
+                strength = FLUSH | KICKERS[mask];
+            } else if (top == ACE) {
+                strength = ROYAL_FLUSH | nibble(top, 4);
+            } else {
+                strength = STRAIGHT_FLUSH | nibble(top, 4);
+            }
+        }
+
+        return strength;
+    }
+
+    static int kickers(int mask, int used, int count) {
+        return (KICKERS[mask] & (NIBBLES ^ (NIBBLES >>> (4 * count)))) >>> (4 * used);
+    }
+
+    static int highest(int mask) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(mask);
+    }
+
+    static int nibble(int bit, int position) {
+        return (bit + 2) << (4 * position);
+    }
+
+    private static int rank(int strength, int position) {
+        return ((strength >>> (4 * position)) & 0xF) - 2;
+    }
+
+    private static int bit(Card card) {
+        var bit = Cards.index(card.getRank());
+
+        if (bit < 0) {
+            throw new IllegalArgumentException(String.valueOf(card));
+        }
+
+        return bit;
+    }
+
+    private static void add(List<Card> list, Card[][] cards, int[] masks, int bit, int count) {
+        for (var suit = masks.length - 1; suit >= 0 && count > 0; suit -= 1) {
+            if ((masks[suit] & (1 << bit)) != 0) {
+                list.add(cards[suit][bit]);
+                count -= 1;
+            }
+        }
+    }
+}
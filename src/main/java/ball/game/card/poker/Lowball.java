@@ -0,0 +1,264 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.LongToIntFunction;
+
+import static ball.game.card.poker.LookupEvaluator.SHIFT;
+import static ball.game.card.poker.LookupEvaluator.kickers;
+
+/**
+ * Lowball hand evaluators.  Each {@link Lowball} maps a hand (encoded as
+ * described in {@link Cards}) to a low strength where a greater strength
+ * is a better low hand and {@code 0} is no (qualifying) low hand.  Hands
+ * with more than five (and at most {@value #MAXIMUM}) {@link Card}s are
+ * evaluated as their best five-{@link Card} low hand (larger hands are
+ * rejected with {@link IllegalArgumentException}).  None of these methods
+ * allocate.
+ * <ul>
+ *   <li>
+ *     {@link #AceToFive}:  Aces are low and straights and flushes are
+ *     ignored (Razz, A-5 lowball)
+ *   </li>
+ *   <li>
+ *     {@link #DeuceToSeven}:  Aces are high, {@code A-2-3-4-5} is not a
+ *     straight, and straights and flushes count against the hand (2-7
+ *     lowball)
+ *   </li>
+ *   <li>
+ *     {@link #EightOrBetter}:  {@link #AceToFive} qualified by five
+ *     distinct ranks of eight or lower (the low half of hi/lo split games)
+ *   </li>
+ * </ul>
+ *
+ * See {@link Omaha} for evaluating Omaha hands with any of these or
+ * {@link LookupEvaluator#strength(long)}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public enum Lowball implements LongToIntFunction {
+    AceToFive, DeuceToSeven, EightOrBetter;
+
+    /**
+     * Maximum hand size:  {@link #MAXIMUM} = {@value #MAXIMUM}
+     */
+    public static final int MAXIMUM = LookupEvaluator.MAXIMUM;
+
+    private static final int RANKS = Cards.RANKS;
+    private static final int FIVE = 5;
+    private static final int WHEEL = 0x100F;
+    private static final int EIGHT = 0xFF;
+    private static final int LIMIT = 1 << (SHIFT + 4);
+    private static final int FLUSH = Ranking.Flush.ordinal() << SHIFT;
+    private static final int HIGH_CARD = Ranking.HighCard.ordinal() << SHIFT;
+
+    /**
+     * {@link Comparator} that orders hands ({@link Cards#mask(Collection)})
+     * by {@link.this} {@link Lowball} strength.
+     *
+     * @return  The {@link Comparator}.
+     */
+    public Comparator<Long> comparator() {
+        return Comparator.comparingInt(t -> applyAsInt(t));
+    }
+
+    /**
+     * Method to calculate the {@link.this} {@link Lowball} strength of a
+     * {@link Collection} of {@link Card}s.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s to
+     *                          evaluate.
+     *
+     * @return  The strength.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Collection} contains more
+     *                          than {@value #MAXIMUM} {@link Card}s.
+     */
+    public int strength(Collection<Card> collection) {
+        return applyAsInt(Cards.mask(collection));
+    }
+
+    @Override
+    public int applyAsInt(long hand) {
+        var strength = 0;
+
+        hand &= Cards.DECK;
+
+        if (Long.bitCount(hand) > MAXIMUM) {
+            throw new IllegalArgumentException(String.valueOf(Cards.cards(hand)));
+        }
+
+        switch (this) {
+        case AceToFive:
+            strength = best(hand, low(Cards.ranks(hand)));
+            break;
+
+        case DeuceToSeven:
+            strength = best(hand, 0);
+            break;
+
+        case EightOrBetter:
+            var ranks = low(Cards.ranks(hand)) & EIGHT;
+
+            if (Integer.bitCount(ranks) >= FIVE) {
+                strength = LIMIT - pattern(lowest(ranks, FIVE));
+            }
+            break;
+        }
+
+        return strength;
+    }
+
+    private int best(long hand, int ranks) {
+        var strength = 0;
+
+        if (Integer.bitCount(ranks) >= FIVE) {
+            strength = LIMIT - pattern(lowest(ranks, FIVE));
+        } else if (Long.bitCount(hand) > FIVE) {
+            var n = Long.bitCount(hand);
+
+            for (int combination = (1 << FIVE) - 1; combination < (1 << n); combination = next(combination)) {
+                var five = 0L;
+                var remaining = hand;
+
+                for (int i = 0; i < n; i += 1) {
+                    var bit = remaining & -remaining;
+
+                    if ((combination & (1 << i)) != 0) {
+                        five |= bit;
+                    }
+
+                    remaining ^= bit;
+                }
+
+                strength = Math.max(strength, LIMIT - value(five));
+            }
+        } else if (hand != 0) {
+            strength = LIMIT - value(hand);
+        }
+
+        return strength;
+    }
+
+    private int value(long hand) {
+        var value = 0;
+
+        switch (this) {
+        case DeuceToSeven:
+            value = LookupEvaluator.strength(hand);
+
+            if (Cards.ranks(hand) == WHEEL) {
+                value = (isFlush(hand) ? FLUSH : HIGH_CARD) | kickers(WHEEL, 0, FIVE);
+            }
+            break;
+
+        default:
+            var count = 0L;
+
+            for (int suit = 0; suit < 4; suit += 1) {
+                var ranks = low(Cards.suit(hand, suit));
+
+                for (; ranks != 0; ranks &= ranks - 1) {
+                    count += 1L << (4 * Integer.numberOfTrailingZeros(ranks));
+                }
+            }
+
+            value = pattern(count);
+            break;
+        }
+
+        return value;
+    }
+
+    private static boolean isFlush(long hand) {
+        var flush = false;
+
+        for (int suit = 0; suit < 4 && (! flush); suit += 1) {
+            flush = Integer.bitCount(Cards.suit(hand, suit)) == Long.bitCount(hand);
+        }
+
+        return flush;
+    }
+
+    /*
+     * Ace-low rank mask:  bit 0 for ace through bit 12 for king.
+     */
+    private static int low(int ranks) {
+        return ((ranks << 1) | (ranks >>> (RANKS - 1))) & Cards.RANK_MASK;
+    }
+
+    private static long lowest(int ranks, int count) {
+        var histogram = 0L;
+
+        for (int i = 0; i < count && ranks != 0; i += 1, ranks &= ranks - 1) {
+            histogram += 1L << (4 * Integer.numberOfTrailingZeros(ranks));
+        }
+
+        return histogram;
+    }
+
+    /*
+     * Value (lower is better) of an ace-low rank-count histogram:  The
+     * pattern (no pair through four of a kind) followed by one nibble per
+     * rank ordered by count and then rank.
+     */
+    private static int pattern(long histogram) {
+        var pairs = 0;
+        var trips = 0;
+        var quads = 0;
+        var nibbles = 0;
+        var position = 4;
+
+        for (int count = 4; count > 0; count -= 1) {
+            for (int rank = RANKS - 1; rank >= 0; rank -= 1) {
+                if (((histogram >>> (4 * rank)) & 0xF) == count) {
+                    nibbles |= (rank + 1) << (4 * position);
+                    position -= 1;
+                    pairs += (count == 2) ? 1 : 0;
+                    trips += (count == 3) ? 1 : 0;
+                    quads += (count == 4) ? 1 : 0;
+                }
+            }
+        }
+
+        var pattern = 0;
+
+        if (quads > 0) {
+            pattern = 5;
+        } else if (trips > 0) {
+            pattern = (pairs > 0) ? 4 : 3;
+        } else {
+            pattern = pairs;
+        }
+
+        return (pattern << SHIFT) | nibbles;
+    }
+
+    private static int next(int combination) {
+        var lowest = combination & -combination;
+        var ripple = combination + lowest;
+
+        return ripple | (((combination ^ ripple) >>> 2) / lowest);
+    }
+}
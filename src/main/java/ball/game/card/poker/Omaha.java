@@ -0,0 +1,125 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.Collection;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Omaha-specific static fields and methods.  An Omaha hand is made of
+ * exactly {@value #HOLE} hole {@link Card}s and {@value #BOARD} board
+ * {@link Card}s.  Hands are encoded as described in {@link Cards} and
+ * evaluated with any {@link LongToIntFunction} strength (e.g.,
+ * {@link LookupEvaluator#strength(long)} or a {@link Lowball}).  None of
+ * these methods allocate.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public abstract class Omaha {
+    private Omaha() { }
+
+    /**
+     * Number of hole {@link Card}s used:  {@link #HOLE} = {@value #HOLE}
+     */
+    public static final int HOLE = 2;
+
+    /**
+     * Number of board {@link Card}s used:
+     * {@link #BOARD} = {@value #BOARD}
+     */
+    public static final int BOARD = 3;
+
+    /**
+     * Static method to calculate the high strength of an Omaha hand.
+     *
+     * @param   hole            The hole {@link Card}s.
+     * @param   board           The board {@link Card}s.
+     *
+     * @return  The strength ({@link LookupEvaluator#strength(long)}).
+     */
+    public static int high(long hole, long board) {
+        return strength(hole, board, LookupEvaluator::strength);
+    }
+
+    /**
+     * Static method to calculate the {@link Lowball#EightOrBetter} low
+     * strength of an Omaha hand.
+     *
+     * @param   hole            The hole {@link Card}s.
+     * @param   board           The board {@link Card}s.
+     *
+     * @return  The strength ({@code 0} if the hand does not qualify).
+     */
+    public static int low(long hole, long board) {
+        return strength(hole, board, Lowball.EightOrBetter);
+    }
+
+    /**
+     * Static method to calculate the best strength of every combination of
+     * exactly {@value #HOLE} hole {@link Card}s and {@value #BOARD} board
+     * {@link Card}s.
+     *
+     * @param   hole            The hole {@link Card}s.
+     * @param   board           The board {@link Card}s.
+     * @param   function        The {@link LongToIntFunction} to calculate
+     *                          the strength of a five-{@link Card} hand.
+     *
+     * @return  The best strength ({@code 0} if there are fewer than
+     *          {@value #HOLE} hole or {@value #BOARD} board {@link Card}s).
+     */
+    public static int strength(long hole, long board, LongToIntFunction function) {
+        var strength = 0;
+
+        for (var h0 = hole; h0 != 0; h0 &= h0 - 1) {
+            for (var h1 = h0 & (h0 - 1); h1 != 0; h1 &= h1 - 1) {
+                var two = (h0 & -h0) | (h1 & -h1);
+
+                for (var b0 = board; b0 != 0; b0 &= b0 - 1) {
+                    for (var b1 = b0 & (b0 - 1); b1 != 0; b1 &= b1 - 1) {
+                        for (var b2 = b1 & (b1 - 1); b2 != 0; b2 &= b2 - 1) {
+                            var three = (b0 & -b0) | (b1 & -b1) | (b2 & -b2);
+
+                            strength = Math.max(strength, function.applyAsInt(two | three));
+                        }
+                    }
+                }
+            }
+        }
+
+        return strength;
+    }
+
+    /**
+     * Static method to calculate the best strength of an Omaha hand.
+     *
+     * @param   hole            The hole {@link Card}s.
+     * @param   board           The board {@link Card}s.
+     * @param   function        The {@link LongToIntFunction} to calculate
+     *                          the strength of a five-{@link Card} hand.
+     *
+     * @return  The best strength.
+     *
+     * @see #strength(long,long,LongToIntFunction)
+     */
+    public static int strength(Collection<Card> hole, Collection<Card> board, LongToIntFunction function) {
+        return strength(Cards.mask(hole), Cards.mask(board), function);
+    }
+}
@@ -39,17 +39,17 @@ public abstract class Poker {
      * {@link Predicate} to test for one-eyed
      * {@link ball.game.card.Card.Rank#JACK JACK}
      */
-    public Predicate<Card> ONE_EYED_JACK = JACK.and(SPADES.or(HEARTS));
+    public static final Predicate<Card> ONE_EYED_JACK = JACK.and(SPADES.or(HEARTS));
 
     /**
      * {@link Predicate} to test for one-eyed
      * {@link ball.game.card.Card.Rank#KING KING}
      */
-    public Predicate<Card> ONE_EYED_KING = KING.and(DIAMONDS);
+    public static final Predicate<Card> ONE_EYED_KING = KING.and(DIAMONDS);
 
     /**
      * {@link Predicate} to test for "suicide"
      * {@link ball.game.card.Card.Rank#KING KING}
      */
-    public Predicate<Card> SUICIDE_KING = KING.and(HEARTS);
+    public static final Predicate<Card> SUICIDE_KING = KING.and(HEARTS);
 }
@@ -0,0 +1,284 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Texas Hold'em preflop all-in equity table:  The {@link Equity} of each
+ * of the {@value #HANDS} canonical starting hands against {@code 1} to
+ * {@value #OPPONENTS} opponents holding random {@link Card}s.  The table
+ * is generated once (see
+ * {@link ball.game.ant.taskdefs.CardTask.PokerPreflopTable}) and stored as
+ * a header ({@code magic}, {@code version}, {@code hands}, and
+ * {@code opponents} {@code int}s) followed by {@code float} equities
+ * ordered by hand then number of opponents.  {@link #load(Path)}
+ * memory-maps the file so lookups read directly from the mapped
+ * {@link ByteBuffer}.
+ *
+ * A canonical hand index is {@code 13 * row + column} where pairs are on
+ * the diagonal, suited hands are {@code (high, low)}, and offsuit hands
+ * are {@code (low, high)} (ranks {@code 0} for deuce through {@code 12}
+ * for ace).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class PreflopTable {
+
+    /**
+     * {@link #HANDS} = {@value #HANDS}
+     */
+    public static final int HANDS = Cards.RANKS * Cards.RANKS;
+
+    /**
+     * {@link #OPPONENTS} = {@value #OPPONENTS}
+     */
+    public static final int OPPONENTS = 9;
+
+    private static final int MAGIC = 0x50464551;        /* "PFEQ" */
+    private static final int VERSION = 1;
+    private static final int HEADER = 4 * Integer.BYTES;
+    private static final String RANKS = "23456789TJQKA";
+
+    private final ByteBuffer buffer;
+
+    private PreflopTable(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+            || buffer.getInt(8) != HANDS || buffer.getInt(12) != OPPONENTS
+            || buffer.capacity() < HEADER + Float.BYTES * HANDS * OPPONENTS) {
+            throw new IllegalArgumentException("Invalid preflop table");
+        }
+    }
+
+    /**
+     * Method to look up the equity of a canonical hand.
+     *
+     * @param   hand            The canonical hand index.
+     * @param   opponents       The number of opponents
+     *                          ({@code [1, }{@value #OPPONENTS}{@code ]}).
+     *
+     * @return  The equity.
+     */
+    public float equity(int hand, int opponents) {
+        if (hand < 0 || hand >= HANDS) {
+            throw new IndexOutOfBoundsException("hand=" + hand);
+        }
+
+        if (opponents < 1 || opponents > OPPONENTS) {
+            throw new IndexOutOfBoundsException("opponents=" + opponents);
+        }
+
+        return buffer.getFloat(HEADER + Float.BYTES * (hand * OPPONENTS + (opponents - 1)));
+    }
+
+    /**
+     * Method to look up the equity of a starting hand.
+     *
+     * @param   hole            The hole {@link Card}s.
+     * @param   opponents       The number of opponents.
+     *
+     * @return  The equity.
+     *
+     * @see #index(Collection)
+     */
+    public float equity(Collection<Card> hole, int opponents) {
+        return equity(index(hole), opponents);
+    }
+
+    /**
+     * Static method to memory-map a {@link PreflopTable}.
+     *
+     * @param   path            The {@link Path} to the table.
+     *
+     * @return  The {@link PreflopTable}.
+     *
+     * @throws  IOException     If the file cannot be mapped.
+     */
+    public static PreflopTable load(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, READ)) {
+            return new PreflopTable(channel.map(READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Static method to write a {@link PreflopTable}.
+     *
+     * @param   path            The {@link Path} to the table.
+     * @param   table           The equities indexed by canonical hand and
+     *                          then number of opponents (less one).
+     *
+     * @throws  IOException     If the file cannot be written.
+     */
+    public static void write(Path path, float[][] table) throws IOException {
+        var buffer = ByteBuffer.allocate(HEADER + Float.BYTES * HANDS * OPPONENTS);
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(HANDS).putInt(OPPONENTS);
+
+        for (int hand = 0; hand < HANDS; hand += 1) {
+            for (int opponents = 1; opponents <= OPPONENTS; opponents += 1) {
+                buffer.putFloat(table[hand][opponents - 1]);
+            }
+        }
+
+        buffer.flip();
+
+        try (var channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Static method to calculate the equities of a canonical hand against
+     * {@code 1} to {@value #OPPONENTS} opponents.
+     *
+     * @param   hand            The canonical hand index.
+     * @param   interval        See
+     *                          {@link Equity#calculate(double,long,SplittableRandom)}.
+     * @param   trials          See
+     *                          {@link Equity#calculate(double,long,SplittableRandom)}.
+     * @param   random          See
+     *                          {@link Equity#calculate(double,long,SplittableRandom)}.
+     *
+     * @return  The equities indexed by number of opponents (less one).
+     */
+    public static float[] equities(int hand, double interval, long trials, SplittableRandom random) {
+        var hole = hole(hand);
+        var equities = new float[OPPONENTS];
+
+        for (int opponents = 1; opponents <= OPPONENTS; opponents += 1) {
+            var outcome =
+                new Equity(hole, opponents, List.of(), List.of())
+                .calculate(interval, trials, random);
+
+            equities[opponents - 1] = (float) outcome.getEquity();
+        }
+
+        return equities;
+    }
+
+    /**
+     * Static method to get the canonical hand index of a starting hand.
+     *
+     * @param   hole            The hole {@link Card}s.
+     *
+     * @return  The canonical hand index.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the argument is not two distinct
+     *                          non-{@link Card.Rank#JOKER JOKER}
+     *                          {@link Card}s.
+     */
+    public static int index(Collection<Card> hole) {
+        var hand = Cards.mask(hole);
+
+        if (hole.size() != Equity.HOLE) {
+            throw new IllegalArgumentException(String.valueOf(hole));
+        }
+
+        return index(hand);
+    }
+
+    /**
+     * Static method to get the canonical hand index of a starting hand.
+     * This method does not allocate.
+     *
+     * @param   hand            The hole {@link Card}s
+     *                          ({@link Cards#mask(Collection)}).
+     *
+     * @return  The canonical hand index.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the argument is not two distinct
+     *                          non-{@link Card.Rank#JOKER JOKER}
+     *                          {@link Card}s.
+     */
+    public static int index(long hand) {
+        if (Cards.count(hand) != Equity.HOLE || (hand & ~Cards.DECK) != 0) {
+            throw new IllegalArgumentException(Cards.cards(hand).toString());
+        }
+
+        var first = Long.numberOfTrailingZeros(hand);
+        var second = 63 - Long.numberOfLeadingZeros(hand);
+        var high = Math.max(first % Cards.RANKS, second % Cards.RANKS);
+        var low = Math.min(first % Cards.RANKS, second % Cards.RANKS);
+        var suited = (first / Cards.RANKS) == (second / Cards.RANKS);
+
+        return suited ? (Cards.RANKS * high + low) : (Cards.RANKS * low + high);
+    }
+
+    /**
+     * Static method to get the name ({@code AA}, {@code AKs},
+     * {@code AKo}, etc.) of a canonical hand.
+     *
+     * @param   hand            The canonical hand index.
+     *
+     * @return  The name.
+     */
+    public static String name(int hand) {
+        var row = hand / Cards.RANKS;
+        var column = hand % Cards.RANKS;
+        String name = null;
+
+        if (row == column) {
+            name = "" + RANKS.charAt(row) + RANKS.charAt(column);
+        } else if (row > column) {
+            name = "" + RANKS.charAt(row) + RANKS.charAt(column) + "s";
+        } else {
+            name = "" + RANKS.charAt(column) + RANKS.charAt(row) + "o";
+        }
+
+        return name;
+    }
+
+    /**
+     * Static method to get representative hole {@link Card}s for a
+     * canonical hand.
+     *
+     * @param   hand            The canonical hand index.
+     *
+     * @return  The {@link List} of hole {@link Card}s.
+     */
+    public static List<Card> hole(int hand) {
+        var row = hand / Cards.RANKS;
+        var column = hand % Cards.RANKS;
+        var spades = Card.Suit.SPADES.ordinal();
+        var other = (row > column) ? spades : Card.Suit.HEARTS.ordinal();
+
+        return List.of(Cards.card(Cards.RANKS * spades + Math.max(row, column)),
+                       Cards.card(Cards.RANKS * other + Math.min(row, column)));
+    }
+}
@@ -0,0 +1,278 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.annotation.CompileTimeCheck;
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import lombok.NoArgsConstructor;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Texas Hold'em hole card {@link Range}:  A {@link java.util.Map} of
+ * two-{@link Card} combinations (encoded as described in {@link Cards}) to
+ * weights.  See {@link #parse(String)} for the supported notation.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@NoArgsConstructor
+public class Range extends TreeMap<Long,Double> {
+    private static final long serialVersionUID = -5702658066411779530L;
+
+    private static final String RANKS = "23456789TJQKA";
+    private static final String SUITS = "cdhs";
+
+    @CompileTimeCheck
+    private static final Pattern SEPARATOR = Pattern.compile("[,\\p{Space}]+");
+    @CompileTimeCheck
+    private static final Pattern COMBINATION =
+        Pattern.compile("([2-9TJQKA])([cdhs])([2-9TJQKA])([cdhs])");
+    @CompileTimeCheck
+    private static final Pattern HANDS =
+        Pattern.compile("([2-9TJQKA])([2-9TJQKA])([so]?)(?:(\\+)|-([2-9TJQKA])([2-9TJQKA])([so]?))?");
+
+    /**
+     * Method to add a combination to {@link.this} {@link Range}.  A
+     * non-positive weight removes the combination.
+     *
+     * @param   collection      The two {@link Card}s.
+     * @param   weight          The weight.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Collection} does not contain
+     *                          exactly two distinct {@link Card}s.
+     */
+    public void put(Collection<Card> collection, double weight) {
+        var combination = Cards.mask(collection);
+
+        if (Cards.count(combination) != Equity.HOLE || collection.size() != Equity.HOLE) {
+            throw new IllegalArgumentException(String.valueOf(collection));
+        }
+
+        put(combination, weight);
+    }
+
+    @Override
+    public Double put(Long combination, Double weight) {
+        return (weight > 0) ? super.put(combination, weight) : remove(combination);
+    }
+
+    /**
+     * Method to remove every combination that contains any of the
+     * {@link Card}s in the argument hand.
+     *
+     * @param   hand            The hand ({@link Cards#mask(Collection)}).
+     *
+     * @return  {@code true} if {@link.this} {@link Range} is modified;
+     *          {@code false} otherwise.
+     */
+    public boolean removeAll(long hand) {
+        return keySet().removeIf(t -> (t & hand) != 0);
+    }
+
+    /**
+     * Method to get the total weight of the combinations in {@link.this}
+     * {@link Range}.
+     *
+     * @return  The total weight.
+     */
+    public double combinations() {
+        return values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return entrySet().stream()
+            .map(t -> String.valueOf(Cards.cards(t.getKey())) + ":" + t.getValue())
+            .collect(joining(", ", "{", "}"));
+    }
+
+    /**
+     * Static method to parse a {@link Range}.  The {@link String} is a
+     * comma- or space-separated list of:
+     * <ul>
+     *   <li>Pairs: {@code QQ}, {@code QQ+}, {@code 22-55}</li>
+     *   <li>
+     *     Suited ({@code s}), offsuit ({@code o}), or either: {@code AKs},
+     *     {@code AKo}, {@code AK}, {@code A5s+} (kickers up to the high
+     *     card), {@code KTo-K7o} (kicker range), {@code 76s-54s}
+     *     (connected range)
+     *   </li>
+     *   <li>Specific combinations: {@code AsKh}</li>
+     * </ul>
+     * Any of which may be followed by {@code :}<i>weight</i> (default
+     * {@code 1}).  Combinations that appear more than once take the last
+     * weight.
+     *
+     * @param   string          The {@link String} to parse.
+     *
+     * @return  The {@link Range}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link String} cannot be parsed.
+     */
+    public static Range parse(String string) {
+        var range = new Range();
+
+        for (var token : SEPARATOR.split(string.trim())) {
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            try {
+                var weight = 1.0;
+                var colon = token.indexOf(':');
+
+                if (! (colon < 0)) {
+                    weight = Double.parseDouble(token.substring(colon + 1));
+                    token = token.substring(0, colon);
+                }
+
+                var combination = COMBINATION.matcher(token);
+                var hands = HANDS.matcher(token);
+
+                if (combination.matches()) {
+                    var mask =
+                        mask(combination.group(1), combination.group(2))
+                        | mask(combination.group(3), combination.group(4));
+
+                    if (Cards.count(mask) != Equity.HOLE) {
+                        throw new IllegalArgumentException(token);
+                    }
+
+                    range.put(mask, weight);
+                } else if (hands.matches()) {
+                    parse(range, hands.group(1), hands.group(2), hands.group(3),
+                          hands.group(4) != null, hands.group(5), hands.group(6), hands.group(7),
+                          weight);
+                } else {
+                    throw new IllegalArgumentException(token);
+                }
+            } catch (IllegalArgumentException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new IllegalArgumentException(token, exception);
+            }
+        }
+
+        return range;
+    }
+
+    private static void parse(Range range,
+                              String high, String low, String type,
+                              boolean plus, String toHigh, String toLow, String toType,
+                              double weight) {
+        var h0 = RANKS.indexOf(high);
+        var l0 = RANKS.indexOf(low);
+
+        if (toHigh != null && (! type.equals(toType))) {
+            throw new IllegalArgumentException(type + " != " + toType);
+        }
+
+        if (h0 < l0) {
+            var swap = h0;
+
+            h0 = l0;
+            l0 = swap;
+        }
+
+        if (h0 == l0) {
+            if (! type.isEmpty()) {
+                throw new IllegalArgumentException(high + low + type);
+            }
+
+            var from = h0;
+            var to = h0;
+
+            if (plus) {
+                to = RANKS.length() - 1;
+            } else if (toHigh != null) {
+                var h1 = RANKS.indexOf(toHigh);
+
+                if (h1 != RANKS.indexOf(toLow)) {
+                    throw new IllegalArgumentException(toHigh + toLow);
+                }
+
+                from = Math.min(h0, h1);
+                to = Math.max(h0, h1);
+            }
+
+            for (int rank = from; rank <= to; rank += 1) {
+                pairs(range, rank, weight);
+            }
+        } else {
+            if (plus) {
+                for (int rank = l0; rank < h0; rank += 1) {
+                    hands(range, h0, rank, type, weight);
+                }
+            } else if (toHigh != null) {
+                var h1 = Math.max(RANKS.indexOf(toHigh), RANKS.indexOf(toLow));
+                var l1 = Math.min(RANKS.indexOf(toHigh), RANKS.indexOf(toLow));
+
+                if (h0 == h1) {
+                    for (int rank = Math.min(l0, l1), n = Math.max(l0, l1); rank <= n; rank += 1) {
+                        hands(range, h0, rank, type, weight);
+                    }
+                } else if ((h0 - l0) == (h1 - l1) && l1 != h1) {
+                    var gap = h0 - l0;
+
+                    for (int rank = Math.min(h0, h1), n = Math.max(h0, h1); rank <= n; rank += 1) {
+                        hands(range, rank, rank - gap, type, weight);
+                    }
+                } else {
+                    throw new IllegalArgumentException(high + low + type + "-" + toHigh + toLow + toType);
+                }
+            } else {
+                hands(range, h0, l0, type, weight);
+            }
+        }
+    }
+
+    private static void pairs(Range range, int rank, double weight) {
+        for (int s0 = 0; s0 < SUITS.length(); s0 += 1) {
+            for (int s1 = s0 + 1; s1 < SUITS.length(); s1 += 1) {
+                range.put(mask(s0, rank) | mask(s1, rank), weight);
+            }
+        }
+    }
+
+    private static void hands(Range range, int high, int low, String type, double weight) {
+        for (int s0 = 0; s0 < SUITS.length(); s0 += 1) {
+            for (int s1 = 0; s1 < SUITS.length(); s1 += 1) {
+                var suited = (s0 == s1);
+
+                if (type.isEmpty() || (suited == type.equals("s"))) {
+                    range.put(mask(s0, high) | mask(s1, low), weight);
+                }
+            }
+        }
+    }
+
+    private static long mask(String rank, String suit) {
+        return mask(SUITS.indexOf(suit), RANKS.indexOf(rank));
+    }
+
+    private static long mask(int suit, int rank) {
+        return Cards.mask(Cards.RANKS * suit + rank);
+    }
+}
@@ -0,0 +1,362 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import ball.game.card.Dealer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import static ball.game.card.poker.Equity.BATCH;
+import static ball.game.card.poker.Equity.BOARD;
+import static ball.game.card.poker.Equity.GRAIN;
+import static ball.game.card.poker.Equity.INTERVAL;
+import static ball.game.card.poker.Equity.TRIALS;
+
+/**
+ * Texas Hold'em {@link Range}-versus-{@link Range} {@link Equity}
+ * calculator.  Combinations that conflict with the board or dead
+ * {@link Card}s are removed up front and pairs of combinations that
+ * conflict with each other are skipped.  For each board, the strength of
+ * every distinct combination is calculated once (with
+ * {@link LookupEvaluator#strength(long)}) and then every pair of
+ * combinations is compared and weighted.  Boards are enumerated if the
+ * work does not exceed {@value #LIMIT} comparisons and sampled (see
+ * {@link Equity}) otherwise.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class RangeEquity {
+
+    /**
+     * Maximum number of comparisons to enumerate:
+     * {@link #LIMIT} = {@value #LIMIT}
+     */
+    public static final long LIMIT = 1L << 28;
+
+    private static final int PREFIX = 2;
+
+    private final long board;
+    private final int[] deck;
+    private final long[] combinations;
+    private final int[] hero;
+    private final double[] heroWeights;
+    private final int[] villain;
+    private final double[] villainWeights;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   hero            The hero's {@link Range}.
+     * @param   villain         The villain's {@link Range}.
+     * @param   board           The board {@link Card}s (may be empty).
+     * @param   dead            The dead {@link Card}s (may be empty).
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Card}s overlap or either
+     *                          {@link Range} is empty after removing
+     *                          conflicting combinations.
+     */
+    public RangeEquity(Range hero, Range villain, Collection<Card> board, Collection<Card> dead) {
+        this.board = Cards.mask(board);
+
+        var dealt = this.board | Cards.mask(dead);
+
+        if (Cards.count(this.board) > BOARD || Cards.count(this.board) != board.size()) {
+            throw new IllegalArgumentException("board=" + board);
+        }
+
+        if (Cards.count(dealt) != (board.size() + dead.size()) || (dealt & ~Cards.DECK) != 0) {
+            throw new IllegalArgumentException("board=" + board + ",dead=" + dead);
+        }
+
+        deck = Cards.encode(Cards.DECK & ~dealt);
+
+        hero = (Range) hero.clone();
+        hero.removeAll(dealt);
+        villain = (Range) villain.clone();
+        villain.removeAll(dealt);
+
+        if (hero.isEmpty() || villain.isEmpty()) {
+            throw new IllegalArgumentException("hero=" + hero + ",villain=" + villain);
+        }
+
+        var indices = new TreeMap<Long,Integer>();
+
+        for (var key : hero.keySet()) {
+            indices.putIfAbsent(key, indices.size());
+        }
+
+        for (var key : villain.keySet()) {
+            indices.putIfAbsent(key, indices.size());
+        }
+
+        combinations = new long[indices.size()];
+
+        for (var entry : indices.entrySet()) {
+            combinations[entry.getValue()] = entry.getKey();
+        }
+
+        this.hero = new int[hero.size()];
+        this.heroWeights = new double[hero.size()];
+        this.villain = new int[villain.size()];
+        this.villainWeights = new double[villain.size()];
+
+        var i = 0;
+
+        for (var entry : hero.entrySet()) {
+            this.hero[i] = indices.get(entry.getKey());
+            this.heroWeights[i] = entry.getValue();
+            i += 1;
+        }
+
+        i = 0;
+
+        for (var entry : villain.entrySet()) {
+            this.villain[i] = indices.get(entry.getKey());
+            this.villainWeights[i] = entry.getValue();
+            i += 1;
+        }
+    }
+
+    /**
+     * Method to get the number of possible boards.
+     *
+     * @return  The number of boards.
+     */
+    public double boards() {
+        return Equity.choose(deck.length, BOARD - Cards.count(board));
+    }
+
+    /**
+     * Method to calculate the hero's {@link Equity.Outcome} with
+     * {@link Equity#INTERVAL} and {@link Equity#TRIALS}.
+     *
+     * @return  The {@link Equity.Outcome}.
+     */
+    public Equity.Outcome calculate() {
+        return calculate(INTERVAL, TRIALS, new SplittableRandom());
+    }
+
+    /**
+     * Method to calculate the hero's {@link Equity.Outcome}.  Each trial
+     * is a board.
+     *
+     * @param   interval        The target 95% confidence interval
+     *                          half-width (ignored if the boards are
+     *                          enumerated).
+     * @param   trials          The maximum number of boards (ignored if the
+     *                          boards are enumerated).
+     * @param   random          The {@link SplittableRandom} (ignored if the
+     *                          boards are enumerated).
+     *
+     * @return  The {@link Equity.Outcome}.
+     */
+    public Equity.Outcome calculate(double interval, long trials, SplittableRandom random) {
+        Equity.Outcome outcome = null;
+
+        if (boards() * hero.length * villain.length <= LIMIT) {
+            var prefixes = new ArrayList<Long>();
+
+            Equity.combinations(prefixes, deck, 0, Math.min(PREFIX, BOARD - Cards.count(board)), 0L);
+
+            outcome = ForkJoinPool.commonPool().invoke(new Enumeration(prefixes, 0, prefixes.size()));
+            outcome.exhaustive();
+        } else {
+            var parallelism = ForkJoinPool.getCommonPoolParallelism();
+            var batch = Math.max(BATCH >> 6, BATCH / (hero.length + villain.length));
+
+            outcome = new Equity.Outcome();
+
+            while (outcome.getTrials() < trials) {
+                var tasks = new ArrayList<Simulation>(parallelism);
+
+                for (int i = 0; i < parallelism; i += 1) {
+                    var count = Math.min(batch, trials - outcome.getTrials() - (long) i * batch);
+
+                    if (count > 0) {
+                        tasks.add(new Simulation(random.split(), count));
+                    }
+                }
+
+                for (var task : ForkJoinTask.invokeAll(tasks)) {
+                    outcome.add(task.join());
+                }
+
+                if (outcome.getInterval() <= interval) {
+                    break;
+                }
+            }
+        }
+
+        return outcome;
+    }
+
+    private abstract class Showdown extends RecursiveTask<Equity.Outcome> {
+        private static final long serialVersionUID = -7001460302283669917L;
+
+        private final int[] strengths = new int[combinations.length];
+        protected Equity.Outcome outcome = null;
+
+        protected Showdown() { super(); }
+
+        protected void showdown(long board) {
+            for (int i = 0; i < combinations.length; i += 1) {
+                strengths[i] =
+                    ((combinations[i] & board) == 0)
+                        ? LookupEvaluator.strength(combinations[i] | board)
+                        : -1;
+            }
+
+            var weight = 0.0;
+            var win = 0.0;
+            var tie = 0.0;
+            var loss = 0.0;
+
+            for (int i = 0; i < hero.length; i += 1) {
+                var strength = strengths[hero[i]];
+
+                if (strength < 0) {
+                    continue;
+                }
+
+                var combination = combinations[hero[i]];
+
+                for (int j = 0; j < villain.length; j += 1) {
+                    var other = strengths[villain[j]];
+
+                    if (other < 0 || (combinations[villain[j]] & combination) != 0) {
+                        continue;
+                    }
+
+                    var w = heroWeights[i] * villainWeights[j];
+
+                    weight += w;
+
+                    if (strength > other) {
+                        win += w;
+                    } else if (strength == other) {
+                        tie += w;
+                    } else {
+                        loss += w;
+                    }
+                }
+            }
+
+            if (weight > 0) {
+                outcome.record(weight, win / weight, tie / weight, loss / weight, (win + tie / 2) / weight);
+            }
+        }
+    }
+
+    private class Enumeration extends Showdown {
+        private static final long serialVersionUID = 6880383917186318096L;
+
+        private final List<Long> prefixes;
+        private final int from;
+        private final int to;
+
+        public Enumeration(List<Long> prefixes, int from, int to) {
+            super();
+
+            this.prefixes = prefixes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Equity.Outcome compute() {
+            if (to - from > GRAIN) {
+                var middle = (from + to) >>> 1;
+                var left = new Enumeration(prefixes, from, middle);
+                var right = new Enumeration(prefixes, middle, to);
+
+                left.fork();
+                outcome = right.compute();
+                outcome.add(left.join());
+            } else {
+                outcome = new Equity.Outcome();
+
+                var needed = BOARD - Cards.count(board);
+
+                for (int i = from; i < to; i += 1) {
+                    long prefix = prefixes.get(i);
+                    var start =
+                        (prefix != 0)
+                            ? Arrays.binarySearch(deck, 63 - Long.numberOfLeadingZeros(prefix)) + 1
+                            : 0;
+
+                    enumerate(board | prefix, start, needed - Cards.count(prefix));
+                }
+            }
+
+            return outcome;
+        }
+
+        private void enumerate(long board, int start, int count) {
+            if (count > 0) {
+                for (int i = start, n = deck.length - count; i <= n; i += 1) {
+                    enumerate(board | Cards.mask(deck[i]), i + 1, count - 1);
+                }
+            } else {
+                showdown(board);
+            }
+        }
+    }
+
+    private class Simulation extends Showdown {
+        private static final long serialVersionUID = -4021617406935516226L;
+
+        private final SplittableRandom random;
+        private final long trials;
+
+        public Simulation(SplittableRandom random, long trials) {
+            super();
+
+            this.random = random;
+            this.trials = trials;
+        }
+
+        @Override
+        protected Equity.Outcome compute() {
+            var dealer = new Dealer(deck, random);
+            var needed = BOARD - Cards.count(RangeEquity.this.board);
+
+            outcome = new Equity.Outcome();
+
+            for (long trial = 0; trial < trials; trial += 1) {
+                dealer.collect();
+
+                var board = RangeEquity.this.board | dealer.deal(needed);
+
+                showdown(board);
+            }
+
+            return outcome;
+        }
+    }
+}
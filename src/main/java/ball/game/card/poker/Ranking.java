@@ -21,6 +21,7 @@ package ball.game.card.poker;
 import ball.game.card.Card.Rank;
 import ball.game.card.Card.Suit;
 import ball.game.card.Card;
+import ball.game.card.Cards;
 import ball.util.Comparators;
 import ball.util.ListOrderComparator;
 import java.util.Collection;
@@ -59,6 +60,13 @@ public enum Ranking implements Predicate<List<Card>> {
                    holding(ACE, KING).and(Straight).and(Flush)),
         FiveOfAKind(5, Rank.SAME, Rank.SAME);
 
+    private static final int SUITS = 4;
+    private static final int ACE_INDEX = Cards.RANKS - 1;
+    private static final int STRAIGHT = 0x1F;
+    private static final int ROYAL = STRAIGHT << (ACE_INDEX - 4);
+    private static final int WHEEL = (1 << ACE_INDEX) | 0xF;
+    private static final Ranking[] RANKINGS = values();
+
     private final int required;
     private final Predicate<List<Card>> possible;
     private final Predicate<List<Card>> is;
@@ -81,8 +89,14 @@ public enum Ranking implements Predicate<List<Card>> {
      *          found; the empty {@link List} otherwise.
      */
     public List<Card> find(Collection<Card> collection) {
-        var evaluator = new Evaluator(collection, this);
-        var hand = evaluator.getScoring().isEmpty() ? evaluator.getScoring() : evaluator.getHand();
+        List<Card> hand = List.of();
+        var rankings = rankings(collection);
+
+        if (rankings == 0 || (rankings & (1 << ordinal())) != 0) {
+            var evaluator = new Evaluator(collection, this);
+
+            hand = evaluator.getScoring().isEmpty() ? evaluator.getScoring() : evaluator.getHand();
+        }
 
         return hand;
     }
@@ -138,6 +152,136 @@ public enum Ranking implements Predicate<List<Card>> {
         return list.subList(from, list.size());
     }
 
+    /**
+     * Static method to find the best {@link Ranking} in a
+     * {@link Collection} of {@link Card}s without evaluating the
+     * {@link Ranking} {@link Predicate}s.  See {@link #rankings(Collection)}.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s to
+     *                          evaluate.
+     *
+     * @return  The best {@link Ranking} or {@code null} if the
+     *          {@link Collection} contains a {@link Rank#JOKER JOKER} or a
+     *          duplicate {@link Card}.
+     */
+    public static Ranking of(Collection<Card> collection) {
+        var rankings = rankings(collection);
+
+        return (rankings != 0) ? RANKINGS[31 - Integer.numberOfLeadingZeros(rankings)] : null;
+    }
+
+    /**
+     * Static method to calculate the set of {@link Ranking}s some
+     * combination of the {@link Collection} satisfies.  The
+     * {@link Collection} is traversed once to build a rank-count histogram
+     * (a 4-bit count per {@link Rank}) and per-{@link Suit} rank masks
+     * (encoded as described in {@link Cards}) and the {@link Ranking}s are
+     * derived from those without allocating.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s to
+     *                          evaluate.
+     *
+     * @return  The set of {@link Ranking}s as a bit mask of
+     *          {@link #ordinal()}s or {@code 0} if the {@link Collection}
+     *          contains a {@link Rank#JOKER JOKER} or a duplicate
+     *          {@link Card} (which must be evaluated with the
+     *          {@link Predicate}s).
+     */
+    static int rankings(Collection<Card> collection) {
+        var hand = 0L;
+        var histogram = 0L;
+
+        for (var card : collection) {
+            var code = Cards.of(card);
+            var mask = Cards.mask(code);
+
+            if (code == Cards.JOKER || (hand & mask) != 0) {
+                return 0;
+            }
+
+            hand |= mask;
+            histogram += 1L << (4 * (code % Cards.RANKS));
+        }
+
+        var pairs = 0;
+        var trips = 0;
+        var quads = 0;
+
+        for (int i = 0; i < Cards.RANKS; i += 1) {
+            var count = (int) (histogram >>> (4 * i)) & 0xF;
+
+            pairs += (count >= 2) ? 1 : 0;
+            trips += (count >= 3) ? 1 : 0;
+            quads += (count >= 4) ? 1 : 0;
+        }
+
+        var rankings = bit(Empty);
+
+        if (hand != 0) {
+            rankings |= bit(HighCard);
+        }
+
+        if (pairs > 0) {
+            rankings |= bit(Pair);
+        }
+
+        if (pairs > 1 || quads > 0) {
+            rankings |= bit(TwoPair);
+        }
+
+        if (trips > 0) {
+            rankings |= bit(ThreeOfAKind);
+        }
+
+        if (straight(Cards.ranks(hand)) >= 0) {
+            rankings |= bit(Straight);
+        }
+
+        for (int i = 0; i < SUITS; i += 1) {
+            var suit = Cards.suit(hand, i);
+
+            if (Integer.bitCount(suit) >= 5) {
+                rankings |= bit(Flush);
+
+                if ((suit & ROYAL) == ROYAL) {
+                    rankings |= bit(RoyalFlush);
+                }
+
+                if (straight(suit & ~(1 << ACE_INDEX)) >= 0 || (suit & WHEEL) == WHEEL) {
+                    rankings |= bit(StraightFlush);
+                }
+            }
+        }
+
+        if (trips > 0 && pairs > 1) {
+            rankings |= bit(FullHouse);
+        }
+
+        if (quads > 0) {
+            rankings |= bit(FourOfAKind);
+        }
+
+        return rankings;
+    }
+
+    private static int bit(Ranking ranking) { return 1 << ranking.ordinal(); }
+
+    private static int straight(int ranks) {
+        var top = -1;
+
+        for (int i = ACE_INDEX; i >= 4 && top < 0; i -= 1) {
+            if (((ranks >>> (i - 4)) & STRAIGHT) == STRAIGHT) {
+                top = i;
+            }
+        }
+
+        if (top < 0 && (ranks & WHEEL) == WHEEL) {
+            top = 3;
+        }
+
+        return top;
+    }
+
     /**
      * {@link Comparator} that orders {@link Ranking}s weakest to
      * strongest.
@@ -0,0 +1,355 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Rank;
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static ball.game.card.poker.LookupEvaluator.SHIFT;
+import static ball.game.card.poker.LookupEvaluator.kickers;
+import static ball.game.card.poker.LookupEvaluator.nibble;
+
+/**
+ * Wild-card poker hand evaluator.  Cards matching a wild-card
+ * {@link Predicate} (e.g., {@link Rank#JOKER}, {@link Rank#TWO} for deuces
+ * wild, or one of the {@link Poker} constants) may stand for any
+ * {@link Card}.  Rather than trying every substitution, the best value for
+ * the wild cards is assigned directly for each {@link Ranking} (from
+ * {@link Ranking#FiveOfAKind} down) from the rank counts and suit masks
+ * of the natural cards.  Strengths are encoded as described in
+ * {@link LookupEvaluator#strength(int,int,int,int)} and are comparable
+ * with {@link LookupEvaluator} strengths.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class WildEvaluator implements Comparable<WildEvaluator> {
+    private static final int RANKS = Cards.RANKS;
+    private static final int ACE = RANKS - 1;
+    private static final int KING = ACE - 1;
+    private static final int WHEEL = 0x100F;
+    private static final int ROYAL = 0x1F << (ACE - 4);
+
+    private static final int HIGH_CARD = Ranking.HighCard.ordinal() << SHIFT;
+    private static final int PAIR = Ranking.Pair.ordinal() << SHIFT;
+    private static final int TWO_PAIR = Ranking.TwoPair.ordinal() << SHIFT;
+    private static final int THREE_OF_A_KIND = Ranking.ThreeOfAKind.ordinal() << SHIFT;
+    private static final int STRAIGHT = Ranking.Straight.ordinal() << SHIFT;
+    private static final int FLUSH = Ranking.Flush.ordinal() << SHIFT;
+    private static final int FULL_HOUSE = Ranking.FullHouse.ordinal() << SHIFT;
+    private static final int FOUR_OF_A_KIND = Ranking.FourOfAKind.ordinal() << SHIFT;
+    private static final int STRAIGHT_FLUSH = Ranking.StraightFlush.ordinal() << SHIFT;
+    private static final int ROYAL_FLUSH = Ranking.RoyalFlush.ordinal() << SHIFT;
+    private static final int FIVE_OF_A_KIND = Ranking.FiveOfAKind.ordinal() << SHIFT;
+
+    private final List<Card> naturals;
+    private final List<Card> wilds;
+    private final int strength;
+
+    /**
+     * Sole public constructor.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s to
+     *                          evaluate.
+     * @param   wild            The {@link Predicate} to test if a
+     *                          {@link Card} is wild.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Collection} contains a
+     *                          {@link Rank#JOKER JOKER} that is not wild or
+     *                          duplicate natural {@link Card}s.
+     */
+    public WildEvaluator(Collection<Card> collection, Predicate<Card> wild) {
+        var naturals = new ArrayList<Card>(collection.size());
+        var wilds = new ArrayList<Card>();
+        var hand = 0L;
+
+        for (var card : collection) {
+            if (wild.test(card)) {
+                wilds.add(card);
+            } else {
+                var code = Cards.of(card);
+
+                if (code == Cards.JOKER || Cards.contains(hand, code)) {
+                    throw new IllegalArgumentException(String.valueOf(collection));
+                }
+
+                naturals.add(card);
+                hand |= Cards.mask(code);
+            }
+        }
+
+        naturals.sort(Evaluator.CARD.reversed());
+
+        this.naturals = Collections.unmodifiableList(naturals);
+        this.wilds = Collections.unmodifiableList(wilds);
+        this.strength = strength(hand, wilds.size());
+    }
+
+    /**
+     * Method to get the natural (non-wild) {@link Card}s as an
+     * unmodifiable {@link List}.
+     *
+     * @return  The {@link List} of natural {@link Card}s.
+     */
+    public List<Card> getNaturals() { return naturals; }
+
+    /**
+     * Method to get the wild {@link Card}s as an unmodifiable
+     * {@link List}.
+     *
+     * @return  The {@link List} of wild {@link Card}s.
+     */
+    public List<Card> getWilds() { return wilds; }
+
+    /**
+     * Method to get this hand's strength.
+     *
+     * @return  The strength.
+     *
+     * @see #strength(long,int)
+     */
+    public int getStrength() { return strength; }
+
+    /**
+     * Method to get this hand's {@link Ranking}.
+     *
+     * @return  The {@link Ranking}.
+     */
+    public Ranking getRanking() { return LookupEvaluator.ranking(strength); }
+
+    @Override
+    public int compareTo(WildEvaluator that) {
+        return Integer.compare(this.getStrength(), that.getStrength());
+    }
+
+    @Override
+    public String toString() {
+        return getRanking().name() + ":" + getNaturals() + getWilds();
+    }
+
+    /**
+     * Static method to get the hand (encoded as described in
+     * {@link Cards}) of every {@link Card} (including the
+     * {@link Rank#JOKER JOKER}) that is wild.
+     *
+     * @param   wild            The {@link Predicate} to test if a
+     *                          {@link Card} is wild.
+     *
+     * @return  The wild-card hand.
+     */
+    public static long mask(Predicate<Card> wild) {
+        var mask = 0L;
+
+        for (int i = 0; i < Cards.COUNT; i += 1) {
+            if (wild.test(Cards.card(i))) {
+                mask |= Cards.mask(i);
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Static method to calculate the strength of a hand encoded as
+     * described in {@link Cards}.  This method does not allocate.
+     *
+     * @param   hand            The hand.
+     * @param   wild            The wild-card hand ({@link #mask(Predicate)}).
+     *
+     * @return  The strength.
+     *
+     * @see #strength(long,int)
+     */
+    public static int strength(long hand, long wild) {
+        return strength(hand & ~wild, Long.bitCount(hand & wild));
+    }
+
+    /**
+     * Static method to calculate the strength of the best five-{@link Card}
+     * hand that can be made from the natural {@link Card}s and the wild
+     * cards.  This method does not allocate.
+     *
+     * @param   naturals        The natural {@link Card}s (encoded as
+     *                          described in {@link Cards}).
+     * @param   wilds           The number of wild cards.
+     *
+     * @return  The strength.
+     */
+    public static int strength(long naturals, int wilds) {
+        var clubs = Cards.suit(naturals, 0);
+        var diamonds = Cards.suit(naturals, 1);
+        var hearts = Cards.suit(naturals, 2);
+        var spades = Cards.suit(naturals, 3);
+        var ranks = clubs | diamonds | hearts | spades;
+        var count = 0L;
+
+        for (int rank = 0; rank < RANKS; rank += 1) {
+            var bit = 1 << rank;
+            var n =
+                (((clubs & bit) != 0) ? 1 : 0) + (((diamonds & bit) != 0) ? 1 : 0)
+                + (((hearts & bit) != 0) ? 1 : 0) + (((spades & bit) != 0) ? 1 : 0);
+
+            count |= ((long) n) << (4 * rank);
+        }
+
+        wilds = Math.min(wilds, 5);
+
+        var rank = best(count, 5 - wilds);
+
+        if (rank >= 0) {
+            return FIVE_OF_A_KIND | nibble(rank, 4);
+        }
+
+        var flush =
+            Math.max(Math.max(flush(clubs, wilds), flush(diamonds, wilds)),
+                     Math.max(flush(hearts, wilds), flush(spades, wilds)));
+
+        if (flush >= STRAIGHT_FLUSH) {
+            return flush;
+        }
+
+        rank = best(count, 4 - wilds);
+
+        if (rank >= 0) {
+            var used = (1 << rank);
+            var left = wilds - Math.max(0, 4 - count(count, rank));
+
+            return FOUR_OF_A_KIND | nibble(rank, 4) | kickers(fill(ranks & ~used, used, left), 1, 1);
+        }
+
+        for (int high = ACE; high >= 0; high -= 1) {
+            for (int low = ACE; low >= 0; low -= 1) {
+                if (low != high
+                    && (Math.max(0, 3 - count(count, high)) + Math.max(0, 2 - count(count, low))) <= wilds) {
+                    return FULL_HOUSE | nibble(high, 4) | nibble(low, 3);
+                }
+            }
+        }
+
+        if (flush != 0) {
+            return flush;
+        }
+
+        var top = top(ranks, wilds, ACE);
+
+        if (top >= 0) {
+            return STRAIGHT | nibble(top, 4);
+        }
+
+        rank = best(count, 3 - wilds);
+
+        if (rank >= 0) {
+            var used = (1 << rank);
+            var left = wilds - Math.max(0, 3 - count(count, rank));
+
+            return THREE_OF_A_KIND | nibble(rank, 4) | kickers(fill(ranks & ~used, used, left), 1, 2);
+        }
+
+        for (int high = ACE; high >= 0; high -= 1) {
+            for (int low = high - 1; low >= 0; low -= 1) {
+                var needed = Math.max(0, 2 - count(count, high)) + Math.max(0, 2 - count(count, low));
+
+                if (needed <= wilds) {
+                    var used = (1 << high) | (1 << low);
+
+                    return (TWO_PAIR | nibble(high, 4) | nibble(low, 3)
+                            | kickers(fill(ranks & ~used, used, wilds - needed), 2, 1));
+                }
+            }
+        }
+
+        rank = best(count, 2 - wilds);
+
+        if (rank >= 0) {
+            var used = (1 << rank);
+            var left = wilds - Math.max(0, 2 - count(count, rank));
+
+            return PAIR | nibble(rank, 4) | kickers(fill(ranks & ~used, used, left), 1, 3);
+        }
+
+        return (ranks != 0 || wilds > 0) ? (HIGH_CARD | kickers(fill(ranks, 0, wilds), 0, 5)) : 0;
+    }
+
+    private static int count(long count, int rank) {
+        return (int) (count >>> (4 * rank)) & 0xF;
+    }
+
+    private static int best(long count, int needed) {
+        var best = -1;
+
+        for (int rank = ACE; rank >= 0 && best < 0; rank -= 1) {
+            if (count(count, rank) >= needed) {
+                best = rank;
+            }
+        }
+
+        return best;
+    }
+
+    private static int flush(int mask, int wilds) {
+        var strength = 0;
+
+        if (Integer.bitCount(mask) + wilds >= 5) {
+            var top = top(mask, wilds, KING);
+
+            if (Integer.bitCount(mask & ROYAL) + wilds >= 5) {
+                strength = ROYAL_FLUSH | nibble(ACE, 4);
+            } else if (top >= 0) {
+                strength = STRAIGHT_FLUSH | nibble(top, 4);
+            } else {
+                strength = FLUSH | kickers(fill(mask, 0, wilds), 0, 5);
+            }
+        }
+
+        return strength;
+    }
+
+    private static int top(int mask, int wilds, int highest) {
+        var top = -1;
+
+        for (int rank = highest; rank >= 3 && top < 0; rank -= 1) {
+            var straight = (rank > 3) ? (0x1F << (rank - 4)) : WHEEL;
+
+            if (Integer.bitCount(mask & straight) + wilds >= 5) {
+                top = rank;
+            }
+        }
+
+        return top;
+    }
+
+    private static int fill(int mask, int used, int wilds) {
+        for (int rank = ACE; rank >= 0 && wilds > 0; rank -= 1) {
+            var bit = 1 << rank;
+
+            if (((mask | used) & bit) == 0) {
+                mask |= bit;
+                wilds -= 1;
+            }
+        }
+
+        return mask;
+    }
+}
@@ -0,0 +1,859 @@
+package ball.game.card.solitaire;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * FreeCell solver.  {@link #solve(List)} runs a weighted A* search over
+ * canonical positions:
+ * <ul>
+ *   <li>
+ *     A position is packed into {@value #STRIDE} bytes (foundations,
+ *     sorted free cells, and cascades sorted by their bottom
+ *     {@link Card}) so positions that differ only by the order of the
+ *     free cells or cascades are the same position.  Positions are stored
+ *     in a single {@code byte[]} arena of at most {@code limit} positions
+ *     and the open list is a binary heap of {@code long} keys.
+ *   </li>
+ *   <li>
+ *     The visited set is an open-addressing table of 64-bit position
+ *     hashes.
+ *   </li>
+ *   <li>
+ *     The cost of a path is the number of {@link Card}s moved (a sequence
+ *     move of {@code n} {@link Card}s through free cells and empty
+ *     cascades costs {@code n}).  The heuristic is the number of
+ *     {@link Card}s not on the foundations plus the number of
+ *     {@link Card}s covering a lower {@link Card} of the same suit (each
+ *     must move at least twice) so it is admissible but, since a
+ *     position is never reopened when a cheaper path to it is found, the
+ *     solution is not necessarily optimal (even with a weight of
+ *     {@code 1}).  Larger weights trade solution length for speed.
+ *   </li>
+ *   <li>
+ *     If a search reaches the limit, the deal is searched again with
+ *     double, half, and four times the weight and then with
+ *     {@value #GROWTH} times the limit before it is reported
+ *     {@link Result#UNKNOWN UNKNOWN}.
+ *   </li>
+ *   <li>
+ *     {@link Card}s are moved to the foundations automatically when no
+ *     other {@link Card} could need them, only the first empty free cell
+ *     and empty cascade are destinations, and whole cascades are not moved
+ *     to empty cascades.
+ *   </li>
+ * </ul>
+ * {@link #deal(int)} reproduces the Microsoft FreeCell deals and
+ * {@link #solve(int,int)} solves a range of them in parallel on the
+ * common {@link java.util.concurrent.ForkJoinPool}; each task has its own
+ * {@link FreeCell} (and arena).
+ *
+ * A {@link FreeCell} solver may be reused for any number of deals but is
+ * not thread-safe.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class FreeCell {
+
+    /**
+     * Default search limit (positions stored per deal):
+     * {@link #LIMIT} = {@value #LIMIT}
+     */
+    public static final int LIMIT = 1 << 18;
+
+    /**
+     * Factor by which the limit is grown for the last search of a deal:
+     * {@link #GROWTH} = {@value #GROWTH}
+     */
+    public static final int GROWTH = 4;
+
+    /**
+     * Default heuristic weight:
+     * {@link #WEIGHT} = {@value #WEIGHT}
+     */
+    public static final int WEIGHT = 4;
+
+    /**
+     * Number of free cells:
+     * {@link #CELLS} = {@value #CELLS}
+     */
+    public static final int CELLS = 4;
+
+    /**
+     * Number of cascades:
+     * {@link #CASCADES} = {@value #CASCADES}
+     */
+    public static final int CASCADES = 8;
+
+    /**
+     * Number of Microsoft FreeCell deals:
+     * {@link #DEALS} = {@value #DEALS}
+     */
+    public static final int DEALS = 32000;
+
+    /**
+     * {@link FreeCell} solution {@link Result}s.
+     */
+    public enum Result { WON, LOST, UNKNOWN }
+
+    private static final int SUITS = 4;
+    private static final int RANKS = Cards.RANKS;
+    private static final int CARDS = SUITS * RANKS;
+    private static final int STRIDE = SUITS + CELLS + CASCADES + CARDS;
+    private static final int EMPTY = 0xFF;
+    private static final int MOVES = 256;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private static final int CASCADE_FOUNDATION = 0;
+    private static final int CELL_FOUNDATION = 1;
+    private static final int CELL_CASCADE = 2;
+    private static final int CASCADE_CELL = 3;
+    private static final int CASCADE_CASCADE = 4;
+
+    private final int cells;
+    private final int limit;
+    private final int weight;
+    private byte[] arena = null;
+    private short[] costs = null;
+    private long[] heap = null;
+    private long[] visited = null;
+    private int capacity = 0;
+    private final int[][] cascades = new int[CASCADES][CARDS];
+    private final int[] lengths = new int[CASCADES];
+    private final int[] cell = new int[CELLS];
+    private final int[] foundation = new int[SUITS];
+    private final int[] moves = new int[MOVES];
+    private final byte[] position = new byte[STRIDE];
+    private final Integer[] order = new Integer[CASCADES];
+    private final int[] lowest = new int[SUITS];
+    private int size = 0;
+    private int length = 0;
+    private long nodes = 0;
+    private int cost = 0;
+    private int scale = 0;
+
+    /**
+     * Constructor with a specified number of free cells, search limit,
+     * and heuristic weight.
+     *
+     * @param   cells           The number of free cells ({@code 0} to
+     *                          {@value #CELLS}).
+     * @param   limit           The maximum number of positions to store
+     *                          per deal.
+     * @param   weight          The heuristic weight ({@code 1} for A*).
+     */
+    public FreeCell(int cells, int limit, int weight) {
+        if (cells < 0 || cells > CELLS) {
+            throw new IllegalArgumentException("cells=" + cells);
+        }
+
+        if (limit < 1 || limit > Integer.MAX_VALUE / STRIDE) {
+            throw new IllegalArgumentException("limit=" + limit);
+        }
+
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight=" + weight);
+        }
+
+        this.cells = cells;
+        this.limit = limit;
+        this.weight = weight;
+
+        allocate(limit);
+    }
+
+    /*
+     * (Re)allocate the arena, open list, and visited set.
+     */
+    private void allocate(int capacity) {
+        if (this.capacity != capacity) {
+            this.capacity = capacity;
+            this.arena = new byte[capacity * STRIDE];
+            this.costs = new short[capacity];
+            this.heap = new long[capacity];
+            this.visited = new long[Integer.highestOneBit(capacity) << 2];
+        }
+    }
+
+    /**
+     * Constructor with {@value #CELLS} free cells and the default
+     * {@link #LIMIT} and {@link #WEIGHT}.
+     */
+    public FreeCell() {
+        this(CELLS, LIMIT, WEIGHT);
+    }
+
+    /**
+     * Method to get the number of positions expanded for the last deal.
+     *
+     * @return  The number of positions.
+     */
+    public long getNodes() { return nodes; }
+
+    /**
+     * Method to get the cost (number of {@link Card}s moved, including
+     * moves to the foundations) of the last solution.
+     *
+     * @return  The number of {@link Card}s moved.
+     */
+    public int getCost() { return cost; }
+
+    /**
+     * Method to get a Microsoft FreeCell deal.
+     *
+     * @param   number          The deal number ({@code 1} to
+     *                          {@value #DEALS} are the original deals).
+     *
+     * @return  The deal ({@link Card} codes as described in
+     *          {@link Cards}) in the order described in
+     *          {@link #solve(List)}.
+     */
+    public static int[] deal(int number) {
+        var deck = new int[CARDS];
+
+        for (int i = 0; i < deck.length; i += 1) {
+            deck[i] = i;
+        }
+
+        var deal = new int[CARDS];
+        var seed = (long) number;
+        var left = deck.length;
+
+        for (int i = 0; i < deal.length; i += 1) {
+            seed = (seed * 214013 + 2531011) & 0x7FFFFFFFL;
+
+            var j = (int) (seed >>> 16) % left;
+            /*
+             * Microsoft order:  4 * rank (ace = 0) + suit (clubs,
+             * diamonds, hearts, spades).
+             */
+            deal[i] = RANKS * (deck[j] % SUITS) + (deck[j] / SUITS + RANKS - 1) % RANKS;
+            left -= 1;
+            deck[j] = deck[left];
+        }
+
+        return deal;
+    }
+
+    /**
+     * Method to solve a deal.
+     *
+     * @param   deck            The deck ({@link Deck}):  {@link Card}
+     *                          {@code i} is dealt to cascade
+     *                          {@code i % }{@value #CASCADES} (the last
+     *                          {@link Card} dealt to a cascade is its
+     *                          top).
+     *
+     * @return  The {@link Result}.
+     */
+    public Result solve(List<Card> deck) {
+        return solve(Cards.encode(deck));
+    }
+
+    /**
+     * Method to solve a deal.
+     *
+     * @param   deck            The deck ({@link Card} codes as described
+     *                          in {@link Cards}).
+     *
+     * @return  The {@link Result}.
+     *
+     * @see #solve(List)
+     */
+    public Result solve(int[] deck) {
+        var mask = 0L;
+
+        for (var card : deck) {
+            if (card < 0 || card >= CARDS) {
+                throw new IllegalArgumentException("card=" + card);
+            }
+
+            mask |= Cards.mask(card);
+        }
+
+        if (deck.length != CARDS || mask != Cards.DECK) {
+            throw new IllegalArgumentException("Deck must contain " + CARDS + " distinct cards");
+        }
+
+        nodes = 0;
+
+        var result = Result.UNKNOWN;
+        var weights = new int[] { weight, 2 * weight, Math.max(weight / 2, 1), 4 * weight };
+
+        for (int i = 0; i < weights.length && result == Result.UNKNOWN; i += 1) {
+            result = search(deck, weights[i]);
+        }
+
+        if (result == Result.UNKNOWN) {
+            allocate((int) Math.min((long) GROWTH * limit, Integer.MAX_VALUE / STRIDE));
+
+            try {
+                result = search(deck, weight);
+            } finally {
+                allocate(limit);
+            }
+        }
+
+        return result;
+    }
+
+    /*
+     * One weighted A* search of the deal.
+     */
+    private Result search(int[] deck, int weight) {
+        Arrays.fill(lengths, 0);
+        Arrays.fill(cell, EMPTY);
+        Arrays.fill(foundation, 0);
+
+        for (int i = 0; i < deck.length; i += 1) {
+            var cascade = cascades[i % CASCADES];
+
+            cascade[lengths[i % CASCADES]] = RANKS * (deck[i] / RANKS) + (deck[i] % RANKS + 1) % RANKS;
+            lengths[i % CASCADES] += 1;
+        }
+
+        Arrays.fill(visited, 0);
+        size = 0;
+        length = 0;
+        cost = -1;
+        scale = weight;
+
+        store(automatic());
+
+        var aborted = false;
+
+        while (length > 0 && cost < 0 && (! aborted)) {
+            var node = pop();
+            var g = costs[node];
+
+            load(node);
+            nodes += 1;
+
+            if (isWon()) {
+                cost = g;
+                break;
+            }
+
+            var count = generate();
+
+            for (int i = 0; i < count && (! aborted); i += 1) {
+                load(node);
+
+                var c = g + apply(moves[i]);
+
+                c += automatic();
+
+                if (size < capacity) {
+                    store(c);
+                } else {
+                    aborted = true;
+                }
+            }
+        }
+
+        var result = Result.LOST;
+
+        if (cost >= 0) {
+            result = Result.WON;
+        } else if (aborted) {
+            result = Result.UNKNOWN;
+        }
+
+        return result;
+    }
+
+    private static int suit(int card) { return card / RANKS; }
+
+    private static int rank(int card) { return card % RANKS; }
+
+    private static boolean isRed(int card) {
+        var suit = suit(card);
+
+        return ((suit ^ (suit >> 1)) & 1) != 0;
+    }
+
+    private static boolean fits(int card, int target) {
+        return rank(target) == rank(card) + 1 && isRed(target) != isRed(card);
+    }
+
+    private boolean isWon() {
+        var won = true;
+
+        for (int suit = 0; suit < SUITS && won; suit += 1) {
+            won &= foundation[suit] == RANKS;
+        }
+
+        return won;
+    }
+
+    private boolean isPlayable(int card) {
+        return foundation[suit(card)] == rank(card);
+    }
+
+    private boolean isSafe(int card) {
+        var safe = isPlayable(card);
+
+        if (safe && rank(card) > 1) {
+            for (int suit = 0; suit < SUITS; suit += 1) {
+                if (isRed(RANKS * suit) != isRed(card)) {
+                    safe &= foundation[suit] >= rank(card);
+                }
+            }
+        }
+
+        return safe;
+    }
+
+    /*
+     * Play every safe foundation move.  Returns the number of moves.
+     */
+    private int automatic() {
+        var played = 0;
+        var progress = true;
+
+        while (progress) {
+            progress = false;
+
+            for (int i = 0; i < CASCADES; i += 1) {
+                if (lengths[i] > 0 && isSafe(cascades[i][lengths[i] - 1])) {
+                    played += apply(move(CASCADE_FOUNDATION, i, 0, 1));
+                    progress = true;
+                }
+            }
+
+            for (int i = 0; i < cells; i += 1) {
+                if (cell[i] != EMPTY && isSafe(cell[i])) {
+                    played += apply(move(CELL_FOUNDATION, i, 0, 1));
+                    progress = true;
+                }
+            }
+        }
+
+        return played;
+    }
+
+    private int generate() {
+        var count = 0;
+        var free = -1;
+        var frees = 0;
+        var empty = -1;
+        var empties = 0;
+
+        for (int i = 0; i < cells; i += 1) {
+            if (cell[i] == EMPTY) {
+                free = (free < 0) ? i : free;
+                frees += 1;
+            }
+        }
+
+        for (int i = 0; i < CASCADES; i += 1) {
+            if (lengths[i] == 0) {
+                empty = (empty < 0) ? i : empty;
+                empties += 1;
+            }
+        }
+
+        for (int i = 0; i < cells; i += 1) {
+            var card = cell[i];
+
+            if (card == EMPTY) {
+                continue;
+            }
+
+            if (isPlayable(card)) {
+                moves[count++] = move(CELL_FOUNDATION, i, 0, 1);
+            }
+
+            for (int to = 0; to < CASCADES; to += 1) {
+                if ((lengths[to] == 0) ? (to == empty) : fits(card, cascades[to][lengths[to] - 1])) {
+                    moves[count++] = move(CELL_CASCADE, i, to, 1);
+                }
+            }
+        }
+
+        for (int from = 0; from < CASCADES; from += 1) {
+            var length = lengths[from];
+
+            if (length == 0) {
+                continue;
+            }
+
+            var cascade = cascades[from];
+            var top = cascade[length - 1];
+            var run = 1;
+
+            while (run < length && fits(cascade[length - run], cascade[length - run - 1])) {
+                run += 1;
+            }
+
+            if (isPlayable(top)) {
+                moves[count++] = move(CASCADE_FOUNDATION, from, 0, 1);
+            }
+
+            for (int to = 0; to < CASCADES; to += 1) {
+                if (to == from) {
+                    continue;
+                }
+
+                if (lengths[to] == 0) {
+                    if (to == empty) {
+                        var maximum = Math.min(run, (frees + 1) << (empties - 1));
+
+                        for (int n = 1; n <= maximum; n += 1) {
+                            if (n < length) {
+                                moves[count++] = move(CASCADE_CASCADE, from, to, n);
+                            }
+                        }
+                    }
+                } else {
+                    var target = cascades[to][lengths[to] - 1];
+                    var n = rank(target) - rank(top);
+
+                    if (n >= 1 && n <= run && n <= ((frees + 1) << empties)
+                        && fits(cascade[length - n], target)) {
+                        moves[count++] = move(CASCADE_CASCADE, from, to, n);
+                    }
+                }
+            }
+
+            if (free >= 0) {
+                moves[count++] = move(CASCADE_CELL, from, free, 1);
+            }
+        }
+
+        return count;
+    }
+
+    /*
+     * Move encoding:  n << 12 | to << 8 | from << 4 | kind (from and to
+     * are cascades or free cells).
+     */
+    private static int move(int kind, int from, int to, int n) {
+        return (n << 12) | (to << 8) | (from << 4) | kind;
+    }
+
+    /*
+     * Apply a move.  Returns its cost (the number of cards moved).
+     */
+    private int apply(int move) {
+        var kind = move & 0xF;
+        var from = (move >>> 4) & 0xF;
+        var to = (move >>> 8) & 0xF;
+        var n = move >>> 12;
+
+        switch (kind) {
+        case CASCADE_FOUNDATION:
+            lengths[from] -= 1;
+            foundation[suit(cascades[from][lengths[from]])] += 1;
+            break;
+
+        case CELL_FOUNDATION:
+            foundation[suit(cell[from])] += 1;
+            cell[from] = EMPTY;
+            break;
+
+        case CELL_CASCADE:
+            cascades[to][lengths[to]] = cell[from];
+            lengths[to] += 1;
+            cell[from] = EMPTY;
+            break;
+
+        case CASCADE_CELL:
+            lengths[from] -= 1;
+            cell[to] = cascades[from][lengths[from]];
+            break;
+
+        case CASCADE_CASCADE:
+            System.arraycopy(cascades[from], lengths[from] - n, cascades[to], lengths[to], n);
+            lengths[from] -= n;
+            lengths[to] += n;
+            break;
+        }
+
+        return n;
+    }
+
+    /*
+     * Admissible heuristic:  The cards not on the foundations plus the
+     * cascade cards covering a lower card of the same suit.
+     */
+    private int heuristic() {
+        var h = CARDS;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            h -= foundation[suit];
+        }
+
+        for (int i = 0; i < CASCADES; i += 1) {
+            Arrays.fill(lowest, RANKS);
+
+            for (int j = 0; j < lengths[i]; j += 1) {
+                var card = cascades[i][j];
+
+                if (lowest[suit(card)] < rank(card)) {
+                    h += 1;
+                } else {
+                    lowest[suit(card)] = rank(card);
+                }
+            }
+        }
+
+        return h;
+    }
+
+    /*
+     * Pack the current position (canonically) and add it to the arena
+     * and open list if it has not been visited.
+     */
+    private void store(int g) {
+        var offset = 0;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            position[offset++] = (byte) foundation[suit];
+        }
+
+        var sorted = Arrays.copyOf(cell, CELLS);
+
+        Arrays.sort(sorted);
+
+        for (int i = 0; i < CELLS; i += 1) {
+            position[offset++] = (byte) sorted[i];
+        }
+
+        for (int i = 0; i < CASCADES; i += 1) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order,
+                    (left, right) -> Integer.compare(bottom(left), bottom(right)));
+
+        for (var i : order) {
+            position[offset++] = (byte) lengths[i];
+
+            for (int j = 0; j < lengths[i]; j += 1) {
+                position[offset++] = (byte) cascades[i][j];
+            }
+        }
+
+        Arrays.fill(position, offset, STRIDE, (byte) 0);
+
+        if (visit(hash(position))) {
+            System.arraycopy(position, 0, arena, size * STRIDE, STRIDE);
+            costs[size] = (short) g;
+            push((((long) (g + scale * heuristic())) << 48)
+                 | (((long) (0xFFFF - g)) << 32)
+                 | size);
+            size += 1;
+        }
+    }
+
+    private int bottom(int cascade) {
+        return (lengths[cascade] > 0) ? cascades[cascade][0] : EMPTY;
+    }
+
+    private void load(int node) {
+        var offset = node * STRIDE;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            foundation[suit] = arena[offset++] & 0xFF;
+        }
+
+        for (int i = 0; i < CELLS; i += 1) {
+            cell[i] = arena[offset++] & 0xFF;
+        }
+
+        for (int i = 0; i < CASCADES; i += 1) {
+            lengths[i] = arena[offset++] & 0xFF;
+
+            for (int j = 0; j < lengths[i]; j += 1) {
+                cascades[i][j] = arena[offset++] & 0xFF;
+            }
+        }
+    }
+
+    private static long hash(byte[] bytes) {
+        var hash = 0xCBF29CE484222325L;
+
+        for (var b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+
+        return hash | 1;
+    }
+
+    /*
+     * Record the hash.  Returns false if it was already recorded.
+     */
+    private boolean visit(long hash) {
+        var mask = visited.length - 1;
+        var i = (int) (hash >>> 32) & mask;
+
+        while (visited[i] != 0 && visited[i] != hash) {
+            i = (i + 1) & mask;
+        }
+
+        var visit = (visited[i] == 0);
+
+        visited[i] = hash;
+
+        return visit;
+    }
+
+    private void push(long key) {
+        var i = length;
+
+        length += 1;
+
+        while (i > 0 && heap[(i - 1) >>> 1] > key) {
+            heap[i] = heap[(i - 1) >>> 1];
+            i = (i - 1) >>> 1;
+        }
+
+        heap[i] = key;
+    }
+
+    /*
+     * Remove the minimum key.  Returns its node.
+     */
+    private int pop() {
+        var node = (int) heap[0];
+        var key = heap[length - 1];
+        var i = 0;
+
+        length -= 1;
+
+        for (;;) {
+            var child = 2 * i + 1;
+
+            if (child >= length) {
+                break;
+            }
+
+            if (child + 1 < length && heap[child + 1] < heap[child]) {
+                child += 1;
+            }
+
+            if (heap[child] >= key) {
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = key;
+
+        return node;
+    }
+
+    /**
+     * Method to solve a range of Microsoft FreeCell deals (see
+     * {@link #deal(int)}) in parallel.
+     *
+     * @param   first           The first deal number.
+     * @param   last            The last deal number (inclusive).
+     *
+     * @return  The {@link Solution}s (in deal order).
+     */
+    public static List<Solution> solve(int first, int last) {
+        var deals = Math.max(last - first + 1, 0);
+        var count = Math.min(deals, TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+        var tasks = new ArrayList<Simulation>(count);
+        var next = first;
+
+        for (int i = 0; i < count; i += 1) {
+            var size = deals / count + ((i < deals % count) ? 1 : 0);
+
+            tasks.add(new Simulation(next, size));
+            next += size;
+        }
+
+        var solutions = new ArrayList<Solution>(deals);
+
+        for (var task : ForkJoinTask.invokeAll(tasks)) {
+            solutions.addAll(task.join());
+        }
+
+        return solutions;
+    }
+
+    /**
+     * {@link #solve(int,int)} {@link Solution}.
+     */
+    @AllArgsConstructor @Getter
+    public static class Solution {
+        private final int deal;
+        private final Result result;
+        private final int cost;
+        private final long nodes;
+
+        @Override
+        public String toString() {
+            return String.format("#%d: %s, cost=%d, nodes=%d",
+                                 getDeal(), getResult(), getCost(), getNodes());
+        }
+    }
+
+    /*
+     * Each task has its own FreeCell solver (and arena) for its range of
+     * deals.
+     */
+    private static class Simulation extends RecursiveTask<List<Solution>> {
+        private static final long serialVersionUID = -2289826473946212310L;
+
+        private final int first;
+        private final int deals;
+
+        public Simulation(int first, int deals) {
+            super();
+
+            this.first = first;
+            this.deals = deals;
+        }
+
+        @Override
+        protected List<Solution> compute() {
+            var solutions = new ArrayList<Solution>(deals);
+            var solver = new FreeCell();
+
+            for (int t = first; t < first + deals; t += 1) {
+                var result = solver.solve(deal(t));
+
+                solutions.add(new Solution(t, result, solver.getCost(), solver.getNodes()));
+            }
+
+            return solutions;
+        }
+    }
+}
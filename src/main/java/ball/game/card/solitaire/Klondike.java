@@ -0,0 +1,961 @@
+package ball.game.card.solitaire;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import ball.game.card.Dealer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Klondike solver.  {@link #solve(List)} decides whether a deal is
+ * winnable with perfect knowledge of the face-down {@link Card}s
+ * ("thoughtful" solitaire) when turning one or three {@link Card}s from
+ * the stock with unlimited redeals.
+ *
+ * The search is a depth-first search with the following reductions:
+ * <ul>
+ *   <li>
+ *     The stock and waste are a single "talon":  Every {@link Card} that
+ *     can be turned to the top of the waste (by any number of draws and
+ *     redeals) is a move so the stock is never cycled explicitly.
+ *   </li>
+ *   <li>
+ *     {@link Card}s are moved to the foundations automatically when no
+ *     other {@link Card} could need them (both foundations of the other
+ *     color have reached the rank below and the other foundation of the
+ *     same color the rank two below).
+ *   </li>
+ *   <li>
+ *     Only the first empty pile is a destination.
+ *   </li>
+ *   <li>
+ *     Heuristic pruning (see below):  Tableau-to-tableau moves are only
+ *     generated if they turn a face-down {@link Card}, empty a pile that
+ *     a king can use, or uncover a {@link Card} that can be moved to its
+ *     foundation; and {@link Card}s are only moved back from the
+ *     foundations if they could then hold a talon {@link Card} or a run
+ *     covering face-down {@link Card}s.
+ *   </li>
+ *   <li>
+ *     Moves are ordered:  Foundation moves, moves that turn face-down
+ *     {@link Card}s (deepest pile first), talon moves, and then the
+ *     others.
+ *   </li>
+ * </ul>
+ *
+ * Visited positions are recorded in a fixed-size table of 64-bit Zobrist
+ * hashes (piles without face-down {@link Card}s are combined so their
+ * order is irrelevant and, with one-card draws, the waste position is not
+ * hashed since every talon {@link Card} is reachable).  The table is a
+ * cache:  When a bucket is full an entry is replaced so memory use is
+ * bounded; a position that is forgotten is simply searched again.
+ *
+ * The heuristic pruning may discard every winning line so a deal is
+ * first searched with the pruning and, if that search is exhausted
+ * without a win, searched again without it (each search with its own
+ * limit).  {@link Result#WON} and {@link Result#LOST} are therefore
+ * proven (barring a 64-bit hash collision); a deal is
+ * {@link Result#UNKNOWN} if either search reaches the limit.
+ *
+ * A {@link Klondike} solver may be reused for any number of deals but is
+ * not thread-safe.  {@link #simulate(int,long,long,long)} solves deals in
+ * parallel on the common {@link java.util.concurrent.ForkJoinPool}; each
+ * task has its own {@link Klondike} (and visited-position table).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Klondike {
+
+    /**
+     * Default search limit (positions per deal):
+     * {@link #LIMIT} = {@value #LIMIT}
+     */
+    public static final long LIMIT = 1L << 21;
+
+    /**
+     * Default visited-position table size (log2 entries):
+     * {@link #BITS} = {@value #BITS}
+     */
+    public static final int BITS = 20;
+
+    /**
+     * {@link Klondike} solution {@link Result}s.
+     */
+    public enum Result { WON, LOST, UNKNOWN }
+
+    private static final int PILES = 7;
+    private static final int SUITS = 4;
+    private static final int RANKS = Cards.RANKS;
+    private static final int CARDS = SUITS * RANKS;
+    private static final int TALON = CARDS - (PILES * (PILES + 1)) / 2;
+    private static final int KING = RANKS - 1;
+    private static final int DEPTH = 1024;
+    private static final int MOVES = 256;
+    private static final int WAYS = 4;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private static final int PILE_FOUNDATION = 0;
+    private static final int TALON_FOUNDATION = 1;
+    private static final int PILE_PILE = 2;
+    private static final int TALON_PILE = 3;
+    private static final int FOUNDATION_PILE = 4;
+
+    private static final long[][] UP = new long[RANKS][CARDS];
+    private static final long[][] DOWN = new long[PILES][PILES];
+    private static final long[][] FOUNDATION = new long[SUITS][RANKS + 1];
+    private static final long[] STOCK = new long[CARDS];
+    private static final long[] WASTE = new long[TALON + 1];
+
+    static {
+        var random = new SplittableRandom(0x4B4C4F4E44494B45L);
+
+        for (var keys : new long[][][] { UP, DOWN, FOUNDATION, { STOCK, WASTE } }) {
+            for (var row : keys) {
+                for (int i = 0; i < row.length; i += 1) {
+                    row[i] = random.nextLong();
+                }
+            }
+        }
+    }
+
+    private final int draw;
+    private final long limit;
+    private final int shift;
+    private final long[] visited;
+    private final SplittableRandom random = new SplittableRandom();
+    private final int[][] piles = new int[PILES][PILES + RANKS];
+    private final int[] sizes = new int[PILES];
+    private final int[] down = new int[PILES];
+    private final int[] foundation = new int[SUITS];
+    private final int[] talon = new int[TALON];
+    private int count = 0;
+    private int waste = 0;
+    private final int[][] moves = new int[DEPTH][];
+    private final int[][] autos = new int[DEPTH][];
+    private long salt = 0;
+    private long nodes = 0;
+    private long budget = 0;
+    private boolean prune = true;
+    private boolean aborted = false;
+
+    /**
+     * Constructor with a specified search limit and visited-position
+     * table size.
+     *
+     * @param   draw            The number of {@link Card}s turned from
+     *                          the stock ({@code 1} or {@code 3}).
+     * @param   limit           The maximum number of positions to search
+     *                          per deal (for each of the pruned and
+     *                          complete searches).
+     * @param   bits            The visited-position table size (log2
+     *                          entries).
+     */
+    public Klondike(int draw, long limit, int bits) {
+        if (draw < 1 || draw > TALON) {
+            throw new IllegalArgumentException("draw=" + draw);
+        }
+
+        this.draw = draw;
+        this.limit = limit;
+        this.shift = Long.SIZE - bits;
+        this.visited = new long[1 << bits];
+    }
+
+    /**
+     * Constructor with the default {@link #LIMIT} and {@link #BITS}.
+     *
+     * @param   draw            The number of {@link Card}s turned from
+     *                          the stock ({@code 1} or {@code 3}).
+     */
+    public Klondike(int draw) {
+        this(draw, LIMIT, BITS);
+    }
+
+    /**
+     * Method to get the number of positions searched for the last deal.
+     *
+     * @return  The number of positions.
+     */
+    public long getNodes() { return nodes; }
+
+    /**
+     * Method to solve a deal.
+     *
+     * @param   deck            The deck ({@link Deck}), top first:  The
+     *                          first {@value #PILES} {@link Card}s are
+     *                          the first row of the tableau, and so on;
+     *                          the remaining {@link Card}s are the stock.
+     *
+     * @return  The {@link Result}.
+     */
+    public Result solve(List<Card> deck) {
+        return solve(Cards.encode(deck));
+    }
+
+    /**
+     * Method to solve a deal.
+     *
+     * @param   deck            The deck ({@link Card} codes as described
+     *                          in {@link Cards}), top first.
+     *
+     * @return  The {@link Result}.
+     *
+     * @see #solve(List)
+     */
+    public Result solve(int[] deck) {
+        if (deck.length != CARDS || mask(deck) != Cards.DECK) {
+            throw new IllegalArgumentException("Deck must contain " + CARDS + " distinct cards");
+        }
+
+        var next = 0;
+
+        for (int row = 0; row < PILES; row += 1) {
+            for (int pile = row; pile < PILES; pile += 1) {
+                piles[pile][row] = card(deck[next]);
+                next += 1;
+            }
+        }
+
+        for (int pile = 0; pile < PILES; pile += 1) {
+            sizes[pile] = pile + 1;
+            down[pile] = pile;
+        }
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            foundation[suit] = 0;
+        }
+
+        for (count = 0; next < deck.length; next += 1) {
+            talon[count] = card(deck[next]);
+            count += 1;
+        }
+
+        waste = 0;
+        nodes = 0;
+
+        var result = Result.UNKNOWN;
+
+        if (search(true)) {
+            result = Result.WON;
+        } else if (! aborted) {
+            if (search(false)) {
+                result = Result.WON;
+            } else if (! aborted) {
+                result = Result.LOST;
+            }
+        }
+
+        return result;
+    }
+
+    private static long mask(int[] deck) {
+        var mask = 0L;
+
+        for (var card : deck) {
+            if (card < 0 || card >= CARDS) {
+                throw new IllegalArgumentException("card=" + card);
+            }
+
+            mask |= Cards.mask(card);
+        }
+
+        return mask;
+    }
+
+    /*
+     * Internal card encoding:  13 * suit + rank (ace = 0 through king =
+     * 12).
+     */
+    private static int card(int code) {
+        return RANKS * (code / RANKS) + (code % RANKS + 1) % RANKS;
+    }
+
+    private static int suit(int card) { return card / RANKS; }
+
+    private static int rank(int card) { return card % RANKS; }
+
+    private static boolean isRed(int card) {
+        var suit = suit(card);
+
+        return ((suit ^ (suit >> 1)) & 1) != 0;
+    }
+
+    /*
+     * Search the deal with (or without) the heuristic move pruning and a
+     * new salt (so the visited positions are forgotten) and search
+     * limit.
+     */
+    private boolean search(boolean prune) {
+        this.prune = prune;
+        salt = random.nextLong();
+        budget = nodes + limit;
+        aborted = false;
+
+        return search(0);
+    }
+
+    private boolean search(int depth) {
+        nodes += 1;
+
+        if (nodes > budget || depth >= DEPTH) {
+            aborted = true;
+
+            return false;
+        }
+
+        if (moves[depth] == null) {
+            moves[depth] = new int[MOVES];
+            autos[depth] = new int[2 * CARDS];
+        }
+
+        var autos = this.autos[depth];
+        var played = automatic(autos);
+        var won = isWon();
+
+        if ((! won) && (! visit(hash()))) {
+            var moves = this.moves[depth];
+            var count = generate(moves);
+
+            for (int i = 0; i < count && (! won) && (! aborted); i += 1) {
+                var undo = apply(moves[i]);
+
+                won = search(depth + 1);
+
+                undo(moves[i], undo);
+            }
+        }
+
+        for (int i = played - 1; i >= 0; i -= 1) {
+            undo(autos[2 * i], autos[2 * i + 1]);
+        }
+
+        return won;
+    }
+
+    /*
+     * Play every safe foundation move.  Returns the number of moves (move
+     * and undo pairs in autos).
+     */
+    private int automatic(int[] autos) {
+        var played = 0;
+        var progress = true;
+
+        while (progress) {
+            progress = false;
+
+            for (int pile = 0; pile < PILES; pile += 1) {
+                if (sizes[pile] > 0 && isSafe(piles[pile][sizes[pile] - 1])) {
+                    var move = move(PILE_FOUNDATION, pile, 0, 1, 0);
+
+                    autos[2 * played] = move;
+                    autos[2 * played + 1] = apply(move);
+                    played += 1;
+                    progress = true;
+                }
+            }
+            /*
+             * With one-card draws every talon card is always reachable
+             * so removing one does not affect the others.
+             */
+            if (draw == 1) {
+                for (int i = 0; i < count; i += 1) {
+                    if (isSafe(talon[i])) {
+                        var move = move(TALON_FOUNDATION, i + 1, 0, 1, 0);
+
+                        autos[2 * played] = move;
+                        autos[2 * played + 1] = apply(move);
+                        played += 1;
+                        progress = true;
+                        i -= 1;
+                    }
+                }
+            }
+        }
+
+        return played;
+    }
+
+    private boolean isWon() {
+        var won = (count == 0);
+
+        for (int pile = 0; pile < PILES && won; pile += 1) {
+            won &= down[pile] == 0;
+        }
+
+        return won;
+    }
+
+    private boolean isPlayable(int card) {
+        return foundation[suit(card)] == rank(card);
+    }
+
+    private boolean isSafe(int card) {
+        var safe = isPlayable(card);
+
+        if (safe && rank(card) > 1) {
+            for (int suit = 0; suit < SUITS; suit += 1) {
+                if (isRed(RANKS * suit) != isRed(card)) {
+                    safe &= foundation[suit] >= rank(card);
+                } else if (suit != suit(card)) {
+                    safe &= foundation[suit] >= rank(card) - 1;
+                }
+            }
+        }
+
+        return safe;
+    }
+
+    private static boolean fits(int card, int target) {
+        return rank(target) == rank(card) + 1 && isRed(target) != isRed(card);
+    }
+
+    /*
+     * Generate and order the moves.  Each move is encoded as described in
+     * move(...) with the score in the high bits.
+     */
+    private int generate(int[] moves) {
+        var count = 0;
+        var empty = -1;
+        var king = false;
+
+        for (int pile = 0; pile < PILES; pile += 1) {
+            if (sizes[pile] == 0) {
+                empty = (empty < 0) ? pile : empty;
+            } else if (down[pile] > 0 && rank(piles[pile][down[pile]]) == KING) {
+                king = true;
+            }
+        }
+
+        for (int i = 0; i < this.count && (! king); i += 1) {
+            king = rank(talon[i]) == KING;
+        }
+
+        for (int from = 0; from < PILES; from += 1) {
+            var size = sizes[from];
+
+            if (size == 0) {
+                continue;
+            }
+
+            var top = piles[from][size - 1];
+
+            if (isPlayable(top)) {
+                var score = 100 + ((size - 1 == down[from] && down[from] > 0) ? 20 + down[from] : 0);
+
+                count = add(moves, count, move(PILE_FOUNDATION, from, 0, 1, score));
+            }
+
+            for (int i = down[from]; i < size; i += 1) {
+                var base = piles[from][i];
+                var whole = (i == down[from]);
+                var score = prune ? -1 : 20;
+
+                if (whole && down[from] > 0) {
+                    score = 80 + down[from];
+                } else if (whole && king && rank(base) != KING) {
+                    score = 30;
+                } else if ((! whole) && isPlayable(piles[from][i - 1])) {
+                    score = 40;
+                }
+
+                if (score < 0) {
+                    continue;
+                }
+
+                for (int to = 0; to < PILES; to += 1) {
+                    if (to == from) {
+                        continue;
+                    }
+
+                    var fits = false;
+
+                    if (sizes[to] == 0) {
+                        fits = (to == empty) && rank(base) == KING && whole && down[from] > 0;
+                    } else {
+                        fits = fits(base, piles[to][sizes[to] - 1]);
+                    }
+
+                    if (fits) {
+                        count = add(moves, count, move(PILE_PILE, from, to, size - i, score));
+                    }
+                }
+            }
+        }
+
+        for (var bits = reachable(); bits != 0; bits &= bits - 1) {
+            var position = Integer.numberOfTrailingZeros(bits);
+            var card = talon[position - 1];
+
+            if (isPlayable(card)) {
+                count = add(moves, count, move(TALON_FOUNDATION, position, 0, 1, 90));
+            }
+
+            for (int to = 0; to < PILES; to += 1) {
+                var fits = false;
+
+                if (sizes[to] == 0) {
+                    fits = (to == empty) && rank(card) == KING;
+                } else {
+                    fits = fits(card, piles[to][sizes[to] - 1]);
+                }
+
+                if (fits) {
+                    count = add(moves, count, move(TALON_PILE, position, to, 1, 60));
+                }
+            }
+        }
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var card = RANKS * suit + foundation[suit] - 1;
+
+            if (foundation[suit] > 1 && ((! prune) || isWanted(card))) {
+                for (int to = 0; to < PILES; to += 1) {
+                    var fits = false;
+
+                    if (sizes[to] == 0) {
+                        fits = (to == empty) && rank(card) == KING && (! prune);
+                    } else {
+                        fits = fits(card, piles[to][sizes[to] - 1]);
+                    }
+
+                    if (fits) {
+                        count = add(moves, count, move(FOUNDATION_PILE, suit, to, 1, 10));
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /*
+     * Whether a card taken back from its foundation could hold a talon
+     * card or a run covering face-down cards.
+     */
+    private boolean isWanted(int card) {
+        var wanted = false;
+
+        for (int pile = 0; pile < PILES && (! wanted); pile += 1) {
+            wanted = down[pile] > 0 && fits(piles[pile][down[pile]], card);
+        }
+
+        for (int i = 0; i < count && (! wanted); i += 1) {
+            wanted = fits(talon[i], card);
+        }
+
+        return wanted;
+    }
+
+    private static int add(int[] moves, int count, int move) {
+        var j = count;
+
+        while (j > 0 && moves[j - 1] < move) {
+            moves[j] = moves[j - 1];
+            j -= 1;
+        }
+
+        moves[j] = move;
+
+        return count + 1;
+    }
+
+    /*
+     * The talon positions (1-based, bit per position) that can be turned
+     * to the top of the waste.
+     */
+    private int reachable() {
+        var reachable = 0;
+
+        if (draw == 1) {
+            reachable = ((1 << count) - 1) << 1;
+        } else {
+            if (waste > 0) {
+                reachable |= 1 << waste;
+            }
+
+            for (int position = waste; position < count; ) {
+                position = Math.min(position + draw, count);
+                reachable |= 1 << position;
+            }
+
+            for (int position = 0; position < count; ) {
+                position = Math.min(position + draw, count);
+                reachable |= 1 << position;
+            }
+        }
+
+        return reachable;
+    }
+
+    /*
+     * Move encoding:  score << 20 | n << 13 | to << 8 | from << 3 | kind
+     * (from is a pile, a 1-based talon position, or a suit).
+     */
+    private static int move(int kind, int from, int to, int n, int score) {
+        return (score << 20) | (n << 13) | (to << 8) | (from << 3) | kind;
+    }
+
+    /*
+     * Apply a move.  Returns the undo information:  The card moved to a
+     * foundation << 8 | the previous waste position << 1 | whether a
+     * face-down card was turned.
+     */
+    private int apply(int move) {
+        var kind = move & 0x7;
+        var from = (move >>> 3) & 0x1F;
+        var to = (move >>> 8) & 0x1F;
+        var n = (move >>> 13) & 0x7F;
+        var undo = waste << 1;
+
+        switch (kind) {
+        case PILE_FOUNDATION:
+            sizes[from] -= 1;
+            undo |= piles[from][sizes[from]] << 8;
+            foundation[suit(piles[from][sizes[from]])] += 1;
+            undo |= turn(from);
+            break;
+
+        case TALON_FOUNDATION:
+            var card = remove(from);
+
+            undo |= card << 8;
+            foundation[suit(card)] += 1;
+            break;
+
+        case PILE_PILE:
+            System.arraycopy(piles[from], sizes[from] - n, piles[to], sizes[to], n);
+            sizes[from] -= n;
+            sizes[to] += n;
+            undo |= turn(from);
+            break;
+
+        case TALON_PILE:
+            piles[to][sizes[to]] = remove(from);
+            sizes[to] += 1;
+            break;
+
+        case FOUNDATION_PILE:
+            foundation[from] -= 1;
+            piles[to][sizes[to]] = RANKS * from + foundation[from];
+            sizes[to] += 1;
+            break;
+        }
+
+        return undo;
+    }
+
+    private void undo(int move, int undo) {
+        var kind = move & 0x7;
+        var from = (move >>> 3) & 0x1F;
+        var to = (move >>> 8) & 0x1F;
+        var n = (move >>> 13) & 0x7F;
+
+        switch (kind) {
+        case PILE_FOUNDATION:
+            down[from] += undo & 1;
+            piles[from][sizes[from]] = undo >>> 8;
+            sizes[from] += 1;
+            foundation[suit(undo >>> 8)] -= 1;
+            break;
+
+        case TALON_FOUNDATION:
+            insert(from, undo >>> 8);
+            foundation[suit(undo >>> 8)] -= 1;
+            break;
+
+        case PILE_PILE:
+            down[from] += undo & 1;
+            sizes[to] -= n;
+            System.arraycopy(piles[to], sizes[to], piles[from], sizes[from], n);
+            sizes[from] += n;
+            break;
+
+        case TALON_PILE:
+            sizes[to] -= 1;
+            insert(from, piles[to][sizes[to]]);
+            break;
+
+        case FOUNDATION_PILE:
+            sizes[to] -= 1;
+            foundation[from] += 1;
+            break;
+        }
+
+        waste = (undo >>> 1) & 0x7F;
+    }
+
+    private int turn(int pile) {
+        var turned = 0;
+
+        if (sizes[pile] > 0 && sizes[pile] == down[pile]) {
+            down[pile] -= 1;
+            turned = 1;
+        }
+
+        return turned;
+    }
+
+    private int remove(int position) {
+        var card = talon[position - 1];
+
+        System.arraycopy(talon, position, talon, position - 1, count - position);
+        count -= 1;
+        waste = position - 1;
+
+        return card;
+    }
+
+    private void insert(int position, int card) {
+        System.arraycopy(talon, position - 1, talon, position, count - (position - 1));
+        talon[position - 1] = card;
+        count += 1;
+    }
+
+    private long hash() {
+        var hash = salt;
+
+        for (int pile = 0; pile < PILES; pile += 1) {
+            var pileHash = DOWN[pile][down[pile]];
+
+            for (int i = down[pile]; i < sizes[pile]; i += 1) {
+                pileHash ^= UP[i - down[pile]][piles[pile][i]];
+            }
+
+            hash += mix((down[pile] > 0) ? pileHash : (pileHash ^ DOWN[pile][0]));
+        }
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            hash ^= FOUNDATION[suit][foundation[suit]];
+        }
+
+        for (int i = 0; i < count; i += 1) {
+            hash ^= STOCK[talon[i]];
+        }
+
+        if (draw > 1) {
+            hash ^= WASTE[waste];
+        }
+
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    /*
+     * Record the position.  Returns true if it was already recorded.
+     */
+    private boolean visit(long hash) {
+        hash |= 1;
+
+        var bucket = (int) (hash >>> shift) & ~(WAYS - 1);
+        var visited = false;
+        var empty = -1;
+
+        for (int i = bucket; i < bucket + WAYS && (! visited); i += 1) {
+            visited = (this.visited[i] == hash);
+
+            if (this.visited[i] == 0 && empty < 0) {
+                empty = i;
+            }
+        }
+
+        if (! visited) {
+            this.visited[(empty >= 0) ? empty : bucket + (int) (nodes & (WAYS - 1))] = hash;
+        }
+
+        return visited;
+    }
+
+    /**
+     * Method to solve deals in parallel.  Deal {@code i} is shuffled by a
+     * {@link Dealer} seeded with {@code seed + i}.
+     *
+     * @param   draw            The number of {@link Card}s turned from
+     *                          the stock ({@code 1} or {@code 3}).
+     * @param   seed            The first seed.
+     * @param   deals           The number of deals.
+     * @param   limit           The maximum number of positions to search
+     *                          per deal.
+     *
+     * @return  The {@link Statistics}.
+     */
+    public static Statistics simulate(int draw, long seed, long deals, long limit) {
+        var count = (int) Math.min(deals, TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+        var tasks = new ArrayList<Simulation>(count);
+        var next = seed;
+
+        for (int i = 0; i < count; i += 1) {
+            var size = deals / count + ((i < deals % count) ? 1 : 0);
+
+            tasks.add(new Simulation(draw, limit, next, size));
+            next += size;
+        }
+
+        var statistics = new Statistics();
+
+        for (var task : ForkJoinTask.invokeAll(tasks)) {
+            statistics.add(task.join());
+        }
+
+        return statistics;
+    }
+
+    /**
+     * {@link #simulate(int,long,long,long)} {@link Statistics}.
+     */
+    public static class Statistics {
+        private final long[] counts = new long[Result.values().length];
+        private long nodes = 0;
+
+        /**
+         * Sole constructor.
+         */
+        public Statistics() { }
+
+        /**
+         * Method to get the number of deals.
+         *
+         * @return  The number of deals.
+         */
+        public long getDeals() {
+            var deals = 0L;
+
+            for (var count : counts) {
+                deals += count;
+            }
+
+            return deals;
+        }
+
+        /**
+         * Method to get the number of deals with a {@link Result}.
+         *
+         * @param   result          The {@link Result}.
+         *
+         * @return  The number of deals.
+         */
+        public long getCount(Result result) { return counts[result.ordinal()]; }
+
+        /**
+         * Method to get the total number of positions searched.
+         *
+         * @return  The number of positions.
+         */
+        public long getNodes() { return nodes; }
+
+        /**
+         * Method to get the fraction of deals won (a lower bound of the
+         * win rate if any deal is {@link Result#UNKNOWN}).
+         *
+         * @return  The win rate.
+         */
+        public double getWinRate() {
+            var deals = getDeals();
+
+            return (deals > 0) ? ((double) getCount(Result.WON)) / deals : 0;
+        }
+
+        /**
+         * Method to record a deal.
+         *
+         * @param   result          The {@link Result}.
+         * @param   nodes           The number of positions searched.
+         */
+        protected void record(Result result, long nodes) {
+            counts[result.ordinal()] += 1;
+            this.nodes += nodes;
+        }
+
+        /**
+         * Method to add another {@link Statistics} to {@link.this}
+         * {@link Statistics}.
+         *
+         * @param   that            The other {@link Statistics}.
+         */
+        protected void add(Statistics that) {
+            for (int i = 0; i < counts.length; i += 1) {
+                this.counts[i] += that.counts[i];
+            }
+
+            this.nodes += that.nodes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("deals=%d, won=%d, lost=%d, unknown=%d, win-rate=%.4f, nodes=%d",
+                                 getDeals(), getCount(Result.WON), getCount(Result.LOST),
+                                 getCount(Result.UNKNOWN), getWinRate(), getNodes());
+        }
+    }
+
+    /*
+     * Each task has its own Klondike solver (and visited-position table)
+     * for its range of seeds.
+     */
+    private static class Simulation extends RecursiveTask<Statistics> {
+        private static final long serialVersionUID = 6115546843950247405L;
+
+        private final int draw;
+        private final long limit;
+        private final long seed;
+        private final long deals;
+
+        public Simulation(int draw, long limit, long seed, long deals) {
+            super();
+
+            this.draw = draw;
+            this.limit = limit;
+            this.seed = seed;
+            this.deals = deals;
+        }
+
+        @Override
+        protected Statistics compute() {
+            var statistics = new Statistics();
+            var solver = new Klondike(draw, limit, BITS);
+            var deck = new int[CARDS];
+
+            for (long t = seed; t < seed + deals; t += 1) {
+                var dealer = new Dealer(t);
+
+                dealer.shuffle();
+
+                for (int i = 0; i < deck.length; i += 1) {
+                    deck[i] = dealer.deal();
+                }
+
+                statistics.record(solver.solve(deck), solver.getNodes());
+            }
+
+            return statistics;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package ball.game.card.trick;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.trick.bridge.Position;
+import lombok.Getter;
+
+/**
+ * Trick-taking game engine.  {@link #play(long[],int,Position)} plays a
+ * deal to completion:  Each {@link Player} is offered the mask of legal
+ * cards (see {@link Rules#legal(long,int,int,int)}), tricks are resolved
+ * with {@link Rules#beats(int,int,int)}, and the winner of each trick
+ * takes the {@link Scoring#points(int[],int)} of the trick and leads the
+ * next.  A {@link Game} is reusable and does not allocate while playing.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Game {
+    private static final Position[] POSITIONS = Position.values();
+    private static final int SEATS = POSITIONS.length;
+
+    @Getter
+    private final Rules rules;
+    @Getter
+    private final Scoring scoring;
+    private final Player[] players;
+    private final long[] hands = new long[SEATS];
+    private final int[] trick = new int[SEATS];
+    private final int[] tricks = new int[SEATS];
+    private final int[] points = new int[SEATS];
+    @Getter
+    private int trump = -1;
+    @Getter
+    private Position leader = null;
+    @Getter
+    private int count = 0;
+    @Getter
+    private int winning = -1;
+    @Getter
+    private long played = 0;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   rules           The {@link Rules}.
+     * @param   scoring         The {@link Scoring}.
+     * @param   players         The {@link Player}s (indexed by
+     *                          {@link Position#ordinal()}).
+     */
+    public Game(Rules rules, Scoring scoring, Player... players) {
+        if (players.length != SEATS) {
+            throw new IllegalArgumentException("Expected " + SEATS + " players");
+        }
+
+        this.rules = rules;
+        this.scoring = scoring;
+        this.players = players.clone();
+    }
+
+    /**
+     * Method to get the cards remaining in a {@link Position}'s hand.
+     *
+     * @param   position        The {@link Position}.
+     *
+     * @return  The hand.
+     */
+    public long getHand(Position position) { return hands[position.ordinal()]; }
+
+    /**
+     * Method to get a card played to the current trick.
+     *
+     * @param   index           The index ({@code 0} is the lead;
+     *                          less than {@link #getCount()}).
+     *
+     * @return  The card.
+     */
+    public int getTrick(int index) { return trick[index]; }
+
+    /**
+     * Method to get the number of tricks a {@link Position} has taken.
+     *
+     * @param   position        The {@link Position}.
+     *
+     * @return  The number of tricks.
+     */
+    public int getTricks(Position position) { return tricks[position.ordinal()]; }
+
+    /**
+     * Method to get the points a {@link Position} has taken.
+     *
+     * @param   position        The {@link Position}.
+     *
+     * @return  The points.
+     */
+    public int getPoints(Position position) { return points[position.ordinal()]; }
+
+    /**
+     * Method to play a deal.
+     *
+     * @param   hands           The hands (indexed by
+     *                          {@link Position#ordinal()}; all the same
+     *                          size).
+     * @param   trump           The trump suit ({@code -1} for notrump).
+     * @param   leader          The {@link Position} on lead to the first
+     *                          trick.
+     *
+     * @throws  IllegalStateException
+     *                          If a {@link Player} plays an illegal
+     *                          card.
+     */
+    public void play(long[] hands, int trump, Position leader) {
+        System.arraycopy(hands, 0, this.hands, 0, SEATS);
+
+        for (int i = 0; i < SEATS; i += 1) {
+            tricks[i] = 0;
+            points[i] = 0;
+        }
+
+        this.trump = trump;
+        this.leader = leader;
+        this.played = 0;
+
+        while (this.hands[this.leader.ordinal()] != 0) {
+            var seat = this.leader.ordinal();
+            var winner = seat;
+
+            count = 0;
+            winning = -1;
+
+            for (int i = 0; i < SEATS; i += 1) {
+                var legal = rules.legal(this.hands[seat], (count > 0) ? trick[0] : -1, winning, trump);
+                var card = players[seat].play(this, POSITIONS[seat], legal);
+
+                if (legal == 0 || (legal & (1L << card)) == 0) {
+                    throw new IllegalStateException(POSITIONS[seat] + " played illegal card " + card);
+                }
+
+                this.hands[seat] &= ~(1L << card);
+                played |= 1L << card;
+                trick[count] = card;
+                count += 1;
+
+                if (count == 1 || rules.beats(card, winning, trump)) {
+                    winning = card;
+                    winner = seat;
+                }
+
+                seat = (seat + 1) % SEATS;
+            }
+
+            tricks[winner] += 1;
+            points[winner] += scoring.points(trick, count);
+            this.leader = POSITIONS[winner];
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ball.game.card.trick;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.trick.bridge.Position;
+import java.util.SplittableRandom;
+
+/**
+ * {@link Game} player service provider interface.  Implementations
+ * should not allocate per play so batches of millions of {@link Game}s
+ * run at full speed (see {@link Simulation}).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@FunctionalInterface
+public interface Player {
+
+    /**
+     * {@link Player} that always plays its lowest legal card.
+     */
+    public static final Player LOWEST = (game, seat, legal) -> Long.numberOfTrailingZeros(legal);
+
+    /**
+     * Method to choose a card to play.
+     *
+     * @param   game            The {@link Game} (for the hand, the trick
+     *                          so far, and the cards played).
+     * @param   seat            The {@link Player}'s {@link Position}.
+     * @param   legal           The mask of legal cards (never
+     *                          {@code 0}).
+     *
+     * @return  The card (a bit set in {@code legal}).
+     */
+    public int play(Game game, Position seat, long legal);
+
+    /**
+     * Method to get a {@link Player} that plays a uniformly random legal
+     * card.
+     *
+     * @param   random          The {@link SplittableRandom}.
+     *
+     * @return  The {@link Player}.
+     */
+    public static Player random(SplittableRandom random) {
+        return (game, seat, legal) -> {
+            var bits = legal;
+
+            for (int i = random.nextInt(Long.bitCount(legal)); i > 0; i -= 1) {
+                bits &= bits - 1;
+            }
+
+            return Long.numberOfTrailingZeros(bits);
+        };
+    }
+}
@@ -0,0 +1,219 @@
+package ball.game.card.trick;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Cards;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Trick-taking rules over {@code long} hand masks.  A card is encoded as
+ * a bit {@code width * suit + copies * strength + copy} where
+ * {@code strength} orders the ranks of a suit (lowest first) and
+ * {@code copy} distinguishes identical cards of multi-deck games (the
+ * first of identical cards played wins).  Following suit, heading the
+ * trick, trumping, and determining the winner of a trick are a few mask
+ * operations so simulations of millions of hands are feasible.
+ *
+ * {@link #STANDARD} is the 52-card encoding of {@link Cards} (e.g.,
+ * bridge, hearts, and spades).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@ToString
+public class Rules {
+
+    /**
+     * {@link Rules} for the 52-card encoding of {@link Cards}:  Follow
+     * suit if possible, otherwise play any card.
+     */
+    public static final Rules STANDARD = new Rules(Cards.RANKS, 1, false, false);
+
+    /**
+     * Number of suits:
+     * {@link #SUITS} = {@value #SUITS}
+     */
+    public static final int SUITS = 4;
+
+    @Getter
+    private final int width;
+    @Getter
+    private final int copies;
+    @Getter
+    private final boolean head;
+    @Getter
+    private final boolean trump;
+    @ToString.Exclude
+    private final long[] suits = new long[SUITS];
+
+    /**
+     * Sole constructor.
+     *
+     * @param   width           The number of bits per suit.
+     * @param   copies          The number of copies of each card.
+     * @param   head            Whether a player must beat the winning
+     *                          card if possible.
+     * @param   trump           Whether a player who cannot follow suit
+     *                          must trump if possible.
+     */
+    public Rules(int width, int copies, boolean head, boolean trump) {
+        if (width < 1 || SUITS * width > Long.SIZE || copies < 1 || width % copies != 0) {
+            throw new IllegalArgumentException("width=" + width + ", copies=" + copies);
+        }
+
+        this.width = width;
+        this.copies = copies;
+        this.head = head;
+        this.trump = trump;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            suits[suit] = ((1L << width) - 1) << (width * suit);
+        }
+    }
+
+    /**
+     * Method to get the mask of all cards.
+     *
+     * @return  The mask.
+     */
+    public long deck() { return (SUITS * width < Long.SIZE) ? (1L << (SUITS * width)) - 1 : -1L; }
+
+    /**
+     * Method to get the suit of a card.
+     *
+     * @param   card            The card.
+     *
+     * @return  The suit ({@code 0} to {@value #SUITS} - 1).
+     */
+    public int suit(int card) { return card / width; }
+
+    /**
+     * Method to get the mask of the cards of a suit.
+     *
+     * @param   suit            The suit.
+     *
+     * @return  The mask.
+     */
+    public long mask(int suit) { return suits[suit]; }
+
+    /**
+     * Method to get the strength of a card within its suit.
+     *
+     * @param   card            The card.
+     *
+     * @return  The strength ({@code 0} is the lowest).
+     */
+    public int strength(int card) { return (card % width) / copies; }
+
+    /**
+     * Method to get the mask of cards of the same suit stronger than a
+     * card.
+     *
+     * @param   card            The card.
+     *
+     * @return  The mask.
+     */
+    public long above(int card) {
+        return suits[suit(card)] & (-1L << (width * suit(card) + copies * (strength(card) + 1)));
+    }
+
+    /**
+     * Method to get the legal plays from a hand.
+     *
+     * @param   hand            The hand.
+     * @param   lead            The card led to the trick ({@code -1} if
+     *                          leading).
+     * @param   winning         The card currently winning the trick
+     *                          ({@code -1} if leading).
+     * @param   trump           The trump suit ({@code -1} for notrump).
+     *
+     * @return  The mask of legal cards.
+     */
+    public long legal(long hand, int lead, int winning, int trump) {
+        var legal = hand;
+
+        if (lead >= 0) {
+            var suit = suit(lead);
+            var follow = hand & suits[suit];
+
+            if (follow == 0 && this.trump && trump >= 0) {
+                suit = trump;
+                follow = hand & suits[suit];
+            }
+
+            if (follow != 0) {
+                legal = follow;
+
+                if (head && suit(winning) == suit) {
+                    var higher = follow & above(winning);
+
+                    if (higher != 0) {
+                        legal = higher;
+                    }
+                }
+            }
+        }
+
+        return legal;
+    }
+
+    /**
+     * Method to determine if a card beats the card currently winning a
+     * trick.
+     *
+     * @param   card            The card played.
+     * @param   winning         The card currently winning the trick.
+     * @param   trump           The trump suit ({@code -1} for notrump).
+     *
+     * @return  {@code true} if {@code card} wins; {@code false}
+     *          otherwise.
+     */
+    public boolean beats(int card, int winning, int trump) {
+        var beats = false;
+
+        if (suit(card) == suit(winning)) {
+            beats = strength(card) > strength(winning);
+        } else {
+            beats = suit(card) == trump;
+        }
+
+        return beats;
+    }
+
+    /**
+     * Method to determine the winner of a trick.
+     *
+     * @param   trick           The cards played (in order).
+     * @param   count           The number of cards played.
+     * @param   trump           The trump suit ({@code -1} for notrump).
+     *
+     * @return  The index of the winning card in {@code trick}.
+     */
+    public int winner(int[] trick, int count, int trump) {
+        var winner = 0;
+
+        for (int i = 1; i < count; i += 1) {
+            if (beats(trick[i], trick[winner], trump)) {
+                winner = i;
+            }
+        }
+
+        return winner;
+    }
+}
@@ -0,0 +1,71 @@
+package ball.game.card.trick;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Rank;
+import ball.game.card.Card.Suit;
+import ball.game.card.Cards;
+
+/**
+ * {@link Game} scoring hook:  The points the winner of a trick takes.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@FunctionalInterface
+public interface Scoring {
+
+    /**
+     * {@link Scoring} that counts tricks (bridge, spades).
+     */
+    public static final Scoring TRICKS = (trick, count) -> 1;
+
+    /**
+     * Hearts {@link Scoring} ({@link Cards} encoding):  One point per
+     * heart and thirteen for the queen of spades.
+     */
+    public static final Scoring HEARTS = new Scoring() {
+            private final long hearts = Cards.of(Suit.HEARTS);
+            private final int queen = Cards.of(Suit.SPADES, Rank.QUEEN);
+
+            @Override
+            public int points(int[] trick, int count) {
+                var points = 0;
+
+                for (int i = 0; i < count; i += 1) {
+                    if ((hearts & (1L << trick[i])) != 0) {
+                        points += 1;
+                    } else if (trick[i] == queen) {
+                        points += 13;
+                    }
+                }
+
+                return points;
+            }
+        };
+
+    /**
+     * Method to score a trick.
+     *
+     * @param   trick           The cards played (in order).
+     * @param   count           The number of cards played.
+     *
+     * @return  The points the winner of the trick takes.
+     */
+    public int points(int[] trick, int count);
+}
@@ -0,0 +1,236 @@
+package ball.game.card.trick;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Dealer;
+import ball.game.card.trick.bridge.Position;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batch {@link Game} runner.  Deals are dealt and played in parallel on
+ * the common {@link ForkJoinPool}; each task has its own {@link Dealer},
+ * {@link Game}, and {@link Player}s so playing a {@link Game} does not
+ * allocate.  The {@link Dealer}s and the {@link SplittableRandom}s passed
+ * to the {@link Player} factory are split from the
+ * {@link #run(long,long)} seed.  The lead rotates ({@link Position#SOUTH SOUTH} leads the
+ * first deal of each task).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Simulation {
+    private static final Position[] POSITIONS = Position.values();
+    private static final int SEATS = POSITIONS.length;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final Rules rules;
+    private final Scoring scoring;
+    private final long deck;
+    private final int trump;
+    private final BiFunction<Position,SplittableRandom,Player> players;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   rules           The {@link Rules}.
+     * @param   scoring         The {@link Scoring}.
+     * @param   deck            The mask of cards dealt (evenly) to the
+     *                          {@link Player}s.
+     * @param   trump           The trump suit ({@code -1} for notrump).
+     * @param   players         The {@link Player} factory (called once
+     *                          per {@link Position} per task with a
+     *                          {@link SplittableRandom} for that
+     *                          {@link Player} so {@link Player}s with
+     *                          state need not be thread-safe; e.g.,
+     *                          {@code (p, r) -> Player.random(r)}).
+     */
+    public Simulation(Rules rules, Scoring scoring, long deck, int trump,
+                      BiFunction<Position,SplittableRandom,Player> players) {
+        if (Long.bitCount(deck) % SEATS != 0) {
+            throw new IllegalArgumentException("Deck cannot be dealt evenly");
+        }
+
+        this.rules = rules;
+        this.scoring = scoring;
+        this.deck = deck;
+        this.trump = trump;
+        this.players = players;
+    }
+
+    /**
+     * Method to play a number of deals.
+     *
+     * @param   deals           The number of deals.
+     * @param   seed            The seed.
+     *
+     * @return  The {@link Totals}.
+     */
+    public Totals run(long deals, long seed) {
+        var random = new SplittableRandom(seed);
+        var count = (int) Math.min(deals, TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+        var tasks = new ArrayList<Batch>(count);
+
+        for (int i = 0; i < count; i += 1) {
+            var dealer = new Dealer(deck, random.split());
+
+            tasks.add(new Batch(dealer, random.split(), deals / count + ((i < deals % count) ? 1 : 0)));
+        }
+
+        var totals = new Totals();
+
+        for (var task : ForkJoinTask.invokeAll(tasks)) {
+            totals.add(task.join());
+        }
+
+        return totals;
+    }
+
+    /**
+     * {@link Simulation} totals.
+     */
+    @NoArgsConstructor
+    public static class Totals {
+        private final long[] tricks = new long[SEATS];
+        private final long[] points = new long[SEATS];
+        private long deals = 0;
+
+        /**
+         * Method to get the number of deals played.
+         *
+         * @return  The number of deals.
+         */
+        public long getDeals() { return deals; }
+
+        /**
+         * Method to get the total tricks taken by a {@link Position}.
+         *
+         * @param   position        The {@link Position}.
+         *
+         * @return  The number of tricks.
+         */
+        public long getTricks(Position position) { return tricks[position.ordinal()]; }
+
+        /**
+         * Method to get the total points taken by a {@link Position}.
+         *
+         * @param   position        The {@link Position}.
+         *
+         * @return  The points.
+         */
+        public long getPoints(Position position) { return points[position.ordinal()]; }
+
+        /**
+         * Method to get the mean points per deal taken by a
+         * {@link Position}.
+         *
+         * @param   position        The {@link Position}.
+         *
+         * @return  The mean.
+         */
+        public double getMean(Position position) {
+            return (deals > 0) ? ((double) getPoints(position)) / deals : 0;
+        }
+
+        /**
+         * Method to record a {@link Game}.
+         *
+         * @param   game            The {@link Game}.
+         */
+        protected void record(Game game) {
+            deals += 1;
+
+            for (var position : POSITIONS) {
+                tricks[position.ordinal()] += game.getTricks(position);
+                points[position.ordinal()] += game.getPoints(position);
+            }
+        }
+
+        /**
+         * Method to add another {@link Totals} to {@link.this}
+         * {@link Totals}.
+         *
+         * @param   that            The other {@link Totals}.
+         */
+        protected void add(Totals that) {
+            for (int i = 0; i < SEATS; i += 1) {
+                this.tricks[i] += that.tricks[i];
+                this.points[i] += that.points[i];
+            }
+
+            this.deals += that.deals;
+        }
+
+        @Override
+        public String toString() {
+            var string = new StringBuilder();
+
+            string.append("deals=").append(getDeals());
+
+            for (var position : POSITIONS) {
+                string.append(String.format(", %s=%.3f", position, getMean(position)));
+            }
+
+            return string.toString();
+        }
+    }
+
+    private class Batch extends RecursiveTask<Totals> {
+        private static final long serialVersionUID = 2837640521839372165L;
+
+        private final Dealer dealer;
+        private final SplittableRandom random;
+        private final long deals;
+
+        public Batch(Dealer dealer, SplittableRandom random, long deals) {
+            super();
+
+            this.dealer = dealer;
+            this.random = random;
+            this.deals = deals;
+        }
+
+        @Override
+        protected Totals compute() {
+            var players = new Player[SEATS];
+
+            for (var position : POSITIONS) {
+                players[position.ordinal()] = Simulation.this.players.apply(position, random.split());
+            }
+
+            var game = new Game(rules, scoring, players);
+            var totals = new Totals();
+            var hands = new long[SEATS];
+            var size = Long.bitCount(deck) / SEATS;
+
+            for (long i = 0; i < deals; i += 1) {
+                dealer.collect();
+                dealer.deal(hands, size);
+                game.play(hands, trump, POSITIONS[(int) (i % SEATS)]);
+                totals.record(game);
+            }
+
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Suit;
+import ball.game.card.Cards;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Batch double-dummy analysis.  {@link #run(BufferedReader,Writer)} reads
+ * deals in PBN format ({@code Board}, {@code Vulnerable}, and {@code Deal}
+ * tags; other tags are ignored and a bare {@code Deal} value on a line by
+ * itself is also accepted), solves all {@value #COMBINATIONS}
+ * strain/declarer combinations of each deal with {@link DoubleDummy}, and
+ * writes each deal with its {@code DoubleDummyTricks},
+ * {@code OptimumScore}, and {@code ParContract} (see {@link Par}) tags.
+ *
+ * Deals are solved in parallel (one task per deal, reusing one
+ * {@link DoubleDummy} per thread) and written in input order.  Input and
+ * output are streamed:  At most a small multiple of the number of threads
+ * deals are in memory at any time regardless of the size of the input.
+ * The returned {@link Metrics} report throughput and per-deal solution
+ * latency.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Analysis {
+
+    /**
+     * Strain/declarer combinations per deal:
+     * {@link #COMBINATIONS} = {@value #COMBINATIONS}
+     */
+    public static final int COMBINATIONS = Par.STRAINS * 4;
+
+    private static final Pattern TAG = Pattern.compile("\\[\\s*(\\w+)\\s+\"([^\"]*)\"\\s*\\]");
+    private static final Pattern DEAL = Pattern.compile("[NESWnesw]:.*");
+    private static final String RANKS = "23456789TJQKA";
+    private static final int SUITS = Suit.values().length;
+    private static final String HEX = "0123456789ABCDEF";
+    private static final Position[] DECLARERS = {
+        Position.NORTH, Position.SOUTH, Position.EAST, Position.WEST
+    };
+    private static final int[] STRAINS = {
+        Par.NOTRUMP,
+        Suit.SPADES.ordinal(), Suit.HEARTS.ordinal(),
+        Suit.DIAMONDS.ordinal(), Suit.CLUBS.ordinal()
+    };
+
+    private final int threads;
+
+    /**
+     * Constructor with a specified number of solver threads.
+     *
+     * @param   threads         The number of solver threads.
+     */
+    public Analysis(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads=" + threads);
+        }
+
+        this.threads = threads;
+    }
+
+    /**
+     * No-argument constructor (one solver thread per available
+     * processor).
+     */
+    public Analysis() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Method to analyze a stream of deals.
+     *
+     * @param   reader          The PBN input.
+     * @param   writer          The PBN output.
+     *
+     * @return  The {@link Metrics}.
+     *
+     * @throws  IOException     If an I/O error occurs.
+     * @throws  IllegalArgumentException
+     *                          If a deal cannot be parsed.
+     */
+    public Metrics run(BufferedReader reader, Writer writer) throws IOException {
+        var metrics = new Metrics();
+        var executor = Executors.newFixedThreadPool(threads);
+        var solvers = ThreadLocal.withInitial(() -> new DoubleDummy(new long[Position.values().length], null));
+
+        try {
+            var window = 4 * threads;
+            var pending = new ArrayDeque<Future<Result>>(window);
+            var board = "";
+            var vulnerable = "None";
+            String line = null;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+
+                String deal = null;
+                var matcher = TAG.matcher(line);
+
+                if (matcher.matches()) {
+                    switch (matcher.group(1)) {
+                    case "Board":
+                        board = matcher.group(2);
+                        break;
+
+                    case "Vulnerable":
+                        vulnerable = matcher.group(2);
+                        break;
+
+                    case "Deal":
+                        deal = matcher.group(2);
+                        break;
+
+                    default:
+                        break;
+                    }
+                } else if (DEAL.matcher(line).matches()) {
+                    deal = line;
+                }
+
+                if (deal != null) {
+                    var hands = parse(deal);
+                    var task = new Task(solvers, board, vulnerable, deal, hands, Vulnerability.parse(vulnerable));
+
+                    pending.add(executor.submit(task));
+
+                    while (pending.size() >= window || (! pending.isEmpty() && pending.peek().isDone())) {
+                        write(writer, metrics, pending.remove());
+                    }
+
+                    board = "";
+                    vulnerable = "None";
+                }
+            }
+
+            while (! pending.isEmpty()) {
+                write(writer, metrics, pending.remove());
+            }
+
+            writer.flush();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        metrics.stop();
+
+        return metrics;
+    }
+
+    private void write(Writer writer, Metrics metrics, Future<Result> future) throws IOException {
+        try {
+            var result = future.get();
+
+            writer.write(result.text);
+            metrics.record(result.nanos);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException exception) {
+            var cause = exception.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    /**
+     * Method to calculate the double-dummy tricks of a deal.
+     *
+     * @param   hands           The hands ({@link Cards#mask(java.util.Collection)})
+     *                          indexed by {@link Position#ordinal()}.
+     *
+     * @return  The tricks taken by declarer indexed by strain (see
+     *          {@link Par}) and declarer {@link Position#ordinal()}.
+     */
+    public static int[][] tricks(long[] hands) {
+        return tricks(new DoubleDummy(hands, null), hands);
+    }
+
+    /**
+     * Method to calculate the double-dummy tricks of a deal with a
+     * (reused) {@link DoubleDummy} solver.
+     *
+     * @param   solver          The {@link DoubleDummy} (reset for each
+     *                          strain).
+     * @param   hands           The hands ({@link Cards#mask(java.util.Collection)})
+     *                          indexed by {@link Position#ordinal()}.
+     *
+     * @return  The tricks taken by declarer indexed by strain (see
+     *          {@link Par}) and declarer {@link Position#ordinal()}.
+     */
+    public static int[][] tricks(DoubleDummy solver, long[] hands) {
+        var suits = Suit.values();
+        var tricks = new int[Par.STRAINS][];
+
+        for (int strain = 0; strain < tricks.length; strain += 1) {
+            solver.reset(hands, (strain != Par.NOTRUMP) ? suits[strain] : null);
+
+            tricks[strain] = new int[hands.length];
+
+            for (var declarer : Position.values()) {
+                tricks[strain][declarer.ordinal()] = solver.solve(Position.leftOf(declarer), declarer);
+            }
+        }
+
+        return tricks;
+    }
+
+    /**
+     * Method to parse a PBN {@code Deal} tag value (e.g.,
+     * {@code N:KQ83.KJ64.J.Q642 AJ72.T3.KQ95.K97 ...}):  The first
+     * {@link Position} followed by each hand in clockwise order with
+     * suits in the order spades, hearts, diamonds, clubs.
+     *
+     * @param   string          The {@link String} to parse.
+     *
+     * @return  The hands ({@link Cards#mask(java.util.Collection)})
+     *          indexed by {@link Position#ordinal()}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link String} cannot be parsed.
+     */
+    public static long[] parse(String string) {
+        var positions = Position.values();
+        var hands = new long[positions.length];
+        var tokens = string.trim().substring(2).trim().split("\\s+");
+        Position position = null;
+
+        for (var value : positions) {
+            if (value.name().charAt(0) == Character.toUpperCase(string.trim().charAt(0))) {
+                position = value;
+            }
+        }
+
+        if (position == null || tokens.length != positions.length) {
+            throw new IllegalArgumentException(string);
+        }
+
+        for (var token : tokens) {
+            var suits = token.split("\\.", -1);
+
+            if (suits.length != SUITS) {
+                throw new IllegalArgumentException(string);
+            }
+
+            for (int i = 0; i < suits.length; i += 1) {
+                var suit = (SUITS - 1) - i;     /* Spades first */
+
+                for (var character : suits[i].toUpperCase().toCharArray()) {
+                    var rank = RANKS.indexOf(character);
+
+                    if (rank < 0) {
+                        throw new IllegalArgumentException(string);
+                    }
+
+                    hands[position.ordinal()] |= Cards.mask(RANKS.length() * suit + rank);
+                }
+            }
+
+            position = Position.leftOf(position);
+        }
+
+        return hands;
+    }
+
+    private static class Task implements Callable<Result> {
+        private final ThreadLocal<DoubleDummy> solvers;
+        private final String board;
+        private final String vulnerable;
+        private final String deal;
+        private final long[] hands;
+        private final Vulnerability vulnerability;
+
+        public Task(ThreadLocal<DoubleDummy> solvers,
+                    String board, String vulnerable, String deal, long[] hands, Vulnerability vulnerability) {
+            this.solvers = solvers;
+            this.board = board;
+            this.vulnerable = vulnerable;
+            this.deal = deal;
+            this.hands = hands;
+            this.vulnerability = vulnerability;
+        }
+
+        @Override
+        public Result call() {
+            var start = System.nanoTime();
+            var tricks = tricks(solvers.get(), hands);
+            var par = new Par(tricks, vulnerability);
+            var nanos = System.nanoTime() - start;
+            var table = new StringBuilder();
+
+            for (var declarer : DECLARERS) {
+                for (var strain : STRAINS) {
+                    table.append(HEX.charAt(tricks[strain][declarer.ordinal()]));
+                }
+            }
+
+            var score = par.getScore();
+            var buffer = new StringBuilder();
+
+            if (! board.isEmpty()) {
+                tag(buffer, "Board", board);
+            }
+
+            tag(buffer, "Vulnerable", vulnerable);
+            tag(buffer, "Deal", deal);
+            tag(buffer, "DoubleDummyTricks", table.toString());
+            tag(buffer, "OptimumScore", (score < 0) ? "EW " + (-score) : "NS " + score);
+            tag(buffer, "ParContract", par.getContracts().isEmpty() ? "Pass" : String.join(", ", par.getContracts()));
+            buffer.append(System.lineSeparator());
+
+            return new Result(buffer.toString(), nanos);
+        }
+
+        private void tag(StringBuilder buffer, String name, String value) {
+            buffer.append("[").append(name).append(" \"").append(value).append("\"]")
+                .append(System.lineSeparator());
+        }
+    }
+
+    private static class Result {
+        private final String text;
+        private final long nanos;
+
+        public Result(String text, long nanos) {
+            this.text = text;
+            this.nanos = nanos;
+        }
+    }
+
+    /**
+     * {@link Analysis} throughput and latency {@link Metrics}.  Latencies
+     * are recorded in a log-linear histogram (eight buckets per power of
+     * two) so percentiles are accurate to within 12.5% and memory use is
+     * independent of the number of deals.
+     */
+    public static class Metrics {
+        private static final int SUB_BITS = 3;
+        private static final int SUB = 1 << SUB_BITS;
+
+        private final long start = System.nanoTime();
+        private long stop = start;
+        private long deals = 0;
+        private long max = 0;
+        private final long[] counts = new long[Long.SIZE * SUB];
+
+        /**
+         * Sole constructor.
+         */
+        protected Metrics() { }
+
+        /**
+         * Method to get the number of deals analyzed.
+         *
+         * @return  The number of deals.
+         */
+        public long getDeals() { return deals; }
+
+        /**
+         * Method to get the elapsed (wall-clock) time.
+         *
+         * @return  The elapsed time (seconds).
+         */
+        public double getElapsed() { return (stop - start) / 1e9; }
+
+        /**
+         * Method to get the throughput.
+         *
+         * @return  The deals analyzed per second.
+         */
+        public double getThroughput() {
+            return (stop > start) ? deals / getElapsed() : 0;
+        }
+
+        /**
+         * Method to get a per-deal latency percentile.
+         *
+         * @param   percentile      The percentile ({@code 0} to
+         *                          {@code 100}).
+         *
+         * @return  The latency (milliseconds).
+         */
+        public double getLatency(double percentile) {
+            var nanos = 0L;
+
+            if (deals > 0) {
+                if (percentile < 100) {
+                    var rank = Math.max(1, (long) Math.ceil(percentile / 100 * deals));
+                    var count = 0L;
+                    var index = 0;
+
+                    while ((count += counts[index]) < rank) {
+                        index += 1;
+                    }
+
+                    nanos = Math.min(value(index), max);
+                } else {
+                    nanos = max;
+                }
+            }
+
+            return nanos / 1e6;
+        }
+
+        /**
+         * Method to record the latency of a deal.
+         *
+         * @param   nanos           The latency (nanoseconds).
+         */
+        protected void record(long nanos) {
+            deals += 1;
+            max = Math.max(max, nanos);
+            counts[index(nanos)] += 1;
+        }
+
+        /**
+         * Method to mark the end of the analysis.
+         */
+        protected void stop() { stop = System.nanoTime(); }
+
+        @Override
+        public String toString() {
+            return String.format("deals=%d, elapsed=%.3fs, deals/s=%.2f,"
+                                 + " p50=%.1fms, p90=%.1fms, p99=%.1fms, max=%.1fms",
+                                 getDeals(), getElapsed(), getThroughput(),
+                                 getLatency(50), getLatency(90),
+                                 getLatency(99), getLatency(100));
+        }
+
+        /*
+         * Histogram bucket:  Values below SUB are exact; otherwise the
+         * power of two and the next SUB_BITS bits.
+         */
+        private static int index(long value) {
+            var index = (int) value;
+
+            if (value >= SUB) {
+                var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+
+                index = (exponent - SUB_BITS + 1) * SUB + (int) ((value >>> (exponent - SUB_BITS)) & (SUB - 1));
+            }
+
+            return index;
+        }
+
+        /*
+         * The upper bound of a histogram bucket.
+         */
+        private static long value(int index) {
+            var value = (long) index;
+
+            if (index >= SUB) {
+                var exponent = index / SUB + SUB_BITS - 1;
+
+                value = ((((long) (SUB + index % SUB)) + 1) << (exponent - SUB_BITS)) - 1;
+            }
+
+            return value;
+        }
+    }
+}
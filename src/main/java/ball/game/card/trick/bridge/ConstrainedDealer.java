@@ -0,0 +1,509 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Constraint-driven bridge dealer.  Deals {@link Card}s (encoded as
+ * described in {@link Cards}) to the four {@link Position}s such that each
+ * hand satisfies its {@link Constraint}.
+ *
+ * Rather than dealing at random and rejecting deals that fail the
+ * {@link Constraint}s, each constrained hand is drawn uniformly from the
+ * hands that satisfy its {@link Constraint}:  The hands available from the
+ * remaining {@link Card}s are counted by length and HCP (for each suit
+ * and then for each pair of suits) and the counts are sampled directly.
+ * Fixed hands are removed first, the remaining hands are drawn most
+ * constrained first, and the last two hands are drawn jointly so both
+ * {@link Constraint}s are satisfied.  Because drawing the hands in
+ * sequence does not weight every valid deal equally, {@link #deal(long[])}
+ * returns the deal's importance weight:  Weighted averages over the deals
+ * are unbiased estimates for uniformly random deals consistent with the
+ * {@link Constraint}s.  A deal is rejected (and re-dealt) only if an
+ * earlier hand leaves no valid hand for a later {@link Position}.
+ *
+ * A {@link ConstrainedDealer} is not thread-safe; {@link #split()} creates
+ * an independent {@link ConstrainedDealer} for parallel tasks.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class ConstrainedDealer {
+
+    /**
+     * Maximum number of attempts per deal:
+     * {@link #ATTEMPTS} = {@value #ATTEMPTS}
+     */
+    public static final int ATTEMPTS = 1 << 20;
+
+    private static final int SEATS = 4;
+    private static final int SUITS = 4;
+    private static final int RANKS = Cards.RANKS;
+    private static final int HAND = Constraint.HAND;
+    private static final int SPOTS = RANKS - 4;
+    private static final int SUIT_HCP = 10;
+    private static final long[][] CHOOSE = new long[Cards.JOKER + 1][];
+
+    static {
+        for (int n = 0; n < CHOOSE.length; n += 1) {
+            CHOOSE[n] = new long[n + 1];
+            CHOOSE[n][0] = 1;
+            CHOOSE[n][n] = 1;
+
+            for (int k = 1; k < n; k += 1) {
+                CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+            }
+        }
+    }
+
+    private final Constraint[] constraints;
+    private final SplittableRandom random;
+    private final long fixed;
+    private final int[] order;
+    private final long[][][] counts = new long[SUITS][HAND + 1][SUIT_HCP + 1];
+    private final long[][][] halves = new long[SUITS / 2][HAND + 1][2 * SUIT_HCP + 1];
+    private final int[] cards = new int[Cards.JOKER];
+    private int total = 0;
+    private long deals = 0;
+    private long attempts = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param   constraints     The {@link Map} of {@link Position} to
+     *                          {@link Constraint} ({@link Position}s not
+     *                          in the {@link Map} are unconstrained).
+     * @param   random          The {@link SplittableRandom}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If fixed hands overlap or a
+     *                          {@link Constraint} cannot be satisfied by
+     *                          any hand.
+     */
+    public ConstrainedDealer(Map<Position,Constraint> constraints, SplittableRandom random) {
+        this(array(constraints), random);
+
+        var remaining = Cards.DECK & ~fixed;
+
+        for (var seat : order) {
+            if (count(remaining, this.constraints[seat], null) == 0) {
+                throw new IllegalArgumentException(Position.values()[seat] + ": " + this.constraints[seat]);
+            }
+        }
+    }
+
+    /**
+     * Constructor with a reproducible seed.
+     *
+     * @param   constraints     The {@link Map} of {@link Position} to
+     *                          {@link Constraint}.
+     * @param   seed            The {@link SplittableRandom} seed.
+     */
+    public ConstrainedDealer(Map<Position,Constraint> constraints, long seed) {
+        this(constraints, new SplittableRandom(seed));
+    }
+
+    private ConstrainedDealer(Constraint[] constraints, SplittableRandom random) {
+        this.constraints = constraints;
+        this.random = random;
+
+        var fixed = 0L;
+
+        for (var constraint : constraints) {
+            if ((fixed & constraint.getHand()) != 0) {
+                throw new IllegalArgumentException("Fixed hands overlap");
+            }
+
+            fixed |= constraint.getHand();
+        }
+
+        this.fixed = fixed;
+        /*
+         * Most constrained (smallest fraction of the possible hands) first.
+         */
+        var remaining = Cards.DECK & ~fixed;
+        var fractions = new double[SEATS];
+
+        for (int seat = 0; seat < SEATS; seat += 1) {
+            if (! constraints[seat].isFixed()) {
+                fractions[seat] = ((double) count(remaining, constraints[seat], null)) / choose(remaining);
+            }
+        }
+
+        this.order =
+            IntStream.range(0, SEATS)
+            .filter(t -> (! constraints[t].isFixed()))
+            .boxed()
+            .sorted(Comparator.comparingDouble(t -> fractions[t]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private static Constraint[] array(Map<Position,Constraint> map) {
+        var constraints = new Constraint[SEATS];
+
+        for (var position : Position.values()) {
+            constraints[position.ordinal()] = map.getOrDefault(position, new Constraint());
+        }
+
+        return constraints;
+    }
+
+    /**
+     * Method to create a new {@link ConstrainedDealer} with the same
+     * {@link Constraint}s and a {@link SplittableRandom#split()}
+     * {@link SplittableRandom}.
+     *
+     * @return  The new {@link ConstrainedDealer}.
+     */
+    public ConstrainedDealer split() {
+        return new ConstrainedDealer(constraints, random.split());
+    }
+
+    /**
+     * Method to get the number of deals dealt.
+     *
+     * @return  The number of deals.
+     */
+    public long getDeals() { return deals; }
+
+    /**
+     * Method to get the number of attempts (deals plus rejected deals).
+     *
+     * @return  The number of attempts.
+     */
+    public long getAttempts() { return attempts; }
+
+    /**
+     * Method to deal a hand to each {@link Position}.
+     *
+     * @param   hands           The array of hands to deal
+     *                          ({@link Cards#mask(java.util.Collection)})
+     *                          indexed by {@link Position#ordinal()}.
+     *
+     * @return  The deal's (positive) importance weight.
+     *
+     * @throws  IllegalStateException
+     *                          If no deal satisfying the
+     *                          {@link Constraint}s is found in
+     *                          {@value #ATTEMPTS} attempts.
+     */
+    public double deal(long[] hands) {
+        for (int attempt = 0; attempt < ATTEMPTS; attempt += 1) {
+            attempts += 1;
+
+            var remaining = Cards.DECK & ~fixed;
+            var weight = 1.0;
+
+            for (int seat = 0; seat < SEATS; seat += 1) {
+                hands[seat] = constraints[seat].getHand();
+            }
+
+            for (int i = 0; i < order.length && weight > 0; i += 1) {
+                var seat = order[i];
+
+                if (i == order.length - 1) {
+                    hands[seat] = remaining;
+                    weight = constraints[seat].test(remaining) ? weight : 0;
+                } else {
+                    var other = (i == order.length - 2) ? constraints[order[i + 1]] : null;
+                    var count = count(remaining, constraints[seat], other);
+
+                    weight *= ((double) count) / choose(remaining);
+
+                    if (count > 0) {
+                        hands[seat] = sample(remaining, constraints[seat], other, count);
+                        remaining &= ~hands[seat];
+                    }
+                }
+            }
+
+            if (weight > 0) {
+                deals += 1;
+
+                return weight;
+            }
+        }
+
+        throw new IllegalStateException("No deal satisfies the constraints");
+    }
+
+    /**
+     * Method to deal a hand to each {@link Position}.
+     *
+     * @param   map             The {@link Map} to receive the hands.
+     *
+     * @return  The deal's importance weight.
+     *
+     * @see #deal(long[])
+     */
+    public double deal(Map<Position,List<Card>> map) {
+        var hands = new long[SEATS];
+        var weight = deal(hands);
+
+        for (var position : Position.values()) {
+            map.put(position, Cards.cards(hands[position.ordinal()]));
+        }
+
+        return weight;
+    }
+
+    /*
+     * Count the hands of the remaining cards that satisfy the constraint
+     * (and, if other is not null, whose complement satisfies other).
+     * Populates counts with the number of permitted holdings of each suit
+     * by length and HCP and halves with the number of holdings of suits
+     * {0, 1} and {2, 3} by combined length and HCP.
+     */
+    private long count(long remaining, Constraint constraint, Constraint other) {
+        if (constraint.isAny() && (other == null || other.isAny())) {
+            return choose(remaining);
+        }
+
+        total = 0;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var ranks = Cards.suit(remaining, suit);
+            var available = Integer.bitCount(ranks);
+            var spots = Integer.bitCount(ranks & ((1 << SPOTS) - 1));
+            var honors = ranks >>> SPOTS;
+            var shortest = constraint.getShortest(suit);
+            var longest = Math.min(constraint.getLongest(suit), available);
+
+            if (other != null) {
+                shortest = Math.max(shortest, available - other.getLongest(suit));
+                longest = Math.min(longest, available - other.getShortest(suit));
+            }
+
+            total += Constraint.hcp(ranks);
+
+            for (var row : counts[suit]) {
+                Arrays.fill(row, 0);
+            }
+            /*
+             * Every subset of the honors (including the empty set).
+             */
+            for (int subset = honors; ; subset = (subset - 1) & honors) {
+                var size = Integer.bitCount(subset);
+                var hcp = Constraint.hcp(subset << SPOTS);
+
+                for (int length = Math.max(size, shortest); length <= Math.min(size + spots, longest); length += 1) {
+                    counts[suit][length][hcp] += CHOOSE[spots][length - size];
+                }
+
+                if (subset == 0) {
+                    break;
+                }
+            }
+        }
+
+        for (int half = 0; half < halves.length; half += 1) {
+            var first = counts[2 * half];
+            var second = counts[2 * half + 1];
+
+            for (var row : halves[half]) {
+                Arrays.fill(row, 0);
+            }
+
+            for (int l0 = 0; l0 <= HAND; l0 += 1) {
+                for (int h0 = 0; h0 <= SUIT_HCP; h0 += 1) {
+                    if (first[l0][h0] != 0) {
+                        for (int l1 = 0; l0 + l1 <= HAND; l1 += 1) {
+                            for (int h1 = 0; h1 <= SUIT_HCP; h1 += 1) {
+                                halves[half][l0 + l1][h0 + h1] += first[l0][h0] * second[l1][h1];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        var count = 0L;
+
+        for (int length = 0; length <= HAND; length += 1) {
+            for (int h0 = 0; h0 <= 2 * SUIT_HCP; h0 += 1) {
+                for (int h1 = 0; h1 <= 2 * SUIT_HCP; h1 += 1) {
+                    if (isValid(constraint, other, h0 + h1)) {
+                        count += halves[0][length][h0] * halves[1][HAND - length][h1];
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private boolean isValid(Constraint constraint, Constraint other, int hcp) {
+        return (constraint.getMinimum() <= hcp && hcp <= constraint.getMaximum()
+                && (other == null
+                    || (other.getMinimum() <= total - hcp && total - hcp <= other.getMaximum())));
+    }
+
+    /*
+     * Draw a hand uniformly from the hands counted by the preceding
+     * count(remaining, constraint, other).
+     */
+    private long sample(long remaining, Constraint constraint, Constraint other, long count) {
+        var hand = 0L;
+
+        if (constraint.isAny() && (other == null || other.isAny())) {
+            hand = choose(remaining, HAND);
+        } else {
+            var r = random.nextLong(count);
+            var length = 0;
+            var h0 = 0;
+            var h1 = 0;
+
+            loop:
+            for (length = 0; length <= HAND; length += 1) {
+                for (h0 = 0; h0 <= 2 * SUIT_HCP; h0 += 1) {
+                    for (h1 = 0; h1 <= 2 * SUIT_HCP; h1 += 1) {
+                        if (isValid(constraint, other, h0 + h1)) {
+                            r -= halves[0][length][h0] * halves[1][HAND - length][h1];
+
+                            if (r < 0) {
+                                break loop;
+                            }
+                        }
+                    }
+                }
+            }
+
+            hand |= sample(remaining, 0, length, h0);
+            hand |= sample(remaining, 1, HAND - length, h1);
+        }
+
+        return hand;
+    }
+
+    /*
+     * Draw the holdings of a half (two suits) of the combined length and
+     * HCP.
+     */
+    private long sample(long remaining, int half, int length, int hcp) {
+        var first = counts[2 * half];
+        var second = counts[2 * half + 1];
+        var r = random.nextLong(halves[half][length][hcp]);
+        var l0 = 0;
+        var h0 = 0;
+
+        loop:
+        for (l0 = 0; l0 <= length; l0 += 1) {
+            for (h0 = Math.max(0, hcp - SUIT_HCP); h0 <= Math.min(hcp, SUIT_HCP); h0 += 1) {
+                r -= first[l0][h0] * second[length - l0][hcp - h0];
+
+                if (r < 0) {
+                    break loop;
+                }
+            }
+        }
+
+        var suit = 2 * half;
+        var hand = 0L;
+
+        hand |= ((long) holding(Cards.suit(remaining, suit), l0, h0)) << (RANKS * suit);
+        suit += 1;
+        hand |= ((long) holding(Cards.suit(remaining, suit), length - l0, hcp - h0)) << (RANKS * suit);
+
+        return hand;
+    }
+
+    /*
+     * Draw a holding of the length and HCP uniformly from the ranks.
+     */
+    private int holding(int ranks, int length, int hcp) {
+        var spots = ranks & ((1 << SPOTS) - 1);
+        var honors = ranks >>> SPOTS;
+        var n = Integer.bitCount(spots);
+        var total = 0L;
+
+        for (int subset = honors; ; subset = (subset - 1) & honors) {
+            total += ways(subset, n, length, hcp);
+
+            if (subset == 0) {
+                break;
+            }
+        }
+
+        var r = random.nextLong(total);
+        var holding = 0;
+
+        for (int subset = honors; ; subset = (subset - 1) & honors) {
+            r -= ways(subset, n, length, hcp);
+
+            if (r < 0) {
+                holding = (subset << SPOTS) | (int) choose(spots, length - Integer.bitCount(subset));
+                break;
+            }
+        }
+
+        return holding;
+    }
+
+    /*
+     * The number of holdings of the length and HCP with exactly the
+     * subset of honors and n spot cards available.
+     */
+    private static long ways(int subset, int n, int length, int hcp) {
+        var size = Integer.bitCount(subset);
+        var ways = 0L;
+
+        if (Constraint.hcp(subset << SPOTS) == hcp && size <= length && length - size <= n) {
+            ways = CHOOSE[n][length - size];
+        }
+
+        return ways;
+    }
+
+    /*
+     * Draw count cards uniformly from the hand (partial Fisher-Yates).
+     */
+    private long choose(long hand, int count) {
+        var n = 0;
+
+        for (var bits = hand; bits != 0; bits &= bits - 1) {
+            cards[n] = Long.numberOfTrailingZeros(bits);
+            n += 1;
+        }
+
+        var chosen = 0L;
+
+        for (int i = 0; i < count; i += 1) {
+            var j = i + random.nextInt(n - i);
+            var card = cards[j];
+
+            cards[j] = cards[i];
+            cards[i] = card;
+            chosen |= 1L << card;
+        }
+
+        return chosen;
+    }
+
+    private static long choose(long hand) {
+        return CHOOSE[Cards.count(hand)][HAND];
+    }
+}
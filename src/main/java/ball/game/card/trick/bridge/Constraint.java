@@ -0,0 +1,286 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Card.Suit;
+import ball.game.card.Cards;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongPredicate;
+
+/**
+ * Bridge hand {@link Constraint}:  A high-card point (HCP) range, a
+ * length range for each {@link Suit}, or a fixed (known) hand.  Hands are
+ * encoded as described in {@link Cards}.  HCP are counted 4-3-2-1 for
+ * ace, king, queen, and jack.  The mutators return {@link.this}
+ * {@link Constraint} so they may be chained, e.g.,
+ * {@code new Constraint().hcp(15, 17).length(Suit.SPADES, 0, 4)}.  See
+ * {@link ConstrainedDealer}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Constraint implements LongPredicate {
+
+    /**
+     * Maximum HCP in a bridge hand:  {@link #HCP} = {@value #HCP}
+     */
+    public static final int HCP = 37;
+
+    /**
+     * Number of {@link Card}s in a bridge hand:
+     * {@link #HAND} = {@value #HAND}
+     */
+    public static final int HAND = 13;
+
+    private static final int SUITS = Suit.values().length;
+
+    private int minimum = 0;
+    private int maximum = HCP;
+    private final int[] shortest = new int[SUITS];
+    private final int[] longest = new int[SUITS];
+    private long hand = 0;
+
+    /**
+     * Sole constructor.  The new {@link Constraint} accepts any hand.
+     */
+    public Constraint() {
+        Arrays.fill(longest, HAND);
+    }
+
+    /**
+     * Method to constrain the HCP.
+     *
+     * @param   minimum         The minimum HCP.
+     * @param   maximum         The maximum HCP.
+     *
+     * @return  {@link.this} {@link Constraint}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the range is empty or out of bounds.
+     */
+    public Constraint hcp(int minimum, int maximum) {
+        if (minimum < 0 || minimum > maximum || maximum > HCP) {
+            throw new IllegalArgumentException("hcp=" + minimum + "-" + maximum);
+        }
+
+        this.minimum = minimum;
+        this.maximum = maximum;
+
+        return this;
+    }
+
+    /**
+     * Method to constrain the length of a {@link Suit}.
+     *
+     * @param   suit            The {@link Suit}.
+     * @param   shortest        The minimum length.
+     * @param   longest         The maximum length.
+     *
+     * @return  {@link.this} {@link Constraint}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the range is empty or out of bounds.
+     */
+    public Constraint length(Suit suit, int shortest, int longest) {
+        if (shortest < 0 || shortest > longest || longest > HAND) {
+            throw new IllegalArgumentException(suit + "=" + shortest + "-" + longest);
+        }
+
+        this.shortest[suit.ordinal()] = shortest;
+        this.longest[suit.ordinal()] = longest;
+
+        return this;
+    }
+
+    /**
+     * Method to fix the hand.
+     *
+     * @param   hand            The hand ({@link Cards#mask(Collection)}).
+     *
+     * @return  {@link.this} {@link Constraint}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the hand does not have exactly
+     *                          {@value #HAND} {@link Card}s.
+     */
+    public Constraint hand(long hand) {
+        if (Cards.count(hand & Cards.DECK) != HAND || (hand & ~Cards.DECK) != 0) {
+            throw new IllegalArgumentException("hand=" + Cards.cards(hand));
+        }
+
+        this.hand = hand;
+
+        return this;
+    }
+
+    /**
+     * Method to fix the hand.
+     *
+     * @param   hand            The {@link Collection} of {@link Card}s.
+     *
+     * @return  {@link.this} {@link Constraint}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the hand does not have exactly
+     *                          {@value #HAND} distinct {@link Card}s.
+     */
+    public Constraint hand(Collection<Card> hand) {
+        if (hand.size() != HAND) {
+            throw new IllegalArgumentException("hand=" + hand);
+        }
+
+        return hand(Cards.mask(hand));
+    }
+
+    /**
+     * Method to get the fixed hand.
+     *
+     * @return  The hand ({@link Cards#mask(Collection)}) or {@code 0} if
+     *          not fixed.
+     */
+    public long getHand() { return hand; }
+
+    /**
+     * Method to determine if the hand is fixed.
+     *
+     * @return  {@code true} if fixed; {@code false} otherwise.
+     */
+    public boolean isFixed() { return hand != 0; }
+
+    /**
+     * Method to determine if {@link.this} {@link Constraint} accepts any
+     * hand.
+     *
+     * @return  {@code true} if unconstrained; {@code false} otherwise.
+     */
+    public boolean isAny() {
+        var any = (! isFixed()) && minimum == 0 && maximum == HCP;
+
+        for (int suit = 0; suit < SUITS && any; suit += 1) {
+            any &= shortest[suit] == 0 && longest[suit] == HAND;
+        }
+
+        return any;
+    }
+
+    /**
+     * Method to get the minimum HCP.
+     *
+     * @return  The minimum HCP.
+     */
+    public int getMinimum() { return minimum; }
+
+    /**
+     * Method to get the maximum HCP.
+     *
+     * @return  The maximum HCP.
+     */
+    public int getMaximum() { return maximum; }
+
+    /**
+     * Method to get the minimum length of a {@link Suit}.
+     *
+     * @param   suit            The {@link Suit#ordinal()}.
+     *
+     * @return  The minimum length.
+     */
+    public int getShortest(int suit) { return shortest[suit]; }
+
+    /**
+     * Method to get the maximum length of a {@link Suit}.
+     *
+     * @param   suit            The {@link Suit#ordinal()}.
+     *
+     * @return  The maximum length.
+     */
+    public int getLongest(int suit) { return longest[suit]; }
+
+    @Override
+    public boolean test(long hand) {
+        var test = isFixed() ? (hand == this.hand) : Cards.count(hand) == HAND;
+
+        if (test) {
+            var hcp = hcp(hand);
+
+            test = minimum <= hcp && hcp <= maximum;
+        }
+
+        for (int suit = 0; suit < SUITS && test; suit += 1) {
+            var length = Integer.bitCount(Cards.suit(hand, suit));
+
+            test = shortest[suit] <= length && length <= longest[suit];
+        }
+
+        return test;
+    }
+
+    @Override
+    public String toString() {
+        var string = new StringBuilder();
+
+        if (isFixed()) {
+            string.append(Cards.cards(hand));
+        } else {
+            string.append("hcp=").append(minimum).append("-").append(maximum);
+
+            for (var suit : Suit.values()) {
+                string.append(",").append(suit).append("=")
+                    .append(shortest[suit.ordinal()]).append("-").append(longest[suit.ordinal()]);
+            }
+        }
+
+        return string.toString();
+    }
+
+    /**
+     * Static method to count the HCP of a hand.
+     *
+     * @param   hand            The hand ({@link Cards#mask(Collection)}).
+     *
+     * @return  The HCP.
+     */
+    public static int hcp(long hand) {
+        var hcp = 0;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            hcp += hcp(Cards.suit(hand, suit));
+        }
+
+        return hcp;
+    }
+
+    /**
+     * Static method to count the HCP of a {@link Suit} rank mask
+     * ({@link Cards#suit(long,int)}).
+     *
+     * @param   ranks           The rank mask.
+     *
+     * @return  The HCP.
+     */
+    public static int hcp(int ranks) {
+        var hcp = 0;
+
+        for (var honors = ranks >>> (Cards.RANKS - 4); honors != 0; honors &= honors - 1) {
+            hcp += Integer.numberOfTrailingZeros(honors) + 1;
+        }
+
+        return hcp;
+    }
+}
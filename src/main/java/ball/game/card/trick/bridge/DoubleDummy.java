@@ -0,0 +1,963 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Card.Suit;
+import ball.game.card.Cards;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Double-dummy bridge solver.  Given all four hands (encoded as described
+ * in {@link Cards} and indexed by {@link Position#ordinal()}), the trump
+ * {@link Suit} ({@code null} for notrump), and the opening leader,
+ * {@link #solve(Position)} calculates the number of tricks North-South
+ * take with best play by all four players.
+ *
+ * The search is a sequence of zero-window alpha-beta searches ("can
+ * North-South take at least {@code n} tricks?") that share a transposition
+ * table of bounds keyed at trick boundaries.  Keys are normalized to the
+ * relative ranks of the remaining {@link Card}s so positions that differ
+ * only in which small {@link Card}s have been played are transpositions.
+ * Each trick boundary is bounded by the side on lead's quick tricks, only
+ * one {@link Card} of each sequence (equivalent {@link Card}s) is
+ * searched, and moves are ordered (cash winners, win cheaply, otherwise
+ * play low) to maximize cut-offs.
+ *
+ * The table persists across calls to {@link #solve(Position)} so solving
+ * the same deal for each leader is cheaper than the first solution.  A
+ * {@link DoubleDummy} is not thread-safe; create one per thread and
+ * {@link #reset(long[],Suit)} it for each deal for parallel analysis.
+ *
+ * Each table entry is six {@code long}s so a {@link DoubleDummy} holds
+ * 48 &times; 2<sup>bits</sup> bytes:  12 MB at the default
+ * ({@value #BITS}) size.  Solving a full deal averages about 0.8 seconds
+ * but the hardest deals take ten seconds or more (a larger table helps
+ * those somewhat:  {@code bits = 20} (48 MB) cuts the worst case by
+ * about 15%).  The solver does not yet meet a "well under a second"
+ * bound for every deal.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class DoubleDummy {
+    private static final int SEATS = 4;
+    private static final int SUITS = 4;
+    private static final int RANKS = Cards.RANKS;
+    private static final int TRICKS = RANKS;
+    private static final int NOTRUMP = -1;
+    private static final int WAYS_BITS = 7;
+    private static final int WAYS = 1 << WAYS_BITS;
+    private static final int LENGTHS = 0;
+    private static final int OWNERS = 1;
+    private static final int MASKS = 3;
+    private static final int BOUNDS = 5;
+    private static final int STRIDE = 6;
+
+    /**
+     * Default transposition table size (log2 entries):
+     * {@link #BITS} = {@value #BITS}
+     */
+    public static final int BITS = 18;
+
+    /**
+     * Maximum transposition table size (log2 entries):
+     * {@link #MAXIMUM_BITS} = {@value #MAXIMUM_BITS}
+     */
+    public static final int MAXIMUM_BITS = 26;
+
+    private final long[] deal = new long[SEATS];
+    private int trump = NOTRUMP;
+    private int tricks = 0;
+    private final long[] hands = new long[SEATS];
+    private final int[][] played = new int[TRICKS][SEATS];
+    private final int[][] moves = new int[SEATS * TRICKS][RANKS];
+    private final long[][] keys = new long[TRICKS + 1][3];
+    private final int shift;
+    private final long[] table;
+    private final int[] sizes;
+    private int ns = 0;
+    private long relevant = 0;
+    private long cashed = 0;
+    private long nodes = 0;
+
+    /**
+     * Constructor with a specified transposition table size.
+     *
+     * @param   hands           The hands ({@link Cards#mask(Collection)})
+     *                          indexed by {@link Position#ordinal()}.
+     * @param   trump           The trump {@link Suit} ({@code null} for
+     *                          notrump).
+     * @param   bits            The transposition table size (log2
+     *                          entries; the table is 48 &times;
+     *                          2<sup>bits</sup> bytes).
+     *
+     * @throws  IllegalArgumentException
+     *                          If bits is not greater than
+     *                          {@value #WAYS_BITS} and at most
+     *                          {@value #MAXIMUM_BITS} or the hands are not
+     *                          four disjoint hands of the same size (at
+     *                          most {@value #TRICKS}) {@link Card}s
+     *                          without {@link Card.Rank#JOKER JOKER}s.
+     */
+    public DoubleDummy(long[] hands, Suit trump, int bits) {
+        if (bits <= WAYS_BITS || bits > MAXIMUM_BITS) {
+            throw new IllegalArgumentException("bits=" + bits);
+        }
+
+        this.shift = Long.SIZE - (bits - WAYS_BITS);
+        this.table = new long[STRIDE << bits];
+        this.sizes = new int[1 << (bits - WAYS_BITS)];
+
+        deal(hands, trump);
+    }
+
+    /**
+     * Constructor with a default-size ({@value #BITS}) transposition
+     * table.
+     *
+     * @param   hands           The hands ({@link Cards#mask(Collection)})
+     *                          indexed by {@link Position#ordinal()}.
+     * @param   trump           The trump {@link Suit} ({@code null} for
+     *                          notrump).
+     */
+    public DoubleDummy(long[] hands, Suit trump) {
+        this(hands, trump, BITS);
+    }
+
+    /**
+     * Constructor from a {@link Map} of {@link Position} to hand.
+     *
+     * @param   hands           The {@link Map} of {@link Position} to
+     *                          hand.
+     * @param   trump           The trump {@link Suit} ({@code null} for
+     *                          notrump).
+     */
+    public DoubleDummy(Map<Position,? extends Collection<Card>> hands, Suit trump) {
+        this(masks(hands), trump);
+    }
+
+    /**
+     * Method to reuse {@link.this} {@link DoubleDummy} (and its
+     * transposition table) for another deal.  Clearing the table only
+     * resets its bucket counts so this is much cheaper than allocating
+     * a new {@link DoubleDummy}.
+     *
+     * @param   hands           The hands ({@link Cards#mask(Collection)})
+     *                          indexed by {@link Position#ordinal()}.
+     * @param   trump           The trump {@link Suit} ({@code null} for
+     *                          notrump).
+     *
+     * @return  {@link.this}
+     *
+     * @throws  IllegalArgumentException
+     *                          If the hands are not four disjoint hands of
+     *                          the same size (at most {@value #TRICKS})
+     *                          {@link Card}s without
+     *                          {@link Card.Rank#JOKER JOKER}s.
+     */
+    public DoubleDummy reset(long[] hands, Suit trump) {
+        deal(hands, trump);
+        Arrays.fill(sizes, 0);
+
+        return this;
+    }
+
+    private void deal(long[] hands, Suit trump) {
+        if (hands.length != SEATS) {
+            throw new IllegalArgumentException("Expected " + SEATS + " hands");
+        }
+
+        var all = 0L;
+
+        for (var hand : hands) {
+            if ((hand & ~Cards.DECK) != 0 || (hand & all) != 0
+                || Long.bitCount(hand) != Long.bitCount(hands[0])) {
+                throw new IllegalArgumentException("Invalid deal");
+            }
+
+            all |= hand;
+        }
+
+        if (Long.bitCount(hands[0]) > TRICKS) {
+            throw new IllegalArgumentException("Invalid deal");
+        }
+
+        System.arraycopy(hands, 0, deal, 0, SEATS);
+        this.trump = (trump != null) ? trump.ordinal() : NOTRUMP;
+        this.tricks = Long.bitCount(hands[0]);
+    }
+
+    private static long[] masks(Map<Position,? extends Collection<Card>> map) {
+        var hands = new long[SEATS];
+
+        for (var position : Position.values()) {
+            var hand = map.get(position);
+
+            if (hand == null || hand.stream().anyMatch(Card.Rank.JOKER)) {
+                throw new IllegalArgumentException("Invalid hand for " + position);
+            }
+
+            hands[position.ordinal()] = Cards.mask(hand);
+
+            if (Long.bitCount(hands[position.ordinal()]) != hand.size()) {
+                throw new IllegalArgumentException("Invalid hand for " + position);
+            }
+        }
+
+        return hands;
+    }
+
+    /**
+     * Method to get the number of tricks to be played.
+     *
+     * @return  The number of tricks.
+     */
+    public int getTricks() { return tricks; }
+
+    /**
+     * Method to get the total number of positions searched by this
+     * {@link DoubleDummy}.
+     *
+     * @return  The number of nodes.
+     */
+    public long getNodes() { return nodes; }
+
+    /**
+     * Method to solve the deal.
+     *
+     * @param   leader          The {@link Position} on lead.
+     *
+     * @return  The number of tricks North-South take (East-West take the
+     *          remaining {@link #getTricks()}).
+     */
+    public int solve(Position leader) {
+        System.arraycopy(deal, 0, hands, 0, SEATS);
+        ns = 0;
+
+        var lower = 0;
+        var upper = tricks;
+
+        while (lower < upper) {
+            var target = (lower + upper + 1) / 2;
+
+            if (search(leader.ordinal(), target)) {
+                lower = target;
+            } else {
+                upper = target - 1;
+            }
+        }
+
+        return lower;
+    }
+
+    /**
+     * Method to solve the deal for a side.
+     *
+     * @param   leader          The {@link Position} on lead.
+     * @param   side            Any {@link Position} of the side.
+     *
+     * @return  The number of tricks the side takes.
+     */
+    public int solve(Position leader, Position side) {
+        var ns = solve(leader);
+
+        return isNorthSouth(side.ordinal()) ? ns : tricks - ns;
+    }
+
+    /*
+     * Search from a trick boundary:  Can North-South take at least target
+     * tricks?  Sets relevant to the cards whose ranks determined the
+     * result.
+     */
+    private boolean search(int leader, int target) {
+        var remaining = Long.bitCount(hands[leader]);
+
+        relevant = 0;
+
+        if (ns >= target) {
+            return true;
+        }
+
+        if (ns + remaining < target) {
+            return false;
+        }
+
+        nodes += 1;
+
+        var live = hands[0] | hands[1] | hands[2] | hands[3];
+        var needed = isNorthSouth(leader) ? (target - ns) : (ns + remaining - target + 1);
+
+        if (winners(leader, live) >= needed && quick(leader, remaining) >= needed) {
+            return isNorthSouth(leader);
+        }
+
+        var key = keys[remaining];
+
+        key(live, key);
+
+        var entry = probe(leader, key, target - ns);
+
+        if (entry >= 0) {
+            relevant = top(live, table[entry + MASKS], table[entry + MASKS + 1]);
+
+            return ns + lower(entry) >= target;
+        }
+
+        var trumps = (trump != NOTRUMP) ? Cards.suit(live, trump) : 0;
+
+        if (trumps != 0) {
+            var seat = holder(trump, trumps);
+            var ranks = Cards.suit(hands[seat], trump);
+            var sure = sequence(ranks, trumps);
+
+            relevant = ((long) top(ranks, sure)) << (RANKS * trump);
+
+            if (isNorthSouth(seat)) {
+                if (ns + sure >= target) {
+                    return true;
+                }
+            } else {
+                if (ns + remaining - sure < target) {
+                    return false;
+                }
+            }
+        }
+
+        var result = play(leader, 0, SEATS * (TRICKS - remaining), target);
+
+        if (result) {
+            store(leader, key, live, target - ns, remaining);
+        } else {
+            store(leader, key, live, 0, target - ns - 1);
+        }
+
+        return result;
+    }
+
+    /*
+     * Search within a trick:  North-South maximize, East-West minimize.
+     */
+    private boolean play(int leader, int index, int depth, int target) {
+        var seat = (leader + index) & (SEATS - 1);
+        var maximize = isNorthSouth(seat);
+        var trick = played[depth / SEATS];
+        var moves = this.moves[depth];
+        var count = generate(leader, index, trick, moves);
+        var union = 0L;
+
+        for (int i = 0; i < count; i += 1) {
+            var card = moves[i] & 0xFF;
+            var bit = 1L << card;
+
+            hands[seat] ^= bit;
+            trick[index] = card;
+
+            var result = false;
+
+            if (index < SEATS - 1) {
+                result = play(leader, index + 1, depth + 1, target);
+            } else {
+                var winning = winner(trick);
+                var winner = (leader + winning) & (SEATS - 1);
+                var won = isNorthSouth(winner) ? 1 : 0;
+
+                ns += won;
+                result = search(winner, target);
+                ns -= won;
+
+                if (isByRank(trick, winning)) {
+                    relevant |= 1L << trick[winning];
+                }
+            }
+
+            hands[seat] ^= bit;
+
+            if (result == maximize) {
+                return result;
+            }
+
+            union |= relevant;
+        }
+
+        relevant = union;
+
+        return (! maximize);
+    }
+
+    /*
+     * Generate (one card of each sequence) and order the legal moves.
+     * Each move is encoded as (score << 8) | card.
+     */
+    private int generate(int leader, int index, int[] trick, int[] moves) {
+        var seat = (leader + index) & (SEATS - 1);
+        var hand = hands[seat];
+        var led = (index > 0) ? trick[0] / RANKS : NOTRUMP;
+        var winning = 0;
+
+        for (int i = 1; i < index; i += 1) {
+            if (beats(trick[i], trick[winning])) {
+                winning = i;
+            }
+        }
+
+        var follow = led != NOTRUMP && Cards.suit(hand, led) != 0;
+        var count = 0;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var mine = Cards.suit(hand, suit);
+
+            if (mine == 0 || (follow && suit != led)) {
+                continue;
+            }
+
+            var all = live(suit);
+
+            for (int i = 0; i < index; i += 1) {
+                if (trick[i] / RANKS == suit) {
+                    all |= 1 << (trick[i] % RANKS);
+                }
+            }
+
+            for (var bits = mine; bits != 0; bits &= bits - 1) {
+                var rank = Integer.numberOfTrailingZeros(bits);
+                var below = all & ((1 << rank) - 1);
+
+                if (below != 0 && (mine & Integer.highestOneBit(below)) != 0) {
+                    continue;
+                }
+
+                var card = RANKS * suit + rank;
+                var score = 0;
+
+                if (index == 0) {
+                    score = lead(seat, suit, rank, mine, all);
+                } else {
+                    score = follow(leader, index, trick, winning, card);
+                }
+
+                score += RANKS - rank;
+
+                var move = ((score + 4 * RANKS) << 8) | card;
+                var j = count;
+
+                while (j > 0 && moves[j - 1] < move) {
+                    moves[j] = moves[j - 1];
+                    j -= 1;
+                }
+
+                moves[j] = move;
+                count += 1;
+            }
+        }
+
+        return count;
+    }
+
+    /*
+     * Following (or discarding):  Play low if partner's card will win the
+     * trick; otherwise win cheaply if no later opponent can beat the card.
+     */
+    private int follow(int leader, int index, int[] trick, int winning, int card) {
+        var led = trick[0] / RANKS;
+        var suit = card / RANKS;
+        var partner = (winning == index - 2) && isSecure(leader, index, led, trick[winning]);
+        var score = 0;
+
+        if (partner) {
+            score = -RANKS;
+        } else if (beats(card, trick[winning])) {
+            score = isSecure(leader, index, led, card) ? 2 * RANKS : RANKS;
+        }
+
+        if (suit != led && (! beats(card, trick[winning]))) {
+            if (suit == trump) {
+                score -= 2 * RANKS;
+            } else if (Integer.highestOneBit(live(suit)) == 1 << (card % RANKS)) {
+                score -= RANKS;
+            }
+        }
+
+        return score;
+    }
+
+    /*
+     * Can no opponent playing later in the trick beat the card?
+     */
+    private boolean isSecure(int leader, int index, int led, int card) {
+        var seat = (leader + index) & (SEATS - 1);
+        var secure = true;
+
+        for (int i = index + 1; i < SEATS && secure; i += 1) {
+            var later = (leader + i) & (SEATS - 1);
+
+            if (((later ^ seat) & 1) != 0) {
+                var highest = highest(later, led);
+
+                secure = highest < 0 || (! beats(highest, card));
+            }
+        }
+
+        return secure;
+    }
+
+    /*
+     * The highest card a hand can play to a trick led in suit (-1 if
+     * none).
+     */
+    private int highest(int seat, int led) {
+        var hand = hands[seat];
+        var ranks = Cards.suit(hand, led);
+        var suit = led;
+
+        if (ranks == 0 && trump != NOTRUMP) {
+            ranks = Cards.suit(hand, trump);
+            suit = trump;
+        }
+
+        return (ranks != 0) ? RANKS * suit + 31 - Integer.numberOfLeadingZeros(ranks) : -1;
+    }
+
+    /*
+     * Leading:  Cash winners (unless an opponent can ruff), lead to
+     * partner's winners or ruffs, prefer leading through the second hand's
+     * high card, avoid leading trumps, and prefer long suits.
+     */
+    private int lead(int seat, int suit, int rank, int mine, int all) {
+        var score = 0;
+        var above = all & ~((2 << rank) - 1);
+        var top = Integer.highestOneBit(all);
+        var lho = (seat + 1) & (SEATS - 1);
+        var partner = (seat + 2) & (SEATS - 1);
+        var rho = (seat + 3) & (SEATS - 1);
+        var ruff = trump != NOTRUMP && suit != trump && (ruffs(lho, suit) || ruffs(rho, suit));
+
+        if ((above & ~mine) == 0) {
+            score = ruff ? 0 : 3 * RANKS;
+        } else if ((Cards.suit(hands[partner], suit) & top) != 0) {
+            score = ruff ? 0 : 2 * RANKS;
+        } else if (trump != NOTRUMP && suit != trump && ruffs(partner, suit) && (! ruff)) {
+            score = 2 * RANKS;
+        } else if (suit == trump) {
+            score = -RANKS;
+        } else if ((Cards.suit(hands[lho], suit) & top) != 0) {
+            score = RANKS / 2;
+        } else if ((Cards.suit(hands[rho], suit) & top) != 0) {
+            score = -RANKS / 2;
+        }
+
+        score += Integer.bitCount(mine);
+
+        return score;
+    }
+
+    private boolean ruffs(int seat, int suit) {
+        var hand = hands[seat & (SEATS - 1)];
+
+        return Cards.suit(hand, suit) == 0 && Cards.suit(hand, trump) != 0;
+    }
+
+    /*
+     * Rank mask of the cards of a suit still in play.
+     */
+    private int live(int suit) {
+        var all = 0;
+
+        for (int seat = 0; seat < SEATS; seat += 1) {
+            all |= Cards.suit(hands[seat], suit);
+        }
+
+        return all;
+    }
+
+    private boolean beats(int card, int winning) {
+        var suit = card / RANKS;
+
+        return (suit == winning / RANKS) ? (card > winning) : (suit == trump);
+    }
+
+    private int winner(int[] trick) {
+        var winning = 0;
+
+        for (int i = 1; i < SEATS; i += 1) {
+            if (beats(trick[i], trick[winning])) {
+                winning = i;
+            }
+        }
+
+        return winning;
+    }
+
+    private boolean isByRank(int[] trick, int winning) {
+        var byRank = false;
+
+        for (int i = 0; i < SEATS && (! byRank); i += 1) {
+            byRank = i != winning && trick[i] / RANKS == trick[winning] / RANKS;
+        }
+
+        return byRank;
+    }
+
+    /*
+     * Upper bound of quick(leader, remaining) (checked first since it is
+     * much cheaper):  The longer holding of the side on lead in each suit
+     * in which it holds the top card (plus a ruff).
+     */
+    private int winners(int leader, long live) {
+        var partner = (leader + 2) & (SEATS - 1);
+        var winners = (trump != NOTRUMP) ? 1 : 0;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var mine = Cards.suit(hands[leader], suit);
+            var theirs = Cards.suit(hands[partner], suit);
+
+            if (((mine | theirs) & Integer.highestOneBit(Cards.suit(live, suit))) != 0) {
+                winners += Math.max(Integer.bitCount(mine), Integer.bitCount(theirs));
+            }
+        }
+
+        return winners;
+    }
+
+    /*
+     * Lower bound of the tricks the side on lead can take without losing
+     * the lead:  The leader's own winners or, if the leader can reach
+     * partner's hand (with a winner or a ruff), partner's winners.  Sets
+     * relevant to the cards whose ranks determine the bound.
+     */
+    private int quick(int leader, int remaining) {
+        var partner = (leader + 2) & (SEATS - 1);
+        var quick = cash(leader);
+        var relevant = cashed;
+        var cash = cash(partner);
+
+        if (cash > quick) {
+            for (int suit = 0; suit < SUITS; suit += 1) {
+                if (Cards.suit(hands[leader], suit) != 0 && Cards.suit(cashed, suit) != 0) {
+                    quick = cash;
+                    relevant = cashed;
+                    break;
+                }
+            }
+        }
+
+        if (trump != NOTRUMP && quick < remaining) {
+            var trumps = Cards.suit(hands[partner], trump);
+
+            for (int suit = 0; suit < SUITS && trumps != 0; suit += 1) {
+                if (suit != trump
+                    && Cards.suit(hands[leader], suit) != 0
+                    && Cards.suit(hands[partner], suit) == 0
+                    && (! ruffs((leader + 1) & (SEATS - 1), suit))
+                    && (! ruffs((leader + 3) & (SEATS - 1), suit))) {
+                    var bit = 1L << (RANKS * trump + Integer.numberOfTrailingZeros(trumps));
+
+                    hands[partner] ^= bit;
+                    cash = 1 + cash(partner);
+                    hands[partner] ^= bit;
+
+                    if (cash > quick) {
+                        quick = cash;
+                        relevant = cashed;
+                    }
+
+                    break;
+                }
+            }
+        }
+
+        this.relevant = relevant;
+
+        return Math.min(quick, remaining);
+    }
+
+    /*
+     * The tricks a hand on lead can cash:  In each suit, the rounds won by
+     * the hand's highest card while partner and the opponents play their
+     * lowest (limited by the length of any opponent who could ruff).  Sets
+     * cashed to the cashed cards.
+     */
+    private int cash(int seat) {
+        var hand = hands[seat];
+        var lho = hands[(seat + 1) & (SEATS - 1)];
+        var partner = hands[(seat + 2) & (SEATS - 1)];
+        var rho = hands[(seat + 3) & (SEATS - 1)];
+        var cash = 0;
+
+        cashed = 0;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var mine = Cards.suit(hand, suit);
+            var count = rounds(mine, Cards.suit(partner, suit), Cards.suit(lho, suit), Cards.suit(rho, suit));
+
+            if (count > 0 && trump != NOTRUMP && suit != trump) {
+                if (Cards.suit(lho, trump) != 0) {
+                    count = Math.min(count, Integer.bitCount(Cards.suit(lho, suit)));
+                }
+
+                if (Cards.suit(rho, trump) != 0) {
+                    count = Math.min(count, Integer.bitCount(Cards.suit(rho, suit)));
+                }
+            }
+
+            cashed |= ((long) top(mine, count)) << (RANKS * suit);
+            cash += count;
+        }
+
+        return cash;
+    }
+
+    /*
+     * The number of rounds of a suit won by leading the highest card while
+     * partner and the opponents play their lowest.
+     */
+    private static int rounds(int mine, int partner, int lho, int rho) {
+        var rounds = 0;
+
+        while (mine != 0) {
+            var high = Integer.highestOneBit(mine);
+
+            if ((lho | rho) > high || (partner & -partner) > high) {
+                break;
+            }
+
+            mine ^= high;
+            partner &= partner - 1;
+            lho &= lho - 1;
+            rho &= rho - 1;
+            rounds += 1;
+        }
+
+        return rounds;
+    }
+
+    /*
+     * The length of the top sequence of the live cards held in ranks.
+     */
+    private static int sequence(int ranks, int live) {
+        var above = ~ranks & live;
+
+        if (above != 0) {
+            ranks &= ~((Integer.highestOneBit(above) << 1) - 1);
+        }
+
+        return Integer.bitCount(ranks);
+    }
+
+    /*
+     * The hand holding the top card of a suit.
+     */
+    private int holder(int suit, int live) {
+        var bit = Integer.highestOneBit(live);
+        var seat = 0;
+
+        while ((Cards.suit(hands[seat], suit) & bit) == 0) {
+            seat += 1;
+        }
+
+        return seat;
+    }
+
+    private static int top(int ranks, int count) {
+        var top = 0;
+
+        for (int i = 0; i < count; i += 1) {
+            var bit = Integer.highestOneBit(ranks & ~top);
+
+            top |= bit;
+        }
+
+        return top;
+    }
+
+    /*
+     * Partition search transposition table.  A position is described by
+     * the leader, the length of every hand in every suit, and the owner of
+     * each remaining card (by relative rank, two bits per card, from the
+     * top of each suit).  An entry only specifies the owners of the top
+     * cards of each suit that were relevant to its bounds so it matches
+     * every position that differs only in the distribution of the lower
+     * cards.  Each entry is STRIDE consecutive longs (lengths,
+     * owners, masks, and the leader and bounds) so a bucket is scanned
+     * sequentially.  The bucket is selected by the leader and lengths; a
+     * bucket is filled before its entries are replaced (round-robin) so
+     * only the entries in use are scanned and an entry that is found is
+     * moved to the front of its bucket so the most useful entries are
+     * found first.
+     */
+    private void key(long live, long[] key) {
+        var lengths = 0L;
+        var owners0 = 0L;
+        var owners1 = 0L;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var all = Cards.suit(live, suit);
+            var owners = 0L;
+
+            for (int seat = 0; seat < SEATS; seat += 1) {
+                var ranks = Cards.suit(hands[seat], suit);
+
+                lengths |= ((long) Integer.bitCount(ranks)) << (4 * (SUITS * seat + suit));
+
+                if (seat > 0) {
+                    for (var bits = ranks; bits != 0; bits &= bits - 1) {
+                        var position = Integer.bitCount(all >>> Integer.numberOfTrailingZeros(bits)) - 1;
+
+                        owners |= ((long) seat) << (2 * position);
+                    }
+                }
+            }
+
+            if (suit < SUITS / 2) {
+                owners0 |= owners << (2 * RANKS * suit);
+            } else {
+                owners1 |= owners << (2 * RANKS * (suit - SUITS / 2));
+            }
+        }
+
+        key[0] = lengths;
+        key[1] = owners0;
+        key[2] = owners1;
+    }
+
+    private int bucket(int leader, long lengths) {
+        var hash = (lengths ^ leader) * 0x9E3779B97F4A7C15L;
+
+        hash ^= hash >>> 29;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+
+        return (int) (hash >>> shift) * WAYS;
+    }
+
+    /*
+     * Returns the index of a matching entry that bounds the future tricks
+     * (or -1).
+     */
+    private int probe(int leader, long[] key, int future) {
+        var bucket = bucket(leader, key[0]);
+        var end = STRIDE * (bucket + Math.min(sizes[bucket >>> WAYS_BITS], WAYS));
+
+        for (int entry = STRIDE * bucket; entry < end; entry += STRIDE) {
+            if (table[entry + LENGTHS] == key[0] && leader(entry) == leader
+                && ((table[entry + OWNERS] ^ key[1]) & table[entry + MASKS]) == 0
+                && ((table[entry + OWNERS + 1] ^ key[2]) & table[entry + MASKS + 1]) == 0
+                && (lower(entry) >= future || upper(entry) < future)) {
+                if (entry != STRIDE * bucket) {
+                    swap(entry, STRIDE * bucket);
+                    entry = STRIDE * bucket;
+                }
+
+                return entry;
+            }
+        }
+
+        return -1;
+    }
+
+    private void swap(int i, int j) {
+        for (int k = 0; k < STRIDE; k += 1) {
+            var value = table[i + k];
+
+            table[i + k] = table[j + k];
+            table[j + k] = value;
+        }
+    }
+
+    private void store(int leader, long[] key, long live, int lower, int upper) {
+        var mask0 = 0L;
+        var mask1 = 0L;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var ranks = Cards.suit(relevant, suit);
+
+            if (ranks != 0) {
+                var count = Integer.bitCount(Cards.suit(live, suit) & -(ranks & -ranks));
+                var mask = (1L << (2 * count)) - 1;
+
+                if (suit < SUITS / 2) {
+                    mask0 |= mask << (2 * RANKS * suit);
+                } else {
+                    mask1 |= mask << (2 * RANKS * (suit - SUITS / 2));
+                }
+            }
+        }
+
+        var owners0 = key[1] & mask0;
+        var owners1 = key[2] & mask1;
+        var bucket = bucket(leader, key[0]);
+        var size = sizes[bucket >>> WAYS_BITS];
+        var end = STRIDE * (bucket + Math.min(size, WAYS));
+        var entry = -1;
+
+        for (int i = STRIDE * bucket; i < end && entry < 0; i += STRIDE) {
+            if (table[i + LENGTHS] == key[0] && leader(i) == leader
+                && table[i + MASKS] == mask0 && table[i + MASKS + 1] == mask1
+                && table[i + OWNERS] == owners0 && table[i + OWNERS + 1] == owners1) {
+                entry = i;
+                lower = Math.max(lower, lower(i));
+                upper = Math.min(upper, upper(i));
+            }
+        }
+
+        if (entry < 0) {
+            entry = STRIDE * (bucket + size % WAYS);
+            sizes[bucket >>> WAYS_BITS] = (size + 1 < 2 * WAYS) ? (size + 1) : WAYS;
+        }
+
+        table[entry + LENGTHS] = key[0];
+        table[entry + OWNERS] = owners0;
+        table[entry + OWNERS + 1] = owners1;
+        table[entry + MASKS] = mask0;
+        table[entry + MASKS + 1] = mask1;
+        table[entry + BOUNDS] = leader | (lower << 8) | (upper << 16);
+    }
+
+    private int leader(int entry) {
+        return (int) table[entry + BOUNDS] & 0xFF;
+    }
+
+    private int lower(int entry) {
+        return (int) (table[entry + BOUNDS] >>> 8) & 0xFF;
+    }
+
+    private int upper(int entry) {
+        return (int) (table[entry + BOUNDS] >>> 16) & 0xFF;
+    }
+
+    /*
+     * The remaining cards specified by an entry's masks.
+     */
+    private long top(long live, long mask0, long mask1) {
+        var top = 0L;
+
+        for (int suit = 0; suit < SUITS; suit += 1) {
+            var mask = (suit < SUITS / 2) ? mask0 >>> (2 * RANKS * suit) : mask1 >>> (2 * RANKS * (suit - SUITS / 2));
+            var count = Long.bitCount(mask & ((1L << (2 * RANKS)) - 1)) / 2;
+
+            top |= ((long) top(Cards.suit(live, suit), count)) << (RANKS * suit);
+        }
+
+        return top;
+    }
+
+    private static boolean isNorthSouth(int seat) {
+        return (seat & 1) == (Position.SOUTH.ordinal() & 1);
+    }
+}
@@ -0,0 +1,257 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Suit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bridge par calculator.  Given the double-dummy tricks for every strain
+ * and declarer (see {@link DoubleDummy}), {@link Par} calculates the
+ * result when both sides bid perfectly with complete information:  Each
+ * side may outbid the other and an opponent's contract is doubled if (and
+ * only if) it fails.  The side with the highest makeable contract bids
+ * first.
+ *
+ * Strains are indexed by {@link Suit#ordinal()} with notrump
+ * {@link #NOTRUMP}; declarers are indexed by {@link Position#ordinal()}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Par {
+
+    /**
+     * {@link #STRAINS} = {@value #STRAINS}
+     */
+    public static final int STRAINS = Suit.values().length + 1;
+
+    /**
+     * Notrump strain index:  {@link #NOTRUMP} = {@value #NOTRUMP}
+     */
+    public static final int NOTRUMP = STRAINS - 1;
+
+    private static final int SIDES = 2;
+    private static final int LEVELS = 7;
+    private static final int BOOK = 6;
+    private static final int BIDS = LEVELS * STRAINS;
+    private static final String[] NAMES = { "C", "D", "H", "S", "NT" };
+
+    private final int score;
+    private final List<String> contracts;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   tricks          The tricks taken by declarer indexed by
+     *                          strain and declarer {@link Position}.
+     * @param   vulnerability   The {@link Vulnerability}.
+     */
+    public Par(int[][] tricks, Vulnerability vulnerability) {
+        var best = new int[SIDES][STRAINS];
+        var vulnerable = new boolean[SIDES];
+
+        for (var position : Position.values()) {
+            var side = side(position.ordinal());
+
+            vulnerable[side] = vulnerability.isVulnerable(position);
+
+            for (int strain = 0; strain < STRAINS; strain += 1) {
+                best[side][strain] = Math.max(best[side][strain], tricks[strain][position.ordinal()]);
+            }
+        }
+        /*
+         * own[bid][side]:  The score if the bid is passed out.
+         * value[bid][side]:  The score after the opponents' best reply.
+         */
+        var own = new int[BIDS][SIDES];
+        var value = new int[BIDS][SIDES];
+        var owner = -1;
+
+        for (int bid = BIDS - 1; bid >= 0; bid -= 1) {
+            for (int side = 0; side < SIDES; side += 1) {
+                var level = bid / STRAINS + 1;
+                var strain = bid % STRAINS;
+                var made = best[side][strain] >= level + BOOK;
+
+                own[bid][side] = score(level, strain, (! made), vulnerable[side], best[side][strain]);
+                value[bid][side] = own[bid][side];
+
+                for (int reply = bid + 1; reply < BIDS; reply += 1) {
+                    value[bid][side] = Math.min(value[bid][side], -value[reply][SIDES - 1 - side]);
+                }
+
+                if (made && owner < 0) {
+                    owner = side;
+                }
+            }
+        }
+
+        var score = 0;
+        var contracts = new ArrayList<String>();
+
+        if (owner >= 0) {
+            score = Integer.MIN_VALUE;
+
+            for (int bid = 0; bid < BIDS; bid += 1) {
+                score = Math.max(score, value[bid][owner]);
+            }
+
+            var seen = new boolean[SIDES][STRAINS][SIDES];
+
+            for (int bid = 0; bid < BIDS; bid += 1) {
+                if (value[bid][owner] == score) {
+                    var side = owner;
+                    var last = bid;
+
+                    while (own[last][side] != value[last][side]) {
+                        var reply = last + 1;
+
+                        while (-value[reply][SIDES - 1 - side] != value[last][side]) {
+                            reply += 1;
+                        }
+
+                        last = reply;
+                        side = SIDES - 1 - side;
+                    }
+
+                    var strain = last % STRAINS;
+                    var doubled = own[last][side] < 0;
+
+                    if (! seen[side][strain][doubled ? 1 : 0]) {
+                        seen[side][strain][doubled ? 1 : 0] = true;
+                        contracts.add(contract(tricks, side, last / STRAINS + 1, strain, doubled));
+                    }
+                }
+            }
+
+            if (owner != side(Position.SOUTH.ordinal())) {
+                score = -score;
+            }
+        }
+
+        this.score = score;
+        this.contracts = Collections.unmodifiableList(contracts);
+    }
+
+    /**
+     * Method to get the par score.
+     *
+     * @return  The score for North-South (negative if East-West score).
+     */
+    public int getScore() { return score; }
+
+    /**
+     * Method to get the par contract(s).  Each contract is the declarer(s)
+     * followed by the contract (at the lowest level that achieves the par
+     * score) and the overtricks or undertricks, e.g., {@code NS 4S+1} or
+     * {@code E 5Dx-2}.
+     *
+     * @return  The {@link List} of contracts (empty if the deal is passed
+     *          out).
+     */
+    public List<String> getContracts() { return contracts; }
+
+    @Override
+    public String toString() {
+        return ((score < 0) ? "EW " + (-score) : "NS " + score) + " " + String.join(", ", contracts);
+    }
+
+    /**
+     * Method to calculate the score of a contract.
+     *
+     * @param   level           The contract level ({@code 1} to
+     *                          {@code 7}).
+     * @param   strain          The strain ({@link Suit#ordinal()} or
+     *                          {@link #NOTRUMP}).
+     * @param   doubled         Whether the contract is doubled.
+     * @param   vulnerable      Whether declarer is vulnerable.
+     * @param   tricks          The tricks taken by declarer.
+     *
+     * @return  The score for declarer (negative if the contract fails).
+     */
+    public static int score(int level, int strain, boolean doubled, boolean vulnerable, int tricks) {
+        var score = 0;
+        var needed = level + BOOK;
+
+        if (tricks >= needed) {
+            var value = (strain == Suit.CLUBS.ordinal() || strain == Suit.DIAMONDS.ordinal()) ? 20 : 30;
+            var contract = value * level + ((strain == NOTRUMP) ? 10 : 0);
+
+            if (doubled) {
+                contract *= 2;
+            }
+
+            score = contract;
+            score += (contract >= 100) ? (vulnerable ? 500 : 300) : 50;
+
+            if (level == LEVELS - 1) {
+                score += vulnerable ? 750 : 500;
+            } else if (level == LEVELS) {
+                score += vulnerable ? 1500 : 1000;
+            }
+
+            if (doubled) {
+                score += 50 + (tricks - needed) * (vulnerable ? 200 : 100);
+            } else {
+                score += (tricks - needed) * value;
+            }
+        } else {
+            var down = needed - tricks;
+
+            if (! doubled) {
+                score = down * (vulnerable ? 100 : 50);
+            } else if (vulnerable) {
+                score = 200 + 300 * (down - 1);
+            } else {
+                score = 100 + 200 * Math.min(down - 1, 2) + 300 * Math.max(down - 3, 0);
+            }
+
+            score = -score;
+        }
+
+        return score;
+    }
+
+    private static String contract(int[][] tricks, int side, int level, int strain, boolean doubled) {
+        var best = 0;
+
+        for (var position : Position.values()) {
+            if (side(position.ordinal()) == side) {
+                best = Math.max(best, tricks[strain][position.ordinal()]);
+            }
+        }
+
+        var declarers = "";
+
+        for (var position : new Position[] { Position.NORTH, Position.SOUTH, Position.EAST, Position.WEST }) {
+            if (side(position.ordinal()) == side && tricks[strain][position.ordinal()] == best) {
+                declarers += position.name().charAt(0);
+            }
+        }
+
+        var result = best - (level + BOOK);
+
+        return (declarers + " " + level + NAMES[strain] + (doubled ? "x" : "")
+                + ((result != 0) ? String.format("%+d", result) : ""));
+    }
+
+    private static int side(int seat) { return seat & 1; }
+}
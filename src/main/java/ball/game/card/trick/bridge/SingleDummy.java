@@ -0,0 +1,263 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Suit;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-dummy bridge simulator:  Deals random deals consistent with the
+ * {@link Constraint}s of a {@link ConstrainedDealer}, solves each deal
+ * with a trick solver (by default, {@link DoubleDummy} for a contract),
+ * and aggregates the (importance-weighted) trick-count
+ * {@link Distribution}.  Deals are dealt and solved in parallel on the
+ * common {@link ForkJoinPool}; each task has its own
+ * {@link ConstrainedDealer#split()} {@link ConstrainedDealer} (and
+ * {@link DoubleDummy}, reset for each deal).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class SingleDummy {
+    private static final int SEATS = 4;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final ConstrainedDealer dealer;
+    private final Supplier<ToIntFunction<long[]>> solvers;
+
+    /**
+     * Constructor with a (thread-safe) trick solver.
+     *
+     * @param   dealer          The {@link ConstrainedDealer}.
+     * @param   solver          The trick solver:  Maps a deal (hands
+     *                          indexed by {@link Position#ordinal()}) to a
+     *                          number of tricks ({@code 0} to
+     *                          {@value Constraint#HAND}).
+     */
+    public SingleDummy(ConstrainedDealer dealer, ToIntFunction<long[]> solver) {
+        this(dealer, () -> solver);
+    }
+
+    /**
+     * Constructor to simulate a contract with {@link DoubleDummy}.
+     *
+     * @param   dealer          The {@link ConstrainedDealer}.
+     * @param   trump           The trump {@link Suit} ({@code null} for
+     *                          notrump).
+     * @param   declarer        The declarer {@link Position}.
+     */
+    public SingleDummy(ConstrainedDealer dealer, Suit trump, Position declarer) {
+        this(dealer, () -> solver(trump, declarer));
+    }
+
+    /*
+     * The solvers Supplier is called once per Simulation task.
+     */
+    private SingleDummy(ConstrainedDealer dealer, Supplier<ToIntFunction<long[]>> solvers) {
+        this.dealer = dealer;
+        this.solvers = solvers;
+    }
+
+    /*
+     * One DoubleDummy (reset for each deal) per Simulation task.
+     */
+    private static ToIntFunction<long[]> solver(Suit trump, Position declarer) {
+        var solver = new DoubleDummy(new long[SEATS], trump);
+
+        return t -> solver.reset(t, trump).solve(Position.leftOf(declarer), declarer);
+    }
+
+    /**
+     * Method to simulate a number of deals.
+     *
+     * @param   deals           The number of deals.
+     *
+     * @return  The {@link Distribution} of declarer's tricks.
+     */
+    public Distribution simulate(int deals) {
+        var count = Math.min(deals, TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism());
+        var tasks = new ArrayList<Simulation>(count);
+
+        for (int i = 0; i < count; i += 1) {
+            tasks.add(new Simulation(dealer.split(), deals / count + ((i < deals % count) ? 1 : 0)));
+        }
+
+        var distribution = new Distribution();
+
+        for (var task : ForkJoinTask.invokeAll(tasks)) {
+            distribution.add(task.join());
+        }
+
+        return distribution;
+    }
+
+    /**
+     * Single-dummy trick-count {@link Distribution}.  Each deal is
+     * weighted by its {@link ConstrainedDealer#deal(long[])} importance
+     * weight.
+     */
+    @NoArgsConstructor
+    public static class Distribution {
+        private final double[] weights = new double[Constraint.HAND + 1];
+        private long deals = 0;
+        private double weight = 0;
+        private double squares = 0;
+
+        /**
+         * Method to get the number of deals simulated.
+         *
+         * @return  The number of deals.
+         */
+        public long getDeals() { return deals; }
+
+        /**
+         * Method to get the effective sample size of the weighted deals
+         * ({@code (sum w)^2 / sum w^2}).
+         *
+         * @return  The effective number of deals.
+         */
+        public double getEffective() {
+            return (squares > 0) ? (weight * weight) / squares : 0;
+        }
+
+        /**
+         * Method to get the probability of taking exactly a number of
+         * tricks.
+         *
+         * @param   tricks          The number of tricks.
+         *
+         * @return  The probability.
+         */
+        public double getProbability(int tricks) {
+            return (weight > 0) ? weights[tricks] / weight : 0;
+        }
+
+        /**
+         * Method to get the probability of taking at least a number of
+         * tricks (e.g., of making a contract).
+         *
+         * @param   tricks          The number of tricks.
+         *
+         * @return  The probability.
+         */
+        public double getAtLeast(int tricks) {
+            var sum = 0.0;
+
+            for (int i = Math.max(tricks, 0); i < weights.length; i += 1) {
+                sum += weights[i];
+            }
+
+            return (weight > 0) ? sum / weight : 0;
+        }
+
+        /**
+         * Method to get the mean number of tricks.
+         *
+         * @return  The mean.
+         */
+        public double getMean() {
+            var sum = 0.0;
+
+            for (int i = 0; i < weights.length; i += 1) {
+                sum += i * weights[i];
+            }
+
+            return (weight > 0) ? sum / weight : 0;
+        }
+
+        /**
+         * Method to record a deal.
+         *
+         * @param   tricks          The number of tricks.
+         * @param   weight          The deal's weight.
+         */
+        protected void record(int tricks, double weight) {
+            deals += 1;
+            weights[tricks] += weight;
+            this.weight += weight;
+            squares += weight * weight;
+        }
+
+        /**
+         * Method to add another {@link Distribution} to {@link.this}
+         * {@link Distribution}.
+         *
+         * @param   that            The other {@link Distribution}.
+         */
+        protected void add(Distribution that) {
+            for (int i = 0; i < weights.length; i += 1) {
+                this.weights[i] += that.weights[i];
+            }
+
+            this.deals += that.deals;
+            this.weight += that.weight;
+            this.squares += that.squares;
+        }
+
+        @Override
+        public String toString() {
+            var string = new StringBuilder();
+
+            string.append("deals=").append(getDeals())
+                .append(String.format(", effective=%.1f, mean=%.3f", getEffective(), getMean()));
+
+            for (int i = 0; i < weights.length; i += 1) {
+                if (weights[i] > 0) {
+                    string.append(String.format(", %d=%.4f", i, getProbability(i)));
+                }
+            }
+
+            return string.toString();
+        }
+    }
+
+    private class Simulation extends RecursiveTask<Distribution> {
+        private static final long serialVersionUID = -3806184950318127346L;
+
+        private final ConstrainedDealer dealer;
+        private final int deals;
+
+        public Simulation(ConstrainedDealer dealer, int deals) {
+            super();
+
+            this.dealer = dealer;
+            this.deals = deals;
+        }
+
+        @Override
+        protected Distribution compute() {
+            var distribution = new Distribution();
+            var solver = solvers.get();
+            var hands = new long[SEATS];
+
+            for (int i = 0; i < deals; i += 1) {
+                var weight = dealer.deal(hands);
+
+                distribution.record(solver.applyAsInt(hands), weight);
+            }
+
+            return distribution;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+
+/**
+ * Bridge vulnerability {@link Enum} type.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public enum Vulnerability {
+    NONE, NS, EW, BOTH;
+
+    /**
+     * Method to determine if a {@link Position} is vulnerable.
+     *
+     * @param   position        The {@link Position}.
+     *
+     * @return  {@code true} if vulnerable; {@code false} otherwise.
+     */
+    public boolean isVulnerable(Position position) {
+        var vulnerable = false;
+
+        switch (this) {
+        case NS:
+            vulnerable = (position == Position.NORTH || position == Position.SOUTH);
+            break;
+
+        case EW:
+            vulnerable = (position == Position.EAST || position == Position.WEST);
+            break;
+
+        case BOTH:
+            vulnerable = true;
+            break;
+
+        default:
+            break;
+        }
+
+        return vulnerable;
+    }
+
+    /**
+     * Method to parse a PBN {@code Vulnerable} tag value ({@code None},
+     * {@code Love}, {@code -}, {@code NS}, {@code EW}, {@code All}, or
+     * {@code Both}).
+     *
+     * @param   string          The {@link String} to parse.
+     *
+     * @return  The {@link Vulnerability}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link String} cannot be parsed.
+     */
+    public static Vulnerability parse(String string) {
+        Vulnerability vulnerability = null;
+
+        switch (string.trim().toUpperCase()) {
+        case "NONE":
+        case "LOVE":
+        case "-":
+            vulnerability = NONE;
+            break;
+
+        case "NS":
+            vulnerability = NS;
+            break;
+
+        case "EW":
+            vulnerability = EW;
+            break;
+
+        case "ALL":
+        case "BOTH":
+            vulnerability = BOTH;
+            break;
+
+        default:
+            throw new IllegalArgumentException(string);
+        }
+
+        return vulnerability;
+    }
+}
@@ -0,0 +1,32 @@
+package ball.game.card.trick.pinochle;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import lombok.NoArgsConstructor;
+
+/**
+ * Pinochle {@link ball.game.card.Deck} (48 {@link ball.game.card.Card}s:
+ * two each of nine through ace of each suit).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@NoArgsConstructor
+public class Deck extends ball.game.card.Deck {
+    private static final long serialVersionUID = -2978154606452398417L;
+}
@@ -0,0 +1,135 @@
+package ball.game.card.trick.pinochle;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Card.Suit;
+import ball.game.card.trick.Rules;
+import java.util.Collection;
+
+import static ball.game.card.trick.pinochle.Pinochle.WIDTH;
+
+/**
+ * Pinochle meld counter.  The per-{@link Suit}/rank counts of a hand are
+ * computed with a single mask operation (see {@link Pinochle}) and each
+ * meld is a minimum of counts.  Melds are scored:
+ * <table>
+ *   <caption>Meld</caption>
+ *   <tr><th>Meld</th><th>Single</th><th>Double</th></tr>
+ *   <tr><td>Run (A-10-K-Q-J of trump)</td><td>15</td><td>150</td></tr>
+ *   <tr><td>Royal marriage (K-Q of trump, not in a run)</td><td>4</td><td>8</td></tr>
+ *   <tr><td>Marriage (K-Q of another suit)</td><td>2</td><td>4</td></tr>
+ *   <tr><td>Dix (9 of trump)</td><td>1</td><td>2</td></tr>
+ *   <tr><td>Aces around</td><td>10</td><td>100</td></tr>
+ *   <tr><td>Kings around</td><td>8</td><td>80</td></tr>
+ *   <tr><td>Queens around</td><td>6</td><td>60</td></tr>
+ *   <tr><td>Jacks around</td><td>4</td><td>40</td></tr>
+ *   <tr><td>Pinochle (Q&spades;-J&diams;)</td><td>4</td><td>30</td></tr>
+ * </table>
+ * A {@link Card} may count in melds of different classes (e.g., a king
+ * of trump in a run and in kings around) but not twice in the same
+ * class.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public abstract class Meld {
+    private Meld() { }
+
+    private static final int NINE = 0;
+    private static final int JACK = 1;
+    private static final int QUEEN = 2;
+    private static final int KING = 3;
+    private static final int TEN = 4;
+    private static final int ACE = 5;
+
+    private static final long LOW = 0x5555_5555_5555L;
+
+    private static final int[] RUN = { 0, 15, 150 };
+    private static final int[] PINOCHLE = { 0, 4, 30 };
+    private static final int[][] AROUND = {
+        /* NINE */ { 0, 0, 0 },
+        /* JACK */ { 0, 4, 40 },
+        /* QUEEN */ { 0, 6, 60 },
+        /* KING */ { 0, 8, 80 },
+        /* TEN */ { 0, 0, 0 },
+        /* ACE */ { 0, 10, 100 },
+    };
+
+    /**
+     * Method to score the meld of a hand.
+     *
+     * @param   hand            The {@link Collection} of {@link Card}s.
+     * @param   trump           The trump {@link Suit}.
+     *
+     * @return  The meld.
+     */
+    public static int score(Collection<Card> hand, Suit trump) {
+        return score(Pinochle.encode(hand), trump.ordinal());
+    }
+
+    /**
+     * Method to score the meld of a hand.
+     *
+     * @param   hand            The hand (see {@link Pinochle}).
+     * @param   trump           The trump {@link Suit#ordinal()}.
+     *
+     * @return  The meld.
+     */
+    public static int score(long hand, int trump) {
+        /*
+         * 2-bit count of each suit/rank.
+         */
+        var counts = (hand & LOW) + ((hand >>> 1) & LOW);
+        var score = 0;
+        var runs = 2;
+
+        for (var rank : new int[] { JACK, QUEEN, KING, TEN, ACE }) {
+            runs = Math.min(runs, count(counts, trump, rank));
+        }
+
+        score += RUN[runs];
+
+        for (int suit = 0; suit < Rules.SUITS; suit += 1) {
+            var marriages = Math.min(count(counts, suit, KING), count(counts, suit, QUEEN));
+
+            score += (suit == trump) ? 4 * (marriages - runs) : 2 * marriages;
+        }
+
+        score += count(counts, trump, NINE);
+
+        for (var rank : new int[] { JACK, QUEEN, KING, ACE }) {
+            var around = 2;
+
+            for (int suit = 0; suit < Rules.SUITS; suit += 1) {
+                around = Math.min(around, count(counts, suit, rank));
+            }
+
+            score += AROUND[rank][around];
+        }
+
+        score += PINOCHLE[Math.min(count(counts, Suit.SPADES.ordinal(), QUEEN),
+                                   count(counts, Suit.DIAMONDS.ordinal(), JACK))];
+
+        return score;
+    }
+
+    private static int count(long counts, int suit, int rank) {
+        return (int) (counts >>> (WIDTH * suit + Pinochle.COPIES * rank)) & 0x3;
+    }
+}
@@ -0,0 +1,177 @@
+package ball.game.card.trick.pinochle;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Card.Rank;
+import ball.game.card.Card.Suit;
+import ball.game.card.trick.Rules;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Primitive pinochle {@link Card} encoding.  A {@link Card} is encoded as
+ * an {@code int} {@code 12 * suit + 2 * rank + copy} where {@code suit}
+ * is the {@link Suit#ordinal()}, {@code rank} is the index in
+ * {@link #RANKS} ({@link Rank#NINE NINE} is {@code 0} and
+ * {@link Rank#ACE ACE} is {@code 5}), and {@code copy} distinguishes the
+ * two identical {@link Card}s of a {@link Deck}.  A hand is encoded as a
+ * {@code long} mask (the first copy of a {@link Card} in a hand is always
+ * encoded before the second) and tricks are played with {@link #RULES}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public abstract class Pinochle {
+    private Pinochle() { }
+
+    /**
+     * Pinochle {@link Rank}s, lowest first.
+     */
+    public static final List<Rank> RANKS =
+        List.of(Rank.NINE, Rank.JACK, Rank.QUEEN, Rank.KING, Rank.TEN, Rank.ACE);
+
+    /**
+     * Copies of each {@link Card}:
+     * {@link #COPIES} = {@value #COPIES}
+     */
+    public static final int COPIES = 2;
+
+    /**
+     * Bits per suit:
+     * {@link #WIDTH} = {@value #WIDTH}
+     */
+    public static final int WIDTH = 6 * COPIES;
+
+    /**
+     * Hand of all 48 {@link Card}s:
+     * {@link #DECK} = {@value #DECK}
+     */
+    public static final long DECK = (1L << (Rules.SUITS * WIDTH)) - 1;
+
+    /**
+     * Pinochle trick {@link Rules}:  Follow suit, otherwise trump if
+     * possible, and beat the winning {@link Card} if possible.
+     */
+    public static final Rules RULES = new Rules(WIDTH, COPIES, true, true);
+
+    /**
+     * Method to get the pinochle rank index of a {@link Rank}.
+     *
+     * @param   rank            The {@link Rank}.
+     *
+     * @return  The index in {@link #RANKS}.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Rank} is not a pinochle
+     *                          {@link Rank}.
+     */
+    public static int rank(Rank rank) {
+        var index = RANKS.indexOf(rank);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("rank=" + rank);
+        }
+
+        return index;
+    }
+
+    /**
+     * Method to get the first copy of a {@link Card}.
+     *
+     * @param   card            The {@link Card}.
+     *
+     * @return  The encoded {@link Card}.
+     */
+    public static int encode(Card card) {
+        return WIDTH * card.getSuit().ordinal() + COPIES * rank(card.getRank());
+    }
+
+    /**
+     * Method to encode a hand.
+     *
+     * @param   collection      The {@link Collection} of {@link Card}s.
+     *
+     * @return  The hand.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link Collection} has more than
+     *                          {@value #COPIES} of a {@link Card}.
+     */
+    public static long encode(Collection<Card> collection) {
+        var hand = 0L;
+
+        for (var card : collection) {
+            var bit = 1L << encode(card);
+
+            if ((hand & bit) != 0) {
+                bit <<= 1;
+            }
+
+            if ((hand & bit) != 0) {
+                throw new IllegalArgumentException("Too many " + card);
+            }
+
+            hand |= bit;
+        }
+
+        return hand;
+    }
+
+    /**
+     * Method to decode a {@link Card}.
+     *
+     * @param   card            The encoded {@link Card}.
+     *
+     * @return  The {@link Card}.
+     */
+    public static Card decode(int card) {
+        return Card.of(Suit.values()[card / WIDTH], RANKS.get((card % WIDTH) / COPIES));
+    }
+
+    /**
+     * Method to decode a hand.
+     *
+     * @param   hand            The hand.
+     *
+     * @return  The {@link List} of {@link Card}s.
+     */
+    public static List<Card> decode(long hand) {
+        var list = new ArrayList<Card>(Long.bitCount(hand));
+
+        for (var bits = hand; bits != 0; bits &= bits - 1) {
+            list.add(decode(Long.numberOfTrailingZeros(bits)));
+        }
+
+        return list;
+    }
+
+    /**
+     * Method to count the copies of a {@link Card} in a hand.
+     *
+     * @param   hand            The hand.
+     * @param   suit            The {@link Suit#ordinal()}.
+     * @param   rank            The index in {@link #RANKS}.
+     *
+     * @return  The count ({@code 0} to {@value #COPIES}).
+     */
+    public static int count(long hand, int suit, int rank) {
+        return Long.bitCount((hand >>> (WIDTH * suit + COPIES * rank)) & ((1 << COPIES) - 1));
+    }
+}
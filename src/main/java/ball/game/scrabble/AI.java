@@ -18,6 +18,7 @@ package ball.game.scrabble;
  * limitations under the License.
  * ##########################################################################
  */
+import java.util.List;
 import lombok.NoArgsConstructor;
 
 /**
@@ -29,4 +30,22 @@ import lombok.NoArgsConstructor;
  */
 @NoArgsConstructor
 public class AI extends Player {
+
+    /**
+     * Method to generate every legal {@link Move} for this
+     * {@link Player}'s {@link Rack}.  The {@link Board}'s maintained
+     * cross-checks are used if it was given the same lexicon with
+     * {@link Board#setLexicon(Dawg)} (as {@link Game} does); otherwise
+     * they are recomputed for each call.
+     *
+     * @param   board           The {@link Board}.
+     * @param   dawg            The {@link Dawg} of legal words.
+     *
+     * @return  The {@link List} of {@link Move}s (highest score first).
+     *
+     * @see MoveGenerator
+     */
+    public List<Move> moves(Board board, Dawg dawg) {
+        return new MoveGenerator(dawg).generate(board, getRack());
+    }
 }
@@ -0,0 +1,204 @@
+package ball.game.scrabble;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Anagram index:  Answers "every word that can be formed from these
+ * {@link Tile}s" (sub-anagrams, with any number of blanks) without
+ * enumerating permutations.  Words are keyed by their signature (their
+ * letters in sorted order) and the signatures are held in a
+ * {@link Dawg}, so a query is a walk of the signature graph consuming a
+ * rack letter (or, failing that, a blank) at each edge.  Each signature
+ * is visited at most once per query.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Anagrams {
+    private static final Comparator<String> ORDER =
+        Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder());
+
+    private final HashMap<String,String[]> map = new HashMap<>();
+    private final Dawg signatures;
+
+    /**
+     * Sole constructor.  Words with characters other than {@code A}
+     * through {@code Z} (ignoring case) are ignored.
+     *
+     * @param   words           The words (e.g., a {@link WordList}
+     *                          {@link WordList#keySet() keySet()} or a
+     *                          {@link Dawg}).
+     */
+    public Anagrams(Collection<? extends CharSequence> words) {
+        var lists = new HashMap<String,List<String>>();
+
+        for (var word : words) {
+            var string = word.toString().toUpperCase();
+
+            if (string.chars().allMatch(t -> 'A' <= t && t <= 'Z')) {
+                lists.computeIfAbsent(signature(string), k -> new ArrayList<>()).add(string);
+            }
+        }
+
+        lists.forEach((k, v) -> map.put(k, v.toArray(new String[] { })));
+        signatures = new Dawg(lists.keySet());
+    }
+
+    /**
+     * Static method to get the signature of a word.
+     *
+     * @param   word            The word.
+     *
+     * @return  The letters of the word in sorted order.
+     */
+    public static String signature(CharSequence word) {
+        var letters = word.toString().toCharArray();
+
+        Arrays.sort(letters);
+
+        return new String(letters);
+    }
+
+    /**
+     * Method to get the words that may be formed from a collection of
+     * {@link Tile}s.
+     *
+     * @param   tiles           The {@link Tile}s.
+     *
+     * @return  The {@link List} of words (longest first, then
+     *          alphabetical).
+     */
+    public List<String> of(Collection<Tile> tiles) {
+        var counts = new int[Dawg.LETTERS];
+        var blanks = 0;
+
+        for (var tile : tiles) {
+            if (tile.isBlank()) {
+                blanks += 1;
+            } else {
+                var letter = Dawg.index(tile.getLetter());
+
+                if (letter >= 0) {
+                    counts[letter] += 1;
+                }
+            }
+        }
+
+        return of(counts, blanks);
+    }
+
+    /**
+     * Method to get the words that may be formed from a sequence of
+     * letters.
+     *
+     * @param   letters         The letters ({@value Tile#BLANK} or
+     *                          {@code '?'} for a blank).
+     *
+     * @return  The {@link List} of words (longest first, then
+     *          alphabetical).
+     */
+    public List<String> of(CharSequence letters) {
+        var counts = new int[Dawg.LETTERS];
+        var blanks = 0;
+
+        for (int i = 0; i < letters.length(); i += 1) {
+            var character = letters.charAt(i);
+
+            if (character == Tile.BLANK || character == '?') {
+                blanks += 1;
+            } else {
+                var letter = Dawg.index(character);
+
+                if (letter >= 0) {
+                    counts[letter] += 1;
+                }
+            }
+        }
+
+        return of(counts, blanks);
+    }
+
+    /**
+     * Method to get the words that may be formed from letter counts and
+     * blanks.
+     *
+     * @param   counts          The count of each letter (indexed by
+     *                          {@link Dawg#index(char)}).
+     * @param   blanks          The number of blanks.
+     *
+     * @return  The {@link List} of words (longest first, then
+     *          alphabetical).
+     */
+    public List<String> of(int[] counts, int blanks) {
+        var list = new ArrayList<String>();
+
+        search(signatures.root(), counts.clone(), blanks, new StringBuilder(), list);
+        list.sort(ORDER);
+
+        return list;
+    }
+
+    /*
+     * Signatures are sorted, so each edge is taken with a rack letter if
+     * one remains (which never excludes a word a blank would allow) and
+     * otherwise with a blank.
+     */
+    private void search(int node, int[] counts, int blanks, StringBuilder signature, List<String> list) {
+        if (signatures.isTerminal(node)) {
+            list.addAll(Arrays.asList(map.get(signature.toString())));
+        }
+
+        var letters = signatures.letters(node);
+
+        if (blanks == 0) {
+            var available = 0;
+
+            for (int letter = 0; letter < Dawg.LETTERS; letter += 1) {
+                if (counts[letter] > 0) {
+                    available |= 1 << letter;
+                }
+            }
+
+            letters &= available;
+        }
+
+        for (; letters != 0; letters &= letters - 1) {
+            var letter = Integer.numberOfTrailingZeros(letters);
+            var child = signatures.child(node, letter);
+
+            signature.append((char) ('A' + letter));
+
+            if (counts[letter] > 0) {
+                counts[letter] -= 1;
+                search(child, counts, blanks, signature, list);
+                counts[letter] += 1;
+            } else {
+                search(child, counts, blanks - 1, signature, list);
+            }
+
+            signature.setLength(signature.length() - 1);
+        }
+    }
+}
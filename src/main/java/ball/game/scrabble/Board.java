@@ -20,6 +20,7 @@ package ball.game.scrabble;
  */
 import ball.util.CoordinateMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.TreeMap;
@@ -27,7 +28,11 @@ import java.util.TreeMap;
 import static java.util.Collections.copy;
 
 /**
- * Scrabble {@link Board}.
+ * Scrabble {@link Board}.  The {@link Board} maintains, as each
+ * {@link Tile} is played (see {@link SQ#play(Tile,char)}), the anchor
+ * squares and, if a lexicon has been set (see
+ * {@link #setLexicon(Dawg)}), the cross-checks of the empty squares
+ * adjacent to the play.
  *
  * {@include Board.properties}
  *
@@ -38,6 +43,12 @@ public class Board extends CoordinateMap<SQ> {
 
     private static final ResourceBundleMap MAP = new ResourceBundleMap(Board.class);
 
+    private transient Dawg lexicon = null;
+    private final int[][] checks;
+    private final int[][] crosses;
+    private final boolean[] anchors;
+    private int tiles = 0;
+
     /**
      * Sole public constructor.
      */
@@ -47,6 +58,205 @@ public class Board extends CoordinateMap<SQ> {
         super(map.size(), map.size());
 
         copy(asList(), squares(map));
+
+        var n = map.size();
+
+        checks = new int[][] { new int[n * n], new int[n * n] };
+        crosses = new int[][] { new int[n * n], new int[n * n] };
+        anchors = new boolean[n * n];
+        anchors[(n / 2) * n + (n / 2)] = true;
+
+        for (int y = 0; y < n; y += 1) {
+            for (int x = 0; x < n; x += 1) {
+                get(y, x).setBoard(this, y, x);
+            }
+        }
+    }
+
+    /**
+     * Method to get the lexicon used to compute cross-checks.
+     *
+     * @return  The lexicon ({@code null} if none has been set).
+     */
+    public Dawg getLexicon() { return lexicon; }
+
+    /**
+     * Method to set the lexicon used to compute cross-checks.  All
+     * cross-checks are recomputed; thereafter, only the squares affected
+     * by each play are.
+     *
+     * @param   lexicon         The lexicon.
+     */
+    public void setLexicon(Dawg lexicon) {
+        this.lexicon = lexicon;
+
+        for (int y = 0; y < getRowCount(); y += 1) {
+            for (int x = 0; x < getColumnCount(); x += 1) {
+                check(y, x);
+            }
+        }
+    }
+
+    /**
+     * Method to determine if a square is an anchor:  An empty square
+     * adjacent to a played {@link Tile} (or the center square of an empty
+     * {@link Board}).
+     *
+     * @param   y               The row.
+     * @param   x               The column.
+     *
+     * @return  {@code true} if the square is an anchor; {@code false}
+     *          otherwise.
+     */
+    public boolean isAnchor(int y, int x) {
+        return anchors[y * getColumnCount() + x];
+    }
+
+    /**
+     * Method to get the cross-check of an empty square:  The letters that
+     * may be played there by a move in a direction (forming a valid
+     * perpendicular word).  Requires a lexicon (see
+     * {@link #setLexicon(Dawg)}).
+     *
+     * @param   y               The row.
+     * @param   x               The column.
+     * @param   across          {@code true} for a move across;
+     *                          {@code false} for a move down.
+     *
+     * @return  The mask of letters (bit {@code L - 'A'} for letter
+     *          {@code L}); {@link Dawg#ALL} if there is no perpendicular
+     *          word.
+     */
+    public int getCrossCheck(int y, int x, boolean across) {
+        return checks[across ? 0 : 1][y * getColumnCount() + x];
+    }
+
+    /**
+     * Method to get the points of the perpendicular word through an
+     * empty square (excluding the square itself).  Requires a lexicon
+     * (see {@link #setLexicon(Dawg)}).
+     *
+     * @param   y               The row.
+     * @param   x               The column.
+     * @param   across          {@code true} for a move across;
+     *                          {@code false} for a move down.
+     *
+     * @return  The points; {@code -1} if there is no perpendicular word.
+     */
+    public int getCrossScore(int y, int x, boolean across) {
+        return crosses[across ? 0 : 1][y * getColumnCount() + x];
+    }
+
+    /**
+     * Callback from {@link SQ#play(Tile,char)}:  Updates the anchors and
+     * the cross-checks of the empty squares at each end of the row and
+     * column runs through the square.
+     *
+     * @param   y               The row.
+     * @param   x               The column.
+     */
+    protected void played(int y, int x) {
+        var n = getColumnCount();
+
+        if (tiles == 0) {
+            Arrays.fill(anchors, false);
+        }
+
+        tiles += 1;
+        anchors[y * n + x] = false;
+
+        var left = x;
+
+        while (left > 0 && (! get(y, left - 1).isEmpty())) {
+            left -= 1;
+        }
+
+        var right = x;
+
+        while (right + 1 < n && (! get(y, right + 1).isEmpty())) {
+            right += 1;
+        }
+
+        var top = y;
+
+        while (top > 0 && (! get(top - 1, x).isEmpty())) {
+            top -= 1;
+        }
+
+        var bottom = y;
+
+        while (bottom + 1 < getRowCount() && (! get(bottom + 1, x).isEmpty())) {
+            bottom += 1;
+        }
+
+        check(y, x);
+        check(y, left - 1);
+        check(y, right + 1);
+        check(top - 1, x);
+        check(bottom + 1, x);
+    }
+
+    /*
+     * Recomputes the anchor flag and (with a lexicon) the cross-checks of
+     * a square.  Squares off the board are ignored.
+     */
+    private void check(int y, int x) {
+        var n = getColumnCount();
+
+        if (0 <= y && y < getRowCount() && 0 <= x && x < n) {
+            var index = y * n + x;
+
+            if (get(y, x).isEmpty()) {
+                if (tiles > 0) {
+                    anchors[index] =
+                        (! (isEmpty(y - 1, x) && isEmpty(y + 1, x)
+                            && isEmpty(y, x - 1) && isEmpty(y, x + 1)));
+                }
+
+                if (lexicon != null) {
+                    check(index, 0, y, x, 1, 0);
+                    check(index, 1, y, x, 0, 1);
+                }
+            } else {
+                anchors[index] = false;
+                checks[0][index] = 0;
+                checks[1][index] = 0;
+                crosses[0][index] = -1;
+                crosses[1][index] = -1;
+            }
+        }
+    }
+
+    /*
+     * Computes the cross-check for one orientation:  The perpendicular
+     * word runs along (dy, dx).
+     */
+    private void check(int index, int orientation, int y, int x, int dy, int dx) {
+        var prefix = new StringBuilder();
+        var suffix = new StringBuilder();
+        var points = 0;
+
+        for (int i = y - dy, j = x - dx; (! isEmpty(i, j)); i -= dy, j -= dx) {
+            prefix.insert(0, get(i, j).getLetter());
+            points += get(i, j).getTile().getPoints();
+        }
+
+        for (int i = y + dy, j = x + dx; (! isEmpty(i, j)); i += dy, j += dx) {
+            suffix.append(get(i, j).getLetter());
+            points += get(i, j).getTile().getPoints();
+        }
+
+        if (prefix.length() + suffix.length() > 0) {
+            checks[orientation][index] = lexicon.crossCheck(prefix, suffix);
+            crosses[orientation][index] = points;
+        } else {
+            checks[orientation][index] = Dawg.ALL;
+            crosses[orientation][index] = -1;
+        }
+    }
+
+    private boolean isEmpty(int y, int x) {
+        return (y < 0 || y >= getRowCount() || x < 0 || x >= getColumnCount() || get(y, x).isEmpty());
     }
 
     private static List<? extends SQ> squares(ResourceBundleMap map) {
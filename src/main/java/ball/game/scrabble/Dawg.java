@@ -0,0 +1,475 @@
+package ball.game.scrabble;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Directed acyclic word graph ({@link Dawg}):  A minimized trie of the
+ * words of a {@link WordList} (or any {@link Collection} of words) over
+ * the letters {@code A} through {@code Z}.  The graph is a single
+ * {@code int} array:  Each node is a header (bit {@code i} set if the
+ * letter {@code 'A' + i} has an edge, bit {@value #TERMINAL} set if the
+ * path to the node is a word) followed by the offsets of its children in
+ * letter order, so following an edge is a mask test and a
+ * {@link Integer#bitCount(int)}.  A {@link Dawg} is an immutable (and
+ * thread-safe) {@link java.util.Set} of its words in alphabetical order.
+ * <p>
+ * A {@link Dawg} may be compiled once with {@link #write(Path)} and
+ * loaded with {@link #map(Path)}:  The file is the header
+ * ({@link #MAGIC}, size, root, and graph length) followed by the graph
+ * and is memory-mapped, so loading is immediate and the graph is not
+ * copied to the heap.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class Dawg extends AbstractSet<CharSequence> {
+
+    /**
+     * Number of letters:
+     * {@link #LETTERS} = {@value #LETTERS}
+     */
+    public static final int LETTERS = 26;
+
+    /**
+     * Mask of all letters:
+     * {@link #ALL} = {@value #ALL}
+     */
+    public static final int ALL = (1 << LETTERS) - 1;
+
+    /**
+     * Header terminal bit:
+     * {@link #TERMINAL} = {@value #TERMINAL}
+     */
+    public static final int TERMINAL = 31;
+
+    /**
+     * Result of {@link #child(int,int)} if there is no edge:
+     * {@link #NONE} = {@value #NONE}
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Compiled file magic number ({@code "DAWG"}):
+     * {@link #MAGIC} = {@value #MAGIC}
+     */
+    public static final int MAGIC = 0x44415747;
+
+    private static final int HEADER = 4 * Integer.BYTES;
+
+    private final IntBuffer graph;
+    private final int root;
+    private final int size;
+
+    /**
+     * Sole constructor.  Words with characters other than {@code A}
+     * through {@code Z} (ignoring case) are ignored.
+     *
+     * @param   words           The words.
+     */
+    public Dawg(Collection<? extends CharSequence> words) {
+        this(new Builder(words));
+    }
+
+    private Dawg(Builder builder) {
+        this(IntBuffer.wrap(builder.graph, 0, builder.length), builder.root, builder.size);
+    }
+
+    /**
+     * Protected constructor for a graph already laid out.
+     *
+     * @param   graph           The graph.
+     * @param   root            The offset of the root node.
+     * @param   size            The number of words.
+     */
+    protected Dawg(IntBuffer graph, int root, int size) {
+        this.graph = graph;
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Static method to memory-map a {@link Dawg} compiled with
+     * {@link #write(Path)}.
+     *
+     * @param   path            The compiled file {@link Path}.
+     *
+     * @return  The {@link Dawg}.
+     *
+     * @throws  IOException     If the file cannot be mapped or is not a
+     *                          compiled {@link Dawg}.
+     */
+    public static Dawg map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, READ)) {
+            var buffer = channel.map(READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < HEADER || buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException(path + ": Not a compiled " + Dawg.class.getSimpleName());
+            }
+
+            var size = buffer.getInt();
+            var root = buffer.getInt();
+            var length = buffer.getInt();
+            var graph = buffer.slice().asIntBuffer();
+
+            if (length < 0 || graph.remaining() < length || root < 0 || root >= length) {
+                throw new StreamCorruptedException(path + ": Truncated");
+            }
+
+            return new Dawg(graph.limit(length).slice(), root, size);
+        }
+    }
+
+    /**
+     * Method to write {@link.this} {@link Dawg} to a file (see
+     * {@link #map(Path)}).
+     *
+     * @param   path            The {@link Path}.
+     *
+     * @throws  IOException     If the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        var graph = graph();
+        var buffer = ByteBuffer.allocate(HEADER + graph.limit() * Integer.BYTES);
+
+        buffer.putInt(MAGIC).putInt(size).putInt(root).putInt(graph.limit());
+        buffer.asIntBuffer().put(graph.rewind());
+
+        try (var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            buffer.rewind();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Method to get the underlying graph.
+     *
+     * @return  A read-only view of the graph.
+     */
+    protected IntBuffer graph() { return graph.asReadOnlyBuffer(); }
+
+    /**
+     * Method to get the root node.
+     *
+     * @return  The root node.
+     */
+    public int root() { return root; }
+
+    /**
+     * Method to get the mask of the letters with an edge from a node.
+     *
+     * @param   node            The node.
+     *
+     * @return  The mask (bit {@code 0} for {@code 'A'}).
+     */
+    public int letters(int node) { return graph.get(node) & ALL; }
+
+    /**
+     * Method to determine if the path to a node is a word.
+     *
+     * @param   node            The node.
+     *
+     * @return  {@code true} if terminal; {@code false} otherwise.
+     */
+    public boolean isTerminal(int node) { return graph.get(node) < 0; }
+
+    /**
+     * Method to follow an edge.
+     *
+     * @param   node            The node.
+     * @param   letter          The letter index ({@code 0} for
+     *                          {@code 'A'}).
+     *
+     * @return  The child node; {@link #NONE} if there is no edge.
+     */
+    public int child(int node, int letter) {
+        var header = graph.get(node);
+        var bit = 1 << letter;
+
+        return ((header & bit) != 0) ? graph.get(node + 1 + Integer.bitCount(header & (bit - 1))) : NONE;
+    }
+
+    /**
+     * Method to follow the edges of a sequence of letters.
+     *
+     * @param   node            The starting node.
+     * @param   sequence        The letters (either case).
+     *
+     * @return  The node reached; {@link #NONE} if there is no path.
+     */
+    public int walk(int node, CharSequence sequence) {
+        for (int i = 0, n = sequence.length(); i < n && node != NONE; i += 1) {
+            var letter = index(sequence.charAt(i));
+
+            node = (letter >= 0) ? child(node, letter) : NONE;
+        }
+
+        return node;
+    }
+
+    /**
+     * Method to compute a cross-check:  The letters that complete a word
+     * between a prefix and a suffix.
+     *
+     * @param   prefix          The letters before the square.
+     * @param   suffix          The letters after the square.
+     *
+     * @return  The mask of letters {@code L} (bit {@code L - 'A'}) such
+     *          that {@code prefix + L + suffix} is a word.
+     */
+    public int crossCheck(CharSequence prefix, CharSequence suffix) {
+        var mask = 0;
+        var node = walk(root, prefix);
+
+        if (node != NONE) {
+            for (int letters = letters(node); letters != 0; letters &= letters - 1) {
+                var letter = Integer.numberOfTrailingZeros(letters);
+                var next = walk(child(node, letter), suffix);
+
+                if (next != NONE && isTerminal(next)) {
+                    mask |= 1 << letter;
+                }
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Method to get the letter index of a character.
+     *
+     * @param   character       The character (either case).
+     *
+     * @return  The index ({@code 0} for {@code 'A'}); {@code -1} if not a
+     *          letter.
+     */
+    public static int index(char character) {
+        var index = Character.toUpperCase(character) - 'A';
+
+        return (0 <= index && index < LETTERS) ? index : -1;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        var contains = false;
+
+        if (object instanceof CharSequence) {
+            var node = walk(root, (CharSequence) object);
+
+            contains = (node != NONE) && isTerminal(node);
+        }
+
+        return contains;
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public Iterator<CharSequence> iterator() { return new Words(); }
+
+    /*
+     * Depth-first (alphabetical) word iterator.
+     */
+    private class Words implements Iterator<CharSequence> {
+        private final StringBuilder word = new StringBuilder();
+        private final ArrayList<int[]> stack = new ArrayList<>();
+        private String next = null;
+
+        public Words() {
+            stack.add(new int[] { root, letters(root) });
+            next = advance();
+        }
+
+        private String advance() {
+            String next = null;
+
+            while (next == null && (! stack.isEmpty())) {
+                var top = stack.get(stack.size() - 1);
+
+                if (top[1] != 0) {
+                    var letter = Integer.numberOfTrailingZeros(top[1]);
+                    var child = child(top[0], letter);
+
+                    top[1] &= top[1] - 1;
+                    word.append((char) ('A' + letter));
+                    stack.add(new int[] { child, letters(child) });
+
+                    if (isTerminal(child)) {
+                        next = word.toString();
+                    }
+                } else {
+                    stack.remove(stack.size() - 1);
+                    word.setLength(Math.max(stack.size() - 1, 0));
+                }
+            }
+
+            return next;
+        }
+
+        @Override
+        public boolean hasNext() { return next != null; }
+
+        @Override
+        public CharSequence next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+
+            var next = this.next;
+
+            this.next = advance();
+
+            return next;
+        }
+    }
+
+    /*
+     * Builds the trie of the (sorted) words and then lays out the
+     * minimized graph bottom-up:  Equivalent subtrees (same header and
+     * children) are written once.
+     */
+    private static class Builder {
+        private final ArrayList<int[]> trie = new ArrayList<>();
+        private final HashMap<Key,Integer> register = new HashMap<>();
+        private int[] graph = new int[1 << 16];
+        private int length = 0;
+        private int root = 0;
+        private int size = 0;
+
+        public Builder(Collection<? extends CharSequence> words) {
+            var sorted = new TreeSet<String>();
+
+            for (var word : words) {
+                var string = word.toString().toUpperCase();
+
+                if ((! string.isEmpty()) && string.chars().allMatch(t -> index((char) t) >= 0)) {
+                    sorted.add(string);
+                }
+            }
+
+            trie.add(new int[] { 0 });
+
+            for (var word : sorted) {
+                var node = 0;
+
+                for (int i = 0; i < word.length(); i += 1) {
+                    node = insert(node, word.charAt(i) - 'A');
+                }
+
+                trie.get(node)[0] |= 1 << TERMINAL;
+                size += 1;
+            }
+
+            root = layout(0);
+            trie.clear();
+            register.clear();
+        }
+
+        /*
+         * Node array:  header followed by the trie indices of the
+         * children in letter order (the input is sorted so a new child
+         * is always the last).
+         */
+        private int insert(int node, int letter) {
+            var array = trie.get(node);
+            var bit = 1 << letter;
+            var child = -1;
+
+            if ((array[0] & bit) != 0) {
+                child = array[array.length - 1];
+            } else {
+                child = trie.size();
+                trie.add(new int[] { 0 });
+                array = Arrays.copyOf(array, array.length + 1);
+                array[0] |= bit;
+                array[array.length - 1] = child;
+                trie.set(node, array);
+            }
+
+            return child;
+        }
+
+        private int layout(int node) {
+            var array = trie.get(node);
+            var key = new int[array.length];
+
+            key[0] = array[0];
+
+            for (int i = 1; i < array.length; i += 1) {
+                key[i] = layout(array[i]);
+            }
+
+            return register.computeIfAbsent(new Key(key), k -> write(k.array));
+        }
+
+        private int write(int[] node) {
+            if (length + node.length > graph.length) {
+                graph = Arrays.copyOf(graph, 2 * (length + node.length));
+            }
+
+            var offset = length;
+
+            System.arraycopy(node, 0, graph, length, node.length);
+            length += node.length;
+
+            return offset;
+        }
+    }
+
+    private static class Key {
+        private final int[] array;
+        private final int hashCode;
+
+        public Key(int[] array) {
+            this.array = array;
+            this.hashCode = Arrays.hashCode(array);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof Key) && Arrays.equals(array, ((Key) object).array);
+        }
+
+        @Override
+        public int hashCode() { return hashCode; }
+    }
+}
@@ -19,9 +19,7 @@ package ball.game.scrabble;
  * ##########################################################################
  */
 import ball.game.scrabble.wordlist.OWL;
-import java.util.Collections;
 import java.util.Set;
-import lombok.NoArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -32,12 +30,24 @@ import lombok.Setter;
  *
  * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
  */
-@NoArgsConstructor @Getter @Setter
+@Getter @Setter
 public class Game {
-    private final Set<CharSequence> wordList = Collections.unmodifiableSet(new OWL().keySet());
+    private final Set<CharSequence> wordList;
     private final Board board = new Board();
     private final Bag bag = new Bag();
 
+    /**
+     * Sole constructor.  The {@link Board} maintains its cross-checks
+     * with the shared {@link OWL} lexicon (see
+     * {@link Board#setLexicon(Dawg)}).
+     */
+    public Game() {
+        var lexicon = Lexicons.get(OWL.class);
+
+        board.setLexicon(lexicon);
+        wordList = lexicon;
+    }
+
     @Override
     public String toString() { return board.toString(); }
 }
@@ -0,0 +1,131 @@
+package ball.game.scrabble;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of shared, immutable lexicons ({@link Dawg}s of
+ * {@link WordList}s).  Each lexicon is built once, on first use, and
+ * shared by every caller (e.g., every {@link Game}).  The registry holds
+ * each lexicon by {@link SoftReference} so a lexicon no longer in use
+ * may be evicted under memory pressure (and is rebuilt if requested
+ * again).
+ * <p>
+ * If the system property {@value #PROPERTY} names a directory containing
+ * {@code <name>.dawg} (compiled with {@link Dawg#write(java.nio.file.Path)}),
+ * that file is memory-mapped instead of parsing the {@link WordList}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public abstract class Lexicons {
+
+    /**
+     * Compiled lexicon directory system property:
+     * {@link #PROPERTY} = {@value #PROPERTY}
+     */
+    public static final String PROPERTY = "ball.game.scrabble.lexicons";
+
+    private static final String PACKAGE = "ball.game.scrabble.wordlist";
+    private static final ConcurrentHashMap<String,Entry> MAP = new ConcurrentHashMap<>();
+
+    private Lexicons() { }
+
+    /**
+     * Static method to get the shared lexicon of a {@link WordList}.
+     *
+     * @param   name            The {@link WordList} name:  Either a
+     *                          simple name in
+     *                          {@link ball.game.scrabble.wordlist} (e.g.,
+     *                          {@code "OWL"}) or a fully qualified
+     *                          {@link Class} name.
+     *
+     * @return  The lexicon.
+     *
+     * @throws  IllegalArgumentException
+     *                          If the {@link WordList} cannot be loaded.
+     */
+    public static Dawg get(String name) {
+        var type = name.contains(".") ? name : (PACKAGE + "." + name);
+
+        return MAP.computeIfAbsent(type, Entry::new).get();
+    }
+
+    /**
+     * Static method to get the shared lexicon of a {@link WordList}.
+     *
+     * @param   type            The {@link WordList} {@link Class}.
+     *
+     * @return  The lexicon.
+     *
+     * @see #get(String)
+     */
+    public static Dawg get(Class<? extends WordList> type) {
+        return get(type.getName());
+    }
+
+    private static class Entry {
+        private final String type;
+        private SoftReference<Dawg> reference = new SoftReference<>(null);
+
+        public Entry(String type) { this.type = type; }
+
+        public synchronized Dawg get() {
+            var dawg = reference.get();
+
+            if (dawg == null) {
+                dawg = load();
+                reference = new SoftReference<>(dawg);
+            }
+
+            return dawg;
+        }
+
+        private Dawg load() {
+            Dawg dawg = null;
+
+            try {
+                var directory = System.getProperty(PROPERTY);
+
+                if (directory != null) {
+                    var path = Paths.get(directory, type.substring(type.lastIndexOf('.') + 1) + ".dawg");
+
+                    if (Files.isReadable(path)) {
+                        dawg = Dawg.map(path);
+                    }
+                }
+
+                if (dawg == null) {
+                    var list =
+                        Class.forName(type).asSubclass(WordList.class)
+                        .getDeclaredConstructor().newInstance();
+
+                    dawg = new Dawg(list.keySet());
+                }
+            } catch (Exception exception) {
+                throw new IllegalArgumentException(type, exception);
+            }
+
+            return dawg;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ball.game.scrabble;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import lombok.Getter;
+
+/**
+ * Scrabble {@link Move}:  A word placed on a {@link Board} (see
+ * {@link MoveGenerator}).
+ *
+ * {@bean.info}
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+@Getter
+public class Move implements Comparable<Move> {
+    private final int row;
+    private final int column;
+    private final boolean across;
+    private final String word;
+    private final int placed;
+    private final int score;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   row             The row of the first letter.
+     * @param   column          The column of the first letter.
+     * @param   across          {@code true} if the word reads across;
+     *                          {@code false} if down.
+     * @param   word            The word (letters played with a blank
+     *                          {@link Tile} in lower case).
+     * @param   placed          The mask of the letters of {@code word}
+     *                          placed from the {@link Rack} (bit
+     *                          {@code i} for letter {@code i}).
+     * @param   score           The score.
+     */
+    protected Move(int row, int column, boolean across, String word, int placed, int score) {
+        this.row = row;
+        this.column = column;
+        this.across = across;
+        this.word = word;
+        this.placed = placed;
+        this.score = score;
+    }
+
+    /**
+     * Method to get the number of {@link Tile}s placed from the
+     * {@link Rack}.
+     *
+     * @return  The number of {@link Tile}s.
+     */
+    public int getTiles() { return Integer.bitCount(placed); }
+
+    /**
+     * Method to play {@link.this} {@link Move}:  The {@link Tile}s are
+     * removed from the {@link Rack} and played on the {@link Board}.
+     *
+     * @param   board           The {@link Board}.
+     * @param   rack            The {@link Rack}.
+     *
+     * @throws  IllegalStateException
+     *                          If the {@link Rack} does not hold the
+     *                          {@link Tile}s or a {@link SQ} is not
+     *                          empty.
+     */
+    public void play(Board board, Rack rack) {
+        for (int i = 0; i < word.length(); i += 1) {
+            if ((placed & (1 << i)) != 0) {
+                var letter = word.charAt(i);
+                var wanted = Character.isLowerCase(letter) ? Tile.BLANK : letter;
+                var tile = rack.stream().filter(t -> t.getLetter() == wanted).findFirst().orElse(null);
+
+                if (tile == null) {
+                    throw new IllegalStateException("No " + wanted + " in " + rack);
+                }
+
+                rack.remove(tile);
+                board.get(across ? row : row + i, across ? column + i : column)
+                    .play(tile, Character.toUpperCase(letter));
+            }
+        }
+    }
+
+    @Override
+    public int compareTo(Move that) {
+        return Integer.compare(that.getScore(), this.getScore());
+    }
+
+    @Override
+    public String toString() {
+        var square =
+            across
+                ? String.format("%d%c", row + 1, (char) ('A' + column))
+                : String.format("%c%d", (char) ('A' + column), row + 1);
+
+        return square + " " + word + " " + score;
+    }
+}
@@ -0,0 +1,412 @@
+package ball.game.scrabble;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Scrabble {@link Move} generator:  Enumerates every legal {@link Move}
+ * for a {@link Rack} on a {@link Board} by walking a {@link Dawg} from
+ * each anchor square (the Appel-Jacobson algorithm).  Cross-checks (the
+ * letters that form a valid perpendicular word on an empty square) and
+ * anchors are taken from the {@link Board} if it maintains them for the
+ * same lexicon (see {@link Board#setLexicon(Dawg)}) and are otherwise
+ * computed once per {@link #generate(Board,Collection)} call.  Down
+ * {@link Move}s are generated over the transposed {@link Board}.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class MoveGenerator {
+    private static final int BLANK = Dawg.LETTERS;
+    private static final int BINGO = 50;
+    private static final int BINGO_TILES = 7;
+
+    private final Dawg dawg;
+
+    /**
+     * Sole constructor.
+     *
+     * @param   dawg            The {@link Dawg} of legal words.
+     */
+    public MoveGenerator(Dawg dawg) {
+        this.dawg = requireNonNull(dawg, "dawg");
+    }
+
+    /**
+     * Method to generate every legal {@link Move}.
+     *
+     * @param   board           The {@link Board}.
+     * @param   rack            The {@link Tile}s available to play.
+     *
+     * @return  The {@link List} of {@link Move}s (highest score first).
+     */
+    public List<Move> generate(Board board, Collection<Tile> rack) {
+        var counts = new int[Dawg.LETTERS + 1];
+        var values = new int[Dawg.LETTERS];
+
+        for (var tile : rack) {
+            if (tile.isBlank()) {
+                counts[BLANK] += 1;
+            } else {
+                var letter = Dawg.index(tile.getLetter());
+
+                if (letter >= 0) {
+                    counts[letter] += 1;
+                    values[letter] = tile.getPoints();
+                }
+            }
+        }
+
+        var moves = new ArrayList<Move>();
+
+        new Generation(board, true, counts, values, moves).run();
+        new Generation(board, false, counts, values, moves).run();
+
+        Collections.sort(moves);
+
+        return moves;
+    }
+
+    /*
+     * One orientation of a generate() call.  Arrays are indexed
+     * [line][position] where a line is a row (across) or a column (down).
+     */
+    private class Generation {
+        private final boolean across;
+        private final int n;
+        private final char[][] cells;
+        private final int[][] points;
+        private final int[][] letterPremiums;
+        private final int[][] wordPremiums;
+        private final int[][] checks;
+        private final int[][] crosses;
+        private final boolean[][] anchors;
+        private final int[] counts;
+        private final int[] values;
+        private final List<Move> moves;
+        private final boolean[] fresh;
+        private final char[] part;
+        private boolean empty = true;
+        private int line = 0;
+        private int anchor = 0;
+
+        public Generation(Board board, boolean across, int[] counts, int[] values, List<Move> moves) {
+            this.across = across;
+            this.n = board.getRowCount();
+            this.cells = new char[n][n];
+            this.points = new int[n][n];
+            this.letterPremiums = new int[n][n];
+            this.wordPremiums = new int[n][n];
+            this.checks = new int[n][n];
+            this.crosses = new int[n][n];
+            this.anchors = new boolean[n][n];
+            this.counts = counts;
+            this.values = values;
+            this.moves = moves;
+            this.fresh = new boolean[n];
+            this.part = new char[n];
+
+            for (int i = 0; i < n; i += 1) {
+                for (int j = 0; j < n; j += 1) {
+                    var sq = across ? board.get(i, j) : board.get(j, i);
+
+                    letterPremiums[i][j] = Math.max(sq.getLetterPremium(), 1);
+                    wordPremiums[i][j] = Math.max(sq.getWordPremium(), 1);
+
+                    if (! sq.isEmpty()) {
+                        var tile = sq.getTile();
+                        var letter = Character.toUpperCase(sq.getLetter());
+
+                        cells[i][j] = tile.isBlank() ? Character.toLowerCase(letter) : letter;
+                        points[i][j] = tile.getPoints();
+                        empty = false;
+                    }
+                }
+            }
+
+            var maintained = (board.getLexicon() == dawg);
+
+            for (int i = 0; i < n; i += 1) {
+                for (int j = 0; j < n; j += 1) {
+                    if (cells[i][j] == 0) {
+                        if (maintained) {
+                            var y = across ? i : j;
+                            var x = across ? j : i;
+
+                            anchors[i][j] = board.isAnchor(y, x);
+                            checks[i][j] = board.getCrossCheck(y, x, across);
+                            crosses[i][j] = board.getCrossScore(y, x, across);
+                        } else {
+                            anchors[i][j] = isAnchor(i, j);
+                            check(i, j);
+                        }
+                    }
+                }
+            }
+        }
+
+        public void run() {
+            for (line = 0; line < n; line += 1) {
+                var row = cells[line];
+                var limit = 0;
+
+                for (anchor = 0; anchor < n; anchor += 1) {
+                    if (anchors[line][anchor]) {
+                        if (checks[line][anchor] != 0) {
+                            if (anchor > 0 && row[anchor - 1] != 0) {
+                                var start = anchor - 1;
+
+                                while (start > 0 && row[start - 1] != 0) {
+                                    start -= 1;
+                                }
+
+                                var node = dawg.root();
+
+                                for (int j = start; j < anchor && node != Dawg.NONE; j += 1) {
+                                    node = dawg.child(node, Dawg.index(row[j]));
+                                }
+
+                                if (node != Dawg.NONE) {
+                                    extend(node, anchor, start);
+                                }
+                            } else {
+                                left(dawg.root(), 0, limit);
+                            }
+                        }
+
+                        limit = 0;
+                    } else if (row[anchor] == 0) {
+                        limit += 1;
+                    } else {
+                        limit = 0;
+                    }
+                }
+            }
+        }
+
+        /*
+         * A square is an anchor if it is empty and adjacent to a played
+         * tile (or the center square of an empty board).
+         */
+        private boolean isAnchor(int i, int j) {
+            var anchor = false;
+
+            if (cells[i][j] == 0) {
+                if (empty) {
+                    anchor = (i == n / 2 && j == n / 2);
+                } else {
+                    anchor =
+                        (i > 0 && cells[i - 1][j] != 0)
+                        || (i + 1 < n && cells[i + 1][j] != 0)
+                        || (j > 0 && cells[i][j - 1] != 0)
+                        || (j + 1 < n && cells[i][j + 1] != 0);
+                }
+            }
+
+            return anchor;
+        }
+
+        /*
+         * Computes the cross-check letter mask and the cross-word points
+         * (-1 if there is no perpendicular word) of an empty square.
+         */
+        private void check(int i, int j) {
+            var prefix = new StringBuilder();
+            var suffix = new StringBuilder();
+            var sum = 0;
+
+            for (int k = i - 1; k >= 0 && cells[k][j] != 0; k -= 1) {
+                prefix.insert(0, cells[k][j]);
+                sum += points[k][j];
+            }
+
+            for (int k = i + 1; k < n && cells[k][j] != 0; k += 1) {
+                suffix.append(cells[k][j]);
+                sum += points[k][j];
+            }
+
+            if (prefix.length() + suffix.length() > 0) {
+                checks[i][j] = dawg.crossCheck(prefix, suffix);
+                crosses[i][j] = sum;
+            } else {
+                checks[i][j] = Dawg.ALL;
+                crosses[i][j] = -1;
+            }
+        }
+
+        /*
+         * Builds every left part (of at most limit tiles on the empty
+         * non-anchor squares left of the anchor) and extends each to the
+         * right through the anchor.
+         */
+        private void left(int node, int length, int limit) {
+            var row = cells[line];
+            var start = anchor - length;
+
+            for (int j = 0; j < length; j += 1) {
+                row[start + j] = part[j];
+                fresh[start + j] = true;
+            }
+
+            extend(node, anchor, start);
+
+            for (int j = start; j < anchor; j += 1) {
+                row[j] = 0;
+                fresh[j] = false;
+            }
+
+            if (length < limit) {
+                for (int letters = dawg.letters(node) & available(); letters != 0; letters &= letters - 1) {
+                    var letter = Integer.numberOfTrailingZeros(letters);
+                    var next = dawg.child(node, letter);
+
+                    if (counts[letter] > 0) {
+                        counts[letter] -= 1;
+                        part[length] = (char) ('A' + letter);
+                        left(next, length + 1, limit);
+                        counts[letter] += 1;
+                    }
+
+                    if (counts[BLANK] > 0) {
+                        counts[BLANK] -= 1;
+                        part[length] = (char) ('a' + letter);
+                        left(next, length + 1, limit);
+                        counts[BLANK] += 1;
+                    }
+                }
+            }
+        }
+
+        /*
+         * Extends a partial word (starting at start) right from position
+         * j, recording each word that ends at an empty square (or the
+         * edge) past the anchor.
+         */
+        private void extend(int node, int j, int start) {
+            var row = cells[line];
+
+            if (j == n || row[j] == 0) {
+                if (j > anchor && dawg.isTerminal(node)) {
+                    record(start, j);
+                }
+
+                if (j < n) {
+                    var letters = dawg.letters(node) & checks[line][j] & available();
+
+                    for (; letters != 0; letters &= letters - 1) {
+                        var letter = Integer.numberOfTrailingZeros(letters);
+                        var next = dawg.child(node, letter);
+
+                        fresh[j] = true;
+
+                        if (counts[letter] > 0) {
+                            counts[letter] -= 1;
+                            row[j] = (char) ('A' + letter);
+                            extend(next, j + 1, start);
+                            counts[letter] += 1;
+                        }
+
+                        if (counts[BLANK] > 0) {
+                            counts[BLANK] -= 1;
+                            row[j] = (char) ('a' + letter);
+                            extend(next, j + 1, start);
+                            counts[BLANK] += 1;
+                        }
+
+                        row[j] = 0;
+                        fresh[j] = false;
+                    }
+                }
+            } else {
+                var next = dawg.child(node, Dawg.index(row[j]));
+
+                if (next != Dawg.NONE) {
+                    extend(next, j + 1, start);
+                }
+            }
+        }
+
+        private int available() {
+            var mask = 0;
+
+            if (counts[BLANK] > 0) {
+                mask = Dawg.ALL;
+            } else {
+                for (int letter = 0; letter < Dawg.LETTERS; letter += 1) {
+                    if (counts[letter] > 0) {
+                        mask |= 1 << letter;
+                    }
+                }
+            }
+
+            return mask;
+        }
+
+        /*
+         * Scores and records the word on [start, end).  A single tile
+         * forming words in both directions is only recorded across.
+         */
+        private void record(int start, int end) {
+            if (end - start > 1) {
+                var row = cells[line];
+                var word = 0;
+                var multiplier = 1;
+                var cross = 0;
+                var tiles = 0;
+                var placed = 0;
+
+                for (int j = start; j < end; j += 1) {
+                    if (fresh[j]) {
+                        var letter = row[j];
+                        var value =
+                            Character.isLowerCase(letter)
+                                ? 0
+                                : values[letter - 'A'] * letterPremiums[line][j];
+
+                        word += value;
+                        multiplier *= wordPremiums[line][j];
+
+                        if (crosses[line][j] >= 0) {
+                            cross += (crosses[line][j] + value) * wordPremiums[line][j];
+                        }
+
+                        tiles += 1;
+                        placed |= 1 << (j - start);
+                    } else {
+                        word += points[line][j];
+                    }
+                }
+
+                var score = word * multiplier + cross + ((tiles == BINGO_TILES) ? BINGO : 0);
+                var string = new String(row, start, end - start);
+
+                if (across) {
+                    moves.add(new Move(line, start, true, string, placed, score));
+                } else if (tiles > 1 || crosses[line][start + Integer.numberOfTrailingZeros(placed)] < 0) {
+                    moves.add(new Move(start, line, false, string, placed, score));
+                }
+            }
+        }
+    }
+}
@@ -33,6 +33,9 @@ public class SQ {
     private Tile tile = null;
     private char letter = ' ';
     private String string = null;
+    private Board board = null;
+    private int y = -1;
+    private int x = -1;
 
     /**
      * Sole public constructor.
@@ -62,6 +65,20 @@ public class SQ {
         this.string = requireNonNull(string, "string");
     }
 
+    /**
+     * Method to attach {@link.this} {@link SQ} to its {@link Board} so
+     * the {@link Board} is notified of each play.
+     *
+     * @param   board           The {@link Board}.
+     * @param   y               The row.
+     * @param   x               The column.
+     */
+    protected void setBoard(Board board, int y, int x) {
+        this.board = board;
+        this.y = y;
+        this.x = x;
+    }
+
     public boolean isPremium() {
         return (letterPremium > 1 || wordPremium > 1);
     }
@@ -82,6 +99,18 @@ public class SQ {
 
     public boolean isEmpty() { return (tile == null); }
 
+    /**
+     * @return  The {@link Tile} played on this {@link SQ}; {@code null}
+     *          if empty.
+     */
+    public Tile getTile() { return tile; }
+
+    /**
+     * @return  The letter played on this {@link SQ} (the letter chosen
+     *          for a blank {@link Tile}); {@code ' '} if empty.
+     */
+    public char getLetter() { return letter; }
+
     public void play(Tile tile) { play(tile, tile.getLetter()); }
 
     public void play(Tile tile, char letter) {
@@ -97,6 +126,10 @@ public class SQ {
         } else {
             string = tile.toString().toUpperCase();
         }
+
+        if (board != null) {
+            board.played(y, x);
+        }
     }
 
     @Override
@@ -0,0 +1,157 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CardReader} and {@link CardWriter} round-trip test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class CardReaderTest {
+    private static final long SEED = 52L;
+    private static final int SIZE = 1 + (6 * CardWriter.MAXIMUM + 7) / 8;
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        var deck = new ball.game.card.poker.Deck();
+        var pinochle = new ball.game.card.trick.pinochle.Deck();
+        var hand = Cards.mask(deck.subList(0, 13));
+
+        Collections.shuffle(deck, new Random(SEED));
+
+        var out = new ByteArrayOutputStream();
+
+        try (var writer = new CardWriter(Channels.newChannel(out))) {
+            writer.writeCard(deck.get(0));
+            writer.writeCard(Cards.JOKER);
+            writer.writeCards(deck);
+            writer.writeCards(pinochle);
+            writer.writeCards(new int[] { });
+            writer.writeHand(hand);
+            writer.writeHand(0L);
+            writer.writeHand(Cards.DECK);
+        }
+
+        /*
+         * One byte per card, a one-byte count plus six bits per card per
+         * list, and seven bytes per hand.
+         */
+        assertEquals(2 + (1 + 39) + (1 + 36) + 1 + 3 * CardWriter.HAND, out.size());
+
+        try (var reader = new CardReader(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())))) {
+            assertEquals(deck.get(0), Cards.card(reader.readCard()));
+            assertEquals(Cards.JOKER, reader.readCard());
+            assertEquals(deck, reader.readCards(new ArrayList<>()));
+            assertEquals(pinochle, reader.readCards(new ArrayList<>()));
+            assertEquals(0, reader.readCards().length);
+            assertEquals(hand, reader.readHand());
+            assertEquals(0L, reader.readHand());
+            assertEquals(Cards.DECK, reader.readHand());
+            assertFalse(reader.hasRemaining());
+            assertThrows(EOFException.class, reader::readCard);
+        }
+    }
+
+    /*
+     * Minimum-size buffers:  Records straddle buffer refills.
+     */
+    @Test
+    public void testMinimumBuffers() throws Exception {
+        var random = new SplittableRandom(SEED);
+        var lists = new int[64][];
+        var hands = new long[lists.length];
+        var out = new ByteArrayOutputStream();
+
+        try (var writer = new CardWriter(Channels.newChannel(out), SIZE)) {
+            for (int i = 0; i < lists.length; i += 1) {
+                lists[i] = random.ints(random.nextInt(CardWriter.MAXIMUM + 1), 0, Cards.COUNT).toArray();
+                hands[i] = random.nextLong() & Cards.DECK;
+
+                writer.writeCards(lists[i]);
+                writer.writeHand(hands[i]);
+            }
+        }
+
+        try (var reader = new CardReader(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), SIZE)) {
+            for (int i = 0; i < lists.length; i += 1) {
+                assertTrue(reader.hasRemaining());
+                assertArrayEquals(lists[i], reader.readCards());
+                assertEquals(hands[i], reader.readHand());
+            }
+
+            assertFalse(reader.hasRemaining());
+        }
+    }
+
+    @Test
+    public void testTruncated() throws Exception {
+        var out = new ByteArrayOutputStream();
+
+        try (var writer = new CardWriter(Channels.newChannel(out))) {
+            writer.writeCards(new ball.game.card.poker.Deck());
+            writer.writeHand(Cards.DECK);
+        }
+
+        var bytes = out.toByteArray();
+
+        try (var reader = new CardReader(Channels.newChannel(new ByteArrayInputStream(bytes, 0, 20)))) {
+            assertThrows(EOFException.class, reader::readCards);
+        }
+
+        try (var reader = new CardReader(Channels.newChannel(new ByteArrayInputStream(bytes, 0, bytes.length - 1)))) {
+            reader.readCards();
+            assertThrows(EOFException.class, reader::readHand);
+        }
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        var bytes = new byte[] { (byte) Cards.COUNT };
+
+        try (var reader = new CardReader(Channels.newChannel(new ByteArrayInputStream(bytes)))) {
+            assertThrows(IOException.class, reader::readCard);
+        }
+
+        try (var writer = new CardWriter(Channels.newChannel(new ByteArrayOutputStream()))) {
+            assertThrows(IllegalArgumentException.class, () -> writer.writeCard(Cards.COUNT));
+            assertThrows(IllegalArgumentException.class, () -> writer.writeCards(new int[CardWriter.MAXIMUM + 1]));
+            assertThrows(IllegalArgumentException.class, () -> writer.writeHand(~Cards.DECK));
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> new CardWriter(Channels.newChannel(new ByteArrayOutputStream()), SIZE - 1));
+    }
+}
@@ -0,0 +1,83 @@
+package ball.game.card;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link Dealer} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class DealerTest {
+    private static final long SEED = 52L;
+
+    @Test
+    public void testEncode() {
+        var codes = new int[] { 0, 1, 20, 32, Cards.JOKER - 1 };
+        var hand = 0L;
+
+        for (var code : codes) {
+            hand |= Cards.mask(code);
+        }
+
+        assertArrayEquals(codes, Cards.encode(hand));
+        assertEquals(hand, Cards.mask(Cards.decode(Cards.encode(hand))));
+    }
+
+    @Test
+    public void testReproducible() {
+        var first = new long[4];
+        var second = new long[4];
+
+        new Dealer(SEED).deal(first, 13);
+        new Dealer(SEED).deal(second, 13);
+
+        assertArrayEquals(first, second);
+        assertEquals(Cards.DECK, first[0] | first[1] | first[2] | first[3]);
+    }
+
+    @Test
+    public void testSplit() {
+        var dealer = new Dealer(Cards.DECK, new SplittableRandom(SEED));
+
+        dealer.deal(13);
+
+        var split = dealer.split();
+
+        assertEquals(Long.bitCount(Cards.DECK), split.remaining());
+        assertEquals(Cards.DECK, split.deal(split.remaining()));
+    }
+
+    @Test
+    public void testCollect() {
+        var dealer = new Dealer(SEED);
+
+        dealer.deal(dealer.size());
+        assertThrows(IllegalStateException.class, dealer::deal);
+
+        dealer.collect();
+        assertEquals(Cards.DECK, dealer.deal(dealer.size()));
+    }
+}
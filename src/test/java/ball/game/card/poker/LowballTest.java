@@ -0,0 +1,84 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link Lowball} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class LowballTest {
+    private static final List<Card> WHEEL = hand("A-S 2-H 3-D 4-C 5-S");
+    private static final List<Card> STEEL_WHEEL = hand("A-S 2-S 3-S 4-S 5-S");
+    private static final List<Card> SEVEN_FIVE = hand("7-S 5-H 4-D 3-C 2-S");
+    private static final List<Card> NINE_FIVE = hand("9-S 5-H 4-D 3-C 2-S");
+    private static final List<Card> SIX_FOUR = hand("6-D 4-S 3-C 2-D 5-H");
+
+    @Test
+    public void testAceToFive() {
+        var lowball = Lowball.AceToFive;
+
+        assertEquals(lowball.strength(WHEEL), lowball.strength(STEEL_WHEEL));
+        assertTrue(lowball.strength(WHEEL) > lowball.strength(SIX_FOUR));
+        assertTrue(lowball.strength(SEVEN_FIVE) > lowball.strength(NINE_FIVE));
+        assertEquals(lowball.strength(SIX_FOUR), lowball.strength(hand("K-S K-H 2-D 3-C 4-S 5-H 6-D")));
+    }
+
+    @Test
+    public void testDeuceToSeven() {
+        var lowball = Lowball.DeuceToSeven;
+
+        assertTrue(lowball.strength(SEVEN_FIVE) > lowball.strength(WHEEL));
+        assertTrue(lowball.strength(SEVEN_FIVE) > lowball.strength(NINE_FIVE));
+        assertTrue(lowball.strength(WHEEL) > lowball.strength(STEEL_WHEEL));
+        assertTrue(lowball.strength(NINE_FIVE) > lowball.strength(SIX_FOUR));
+    }
+
+    @Test
+    public void testEightOrBetter() {
+        var lowball = Lowball.EightOrBetter;
+
+        assertEquals(Lowball.AceToFive.strength(WHEEL), lowball.strength(WHEEL));
+        assertEquals(0, lowball.strength(NINE_FIVE));
+        assertEquals(0, lowball.strength(hand("A-S A-H 2-D 3-C 4-S")));
+    }
+
+    @Test
+    public void testMaximum() {
+        var hand = hand("A-S 2-H 3-D 4-C 5-S 6-H 7-D 8-C");
+
+        for (var lowball : Lowball.values()) {
+            assertThrows(IllegalArgumentException.class, () -> lowball.strength(hand));
+        }
+    }
+
+    private static List<Card> hand(String string) {
+        return Stream.of(string.split(" ")).map(Card::parse).collect(toList());
+    }
+}
@@ -0,0 +1,129 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PreflopTable} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class PreflopTableTest {
+    private static final long SEED = 52L;
+
+    /*
+     * Every one of the 1,326 starting hands maps to one of the 169
+     * canonical hands:  6 combinations of each pair, 4 of each suited
+     * hand, and 12 of each offsuit hand.
+     */
+    @Test
+    public void testIndex() {
+        var counts = new int[PreflopTable.HANDS];
+
+        for (int first = 0; first < Cards.JOKER; first += 1) {
+            for (int second = first + 1; second < Cards.JOKER; second += 1) {
+                counts[PreflopTable.index(Cards.mask(first) | Cards.mask(second))] += 1;
+            }
+        }
+
+        for (int hand = 0; hand < PreflopTable.HANDS; hand += 1) {
+            var name = PreflopTable.name(hand);
+            var expected = name.endsWith("s") ? 4 : name.endsWith("o") ? 12 : 6;
+
+            assertEquals(expected, counts[hand], name);
+            assertEquals(hand, PreflopTable.index(PreflopTable.hole(hand)), name);
+        }
+
+        assertEquals("AA", PreflopTable.name(PreflopTable.index(hand("A-S A-H"))));
+        assertEquals("AKs", PreflopTable.name(PreflopTable.index(hand("K-D A-D"))));
+        assertEquals("AKo", PreflopTable.name(PreflopTable.index(hand("A-S K-H"))));
+        assertEquals("32o", PreflopTable.name(PreflopTable.index(hand("2-C 3-D"))));
+        assertThrows(IllegalArgumentException.class, () -> PreflopTable.index(hand("A-S K-H Q-D")));
+        assertThrows(IllegalArgumentException.class, () -> PreflopTable.index(Cards.mask(Cards.JOKER) | 1L));
+    }
+
+    @Test
+    public void testWriteLoad() throws Exception {
+        var path = Files.createTempFile(getClass().getSimpleName(), ".bin");
+
+        try {
+            var table = new float[PreflopTable.HANDS][PreflopTable.OPPONENTS];
+
+            for (int hand = 0; hand < table.length; hand += 1) {
+                for (int i = 0; i < table[hand].length; i += 1) {
+                    table[hand][i] = hand + i / 16f;
+                }
+            }
+
+            PreflopTable.write(path, table);
+
+            var loaded = PreflopTable.load(path);
+
+            for (int hand = 0; hand < table.length; hand += 1) {
+                for (int i = 0; i < table[hand].length; i += 1) {
+                    assertEquals(table[hand][i], loaded.equity(hand, i + 1));
+                }
+            }
+
+            var aces = PreflopTable.index(hand("A-S A-H"));
+
+            assertEquals(table[aces][0], loaded.equity(hand("A-C A-D"), 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> loaded.equity(0, 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> loaded.equity(PreflopTable.HANDS, 1));
+
+            Files.write(path, new byte[64]);
+
+            assertThrows(IllegalArgumentException.class, () -> PreflopTable.load(path));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /*
+     * Aces win about 85% of the time heads-up and lose equity with each
+     * additional opponent.
+     */
+    @Test
+    public void testEquities() {
+        var equities =
+            PreflopTable.equities(PreflopTable.index(hand("A-S A-H")), 0.005, 1 << 16, new SplittableRandom(SEED));
+
+        assertEquals(0.852, equities[0], 0.01);
+
+        for (int i = 1; i < equities.length; i += 1) {
+            assertTrue(equities[i] < equities[i - 1]);
+        }
+    }
+
+    private static List<Card> hand(String string) {
+        return Stream.of(string.split(" ")).map(Card::parse).collect(toList());
+    }
+}
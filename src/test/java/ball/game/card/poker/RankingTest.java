@@ -0,0 +1,167 @@
+package ball.game.card.poker;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import ball.util.stream.Combinations;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential test of {@link Ranking#of(java.util.Collection)} (and the
+ * histogram short-cut in {@link Evaluator}) against the {@link Ranking}
+ * {@link java.util.function.Predicate}s.  The default build checks the
+ * edge hands and a seeded sample; every five-{@link Card} hand is checked
+ * by the {@code slow} tests ({@code mvn -B -Pslow test}).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class RankingTest {
+    private static final int HANDS = 2598960;
+    private static final int SAMPLE = 4096;
+    private static final long SEED = 2598960L;
+
+    private static final String[][] EDGES = {
+        { "A-S", "2-H", "3-D", "4-C", "5-S" },
+        { "A-H", "2-H", "3-H", "4-H", "5-H" },
+        { "A-S", "K-S", "Q-S", "J-S", "10-S" },
+        { "A-S", "K-H", "Q-D", "J-C", "10-S" },
+        { "K-S", "A-H", "2-D", "3-C", "4-S" },
+        { "9-D", "9-C", "9-H", "9-S", "2-D" },
+        { "9-D", "9-C", "9-H", "2-S", "2-D" },
+        { "9-D", "9-C", "2-H", "2-S", "3-D" },
+        { "2-C", "4-C", "6-C", "8-C", "10-C" }
+    };
+
+    private static final List<Card> DECK =
+        IntStream.range(0, Long.bitCount(Cards.DECK))
+        .mapToObj(Cards::card)
+        .collect(toList());
+
+    @Test
+    public void testEdgeHands() {
+        for (var edge : EDGES) {
+            var hand = IntStream.range(0, edge.length).mapToObj(t -> Card.parse(edge[t])).collect(toList());
+
+            check(hand);
+        }
+    }
+
+    @Test
+    public void testSample() {
+        var random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < SAMPLE; i += 1) {
+            var deck = new ArrayList<>(DECK);
+
+            for (int j = 0; j < 5; j += 1) {
+                Collections.swap(deck, j, j + random.nextInt(deck.size() - j));
+            }
+
+            check(deck.subList(0, 5));
+        }
+    }
+
+    @Tag("slow")
+    @Test
+    public void testAllFiveCardHands() {
+        var n = DECK.size();
+        var count =
+            IntStream.range(0, n).parallel()
+            .mapToLong(a -> {
+                    var hands = 0L;
+
+                    for (int b = a + 1; b < n; b += 1) {
+                        for (int c = b + 1; c < n; c += 1) {
+                            for (int d = c + 1; d < n; d += 1) {
+                                for (int e = d + 1; e < n; e += 1) {
+                                    check(List.of(DECK.get(a), DECK.get(b), DECK.get(c), DECK.get(d), DECK.get(e)));
+
+                                    hands += 1;
+                                }
+                            }
+                        }
+                    }
+
+                    return hands;
+                })
+            .sum();
+
+        assertEquals(HANDS, count);
+    }
+
+    private static void check(List<Card> hand) {
+        var expected = predicates(hand);
+
+        assertEquals(expected, Ranking.of(hand), hand::toString);
+        assertEquals(expected, new Evaluator(hand).getRanking(), hand::toString);
+    }
+
+    /*
+     * The best Ranking found by testing the orderings of the hand with the
+     * Ranking predicates (pruned by Ranking.possible() and, as each
+     * Ranking is found, to the better Rankings).
+     */
+    private static Ranking predicates(List<Card> cards) {
+        var hand = new ArrayList<>(cards);
+
+        hand.sort(Evaluator.CARD.reversed());
+
+        var rankings = new ArrayList<>(List.of(Ranking.values()));
+
+        Collections.reverse(rankings);
+        rankings.removeIf(t -> t.required() > hand.size());
+
+        var best = Ranking.Empty;
+        var iterator =
+            Combinations.of(hand.size(), hand.size(),
+                            t -> rankings.stream().anyMatch(r -> r.possible().test(t)),
+                            hand)
+            .iterator();
+
+        while (iterator.hasNext()) {
+            var list = iterator.next();
+            var ranking =
+                rankings.stream()
+                .filter(t -> t.test(list))
+                .findFirst().orElse(Ranking.Empty);
+
+            if (Ranking.COMPARATOR.compare(ranking, best) > 0) {
+                best = ranking;
+
+                var index = rankings.indexOf(ranking);
+
+                if (! (index < 0)) {
+                    rankings.subList(index + 1, rankings.size()).clear();
+                }
+            }
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,94 @@
+package ball.game.card.solitaire;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link FreeCell} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class FreeCellTest {
+
+    /*
+     * The first row of Microsoft FreeCell deal #1.
+     */
+    private static final String ROW = "J-D 2-D 9-H J-C 5-D 7-H 7-C 5-H";
+
+    @Test
+    public void testDeal() {
+        var deal = Cards.decode(FreeCell.deal(1));
+
+        assertEquals(cards(ROW), deal.subList(0, FreeCell.CASCADES));
+        assertEquals(Cards.DECK, Cards.mask(deal));
+    }
+
+    /*
+     * Deal #11982 is the only one of the original 32,000 deals that
+     * cannot be won.
+     */
+    @Test
+    public void testKnownDeals() {
+        var solver = new FreeCell();
+
+        assertEquals(FreeCell.Result.WON, solver.solve(FreeCell.deal(1)));
+        assertTrue(solver.getCost() >= Long.bitCount(Cards.DECK));
+        assertEquals(FreeCell.Result.LOST, solver.solve(FreeCell.deal(11982)));
+        assertEquals(FreeCell.Result.WON, solver.solve(FreeCell.deal(617)));
+    }
+
+    @Test
+    public void testRange() {
+        var solutions = FreeCell.solve(1, 20);
+
+        assertEquals(20, solutions.size());
+
+        for (int i = 0; i < solutions.size(); i += 1) {
+            assertEquals(i + 1, solutions.get(i).getDeal());
+            assertEquals(FreeCell.Result.WON, solutions.get(i).getResult());
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        var deck = FreeCell.deal(1);
+
+        deck[0] = deck[1];
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> new FreeCell(FreeCell.CELLS + 1, FreeCell.LIMIT, FreeCell.WEIGHT));
+        assertThrows(IllegalArgumentException.class, () -> new FreeCell(FreeCell.CELLS, 0, FreeCell.WEIGHT));
+        assertThrows(IllegalArgumentException.class, () -> new FreeCell(FreeCell.CELLS, FreeCell.LIMIT, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FreeCell().solve(deck));
+    }
+
+    private static List<Card> cards(String string) {
+        return Stream.of(string.split(" ")).map(Card::parse).collect(toList());
+    }
+}
@@ -0,0 +1,153 @@
+package ball.game.card.solitaire;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Cards;
+import ball.game.card.Dealer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link Klondike} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class KlondikeTest {
+
+    /*
+     * The stock holds the aces through sixes in order and each suit's
+     * seven through king fill one or two tableau piles in rank order:
+     * Every card can be played directly to its foundation.
+     */
+    private static final List<Card> ORDERED =
+        deck(new String[] {
+                 "7-H",
+                 "8-D 7-D",
+                 "9-C 8-C 7-C",
+                 "K-C Q-C J-C 10-C",
+                 "K-D Q-D J-D 10-D 9-D",
+                 "K-H Q-H J-H 10-H 9-H 8-H",
+                 "K-S Q-S J-S 10-S 9-S 8-S 7-S"
+             },
+             "A-S A-H A-D A-C 2-S 2-H 2-D 2-C 3-S 3-H 3-D 3-C"
+             + " 4-S 4-H 4-D 4-C 5-S 5-H 5-D 5-C 6-S 6-H 6-D 6-C");
+
+    /*
+     * No ace is face up, no face-up card can be moved, and none of the
+     * every-third stock cards (10-D 3-S 10-S 9-D K-S 6-H 10-C 3-C) can be
+     * played so the deal is lost turning three cards (but not turning
+     * one).
+     */
+    private static final List<Card> BLOCKED =
+        deck(new String[] {
+                 "8-D",
+                 "6-C 6-S",
+                 "8-C A-C 2-S",
+                 "7-H 7-S 5-S 5-C",
+                 "Q-H J-C A-S 2-C 10-H",
+                 "3-H 4-H 9-S 5-D 4-D Q-D",
+                 "K-C 6-D 4-C 7-D 8-S K-D 4-S"
+             },
+             "8-H 9-C 10-D J-D K-H 3-S Q-C A-D 10-S 9-H 2-H 9-D"
+             + " 7-C Q-S K-S J-S A-H 6-H 3-D 10-C J-H 2-D 5-H 3-C");
+
+    @Test
+    public void testOrdered() {
+        assertEquals(Klondike.Result.WON, new Klondike(1).solve(ORDERED));
+        assertEquals(Klondike.Result.WON, new Klondike(3).solve(ORDERED));
+    }
+
+    @Test
+    public void testBlocked() {
+        assertEquals(Klondike.Result.LOST, new Klondike(3).solve(BLOCKED));
+        assertEquals(Klondike.Result.WON, new Klondike(1).solve(BLOCKED));
+    }
+
+    /*
+     * Seeded (Dealer) deals:  Seed 74 is lost turning one card only after
+     * the complete (unpruned) search.
+     */
+    @Test
+    public void testSeeded() {
+        var solver = new Klondike(1);
+
+        assertEquals(Klondike.Result.LOST, solver.solve(deal(74)));
+        assertEquals(Klondike.Result.WON, solver.solve(deal(0)));
+
+        var statistics = Klondike.simulate(1, 0, 9, Klondike.LIMIT);
+
+        assertEquals(9, statistics.getDeals());
+        assertEquals(9, statistics.getCount(Klondike.Result.WON));
+    }
+
+    @Test
+    public void testInvalid() {
+        var duplicate = new ArrayList<>(ORDERED);
+
+        duplicate.set(0, duplicate.get(1));
+
+        assertThrows(IllegalArgumentException.class, () -> new Klondike(0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new Klondike(1).solve(ORDERED.subList(1, ORDERED.size())));
+        assertThrows(IllegalArgumentException.class, () -> new Klondike(1).solve(duplicate));
+    }
+
+    private static int[] deal(long seed) {
+        var dealer = new Dealer(seed);
+        var deck = new int[Long.bitCount(Cards.DECK)];
+
+        dealer.shuffle();
+
+        for (int i = 0; i < deck.length; i += 1) {
+            deck[i] = dealer.deal();
+        }
+
+        return deck;
+    }
+
+    /*
+     * The deck (top first) for the tableau piles (each listed bottom
+     * first) and the stock.
+     */
+    private static List<Card> deck(String[] piles, String stock) {
+        var tableau = Stream.of(piles).map(KlondikeTest::cards).collect(toList());
+        var deck = new ArrayList<Card>();
+
+        for (int row = 0; row < tableau.size(); row += 1) {
+            for (int pile = row; pile < tableau.size(); pile += 1) {
+                deck.add(tableau.get(pile).get(row));
+            }
+        }
+
+        deck.addAll(cards(stock));
+
+        return deck;
+    }
+
+    private static List<Card> cards(String string) {
+        return Stream.of(string.split(" ")).map(Card::parse).collect(toList());
+    }
+}
@@ -0,0 +1,78 @@
+package ball.game.card.trick;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Cards;
+import ball.game.card.trick.bridge.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link Simulation} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class SimulationTest {
+    private static final long DEALS = 1000;
+    private static final long SEED = 52L;
+
+    @Test
+    public void testTotals() {
+        var simulation =
+            new Simulation(Rules.STANDARD, Scoring.HEARTS, Cards.DECK, -1, (p, r) -> Player.LOWEST);
+        var totals = simulation.run(DEALS, SEED);
+        var tricks = 0L;
+        var points = 0L;
+
+        for (var position : Position.values()) {
+            tricks += totals.getTricks(position);
+            points += totals.getPoints(position);
+        }
+
+        assertEquals(DEALS, totals.getDeals());
+        assertEquals(13 * DEALS, tricks);
+        assertEquals(26 * DEALS, points);
+    }
+
+    /*
+     * Random Players are seeded from the run seed so a run is
+     * reproducible.
+     */
+    @Test
+    public void testReproducible() {
+        var simulation =
+            new Simulation(Rules.STANDARD, Scoring.HEARTS, Cards.DECK, -1, (p, r) -> Player.random(r));
+        var first = simulation.run(DEALS, SEED);
+        var second = simulation.run(DEALS, SEED);
+
+        for (var position : Position.values()) {
+            assertEquals(first.getTricks(position), second.getTricks(position));
+            assertEquals(first.getPoints(position), second.getPoints(position));
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new Simulation(Rules.STANDARD, Scoring.TRICKS, Cards.DECK & ~1L, -1,
+                                          (p, r) -> Player.LOWEST));
+    }
+}
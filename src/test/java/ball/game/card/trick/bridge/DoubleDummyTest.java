@@ -0,0 +1,143 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Card.Suit;
+import ball.game.card.Cards;
+import ball.game.card.Dealer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link DoubleDummy} test.  Hand-analyzable positions check the solver;
+ * the seeded full deals (whose results were cross-checked against the
+ * original unoptimized solver) guard against regressions.  See
+ * {@code DoubleDummyBenchmark} ({@code mvn -B -Pjmh ...}) for timing.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class DoubleDummyTest {
+    private static final int SEED = 1000;
+
+    /*
+     * North-South tricks with West on lead for the deals dealt from seeds
+     * SEED, SEED + 1, ... at notrump and with spades trumps.
+     */
+    private static final int[][] TRICKS = {
+        { 4, 8 }, { 5, 5 }, { 9, 7 }, { 4, 4 }, { 10, 9 },
+        { 7, 9 }, { 6, 9 }, { 13, 11 }, { 2, 3 }, { 8, 10 }
+    };
+
+    private static final Suit[] STRAINS = { null, Suit.SPADES };
+
+    /*
+     * Each hand holds one entire suit:  On lead at notrump, a side takes
+     * every trick; with spades trumps, North ruffs the opening lead and
+     * North-South take every trick.
+     */
+    @Test
+    public void testSolidSuits() {
+        var hands = new long[Position.values().length];
+
+        hands[Position.NORTH.ordinal()] = Cards.of(Suit.SPADES);
+        hands[Position.EAST.ordinal()] = Cards.of(Suit.HEARTS);
+        hands[Position.SOUTH.ordinal()] = Cards.of(Suit.DIAMONDS);
+        hands[Position.WEST.ordinal()] = Cards.of(Suit.CLUBS);
+
+        assertEquals(13, new DoubleDummy(hands, null).solve(Position.NORTH));
+        assertEquals(13, new DoubleDummy(hands, null).solve(Position.SOUTH));
+        assertEquals(0, new DoubleDummy(hands, null).solve(Position.EAST));
+        assertEquals(0, new DoubleDummy(hands, null).solve(Position.WEST));
+        assertEquals(13, new DoubleDummy(hands, Suit.SPADES).solve(Position.WEST));
+        assertEquals(0, new DoubleDummy(hands, Suit.HEARTS).solve(Position.SOUTH));
+    }
+
+    /*
+     * South leads toward North's ace-queen:  The finesse wins if West
+     * holds the king and loses if East does.
+     */
+    @Test
+    public void testFinesse() {
+        assertEquals(2,
+                     new DoubleDummy(hands("A-S Q-S", "5-S 4-S", "3-S 2-S", "K-S 6-S"), null)
+                     .solve(Position.SOUTH));
+        assertEquals(1,
+                     new DoubleDummy(hands("A-S Q-S", "K-S 6-S", "3-S 2-S", "5-S 4-S"), null)
+                     .solve(Position.SOUTH));
+    }
+
+    /*
+     * Simple squeeze:  South cashes the club ace and West (guarding both
+     * spades and hearts with no idle card) must unguard one so
+     * North-South take every trick.
+     */
+    @Test
+    public void testSqueeze() {
+        assertEquals(3,
+                     new DoubleDummy(hands("Q-S A-H J-H", "4-D 3-D 2-D", "A-C 3-H 2-S", "K-S K-H Q-H"), null)
+                     .solve(Position.SOUTH));
+    }
+
+    @Test
+    public void testSeededDeals() {
+        var solver = new DoubleDummy(new long[Position.values().length], null);
+
+        for (int i = 0; i < TRICKS.length; i += 1) {
+            var hands = new long[Position.values().length];
+
+            new Dealer(SEED + i).deal(hands, 13);
+
+            for (int j = 0; j < STRAINS.length; j += 1) {
+                var tricks = solver.reset(hands, STRAINS[j]).solve(Position.WEST);
+
+                assertEquals(TRICKS[i][j], tricks, "Seed " + (SEED + i) + " " + STRAINS[j]);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DoubleDummy(hands("A-S Q-S", "5-S 4-S", "3-S 2-S", "K-S"), null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DoubleDummy(hands("A-S Q-S", "5-S 4-S", "3-S 2-S", "A-S 6-S"), null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DoubleDummy(new long[Position.values().length], null, DoubleDummy.MAXIMUM_BITS + 1));
+    }
+
+    private static long[] hands(String north, String east, String south, String west) {
+        var hands = new long[Position.values().length];
+
+        hands[Position.NORTH.ordinal()] = hand(north);
+        hands[Position.EAST.ordinal()] = hand(east);
+        hands[Position.SOUTH.ordinal()] = hand(south);
+        hands[Position.WEST.ordinal()] = hand(west);
+
+        return hands;
+    }
+
+    private static long hand(String string) {
+        return Cards.mask(Stream.of(string.split(" ")).map(Card::parse).collect(toList()));
+    }
+}
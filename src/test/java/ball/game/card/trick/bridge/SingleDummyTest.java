@@ -0,0 +1,70 @@
+package ball.game.card.trick.bridge;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card.Suit;
+import ball.game.card.Cards;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link SingleDummy} (and {@link ConstrainedDealer}) test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class SingleDummyTest {
+    private static final long SEED = 14L;
+    private static final int DEALS = 64;
+
+    /*
+     * Each hand holds one entire suit:  With spades trumps, North ruffs
+     * East's opening lead and takes every trick; at notrump, West leads
+     * clubs against South and takes every trick.
+     */
+    @Test
+    public void testFixed() {
+        var constraints =
+            Map.of(Position.NORTH, new Constraint().hand(Cards.of(Suit.SPADES)),
+                   Position.EAST, new Constraint().hand(Cards.of(Suit.HEARTS)),
+                   Position.SOUTH, new Constraint().hand(Cards.of(Suit.DIAMONDS)),
+                   Position.WEST, new Constraint().hand(Cards.of(Suit.CLUBS)));
+        var dealer = new ConstrainedDealer(constraints, SEED);
+
+        assertEquals(1.0, new SingleDummy(dealer, Suit.SPADES, Position.NORTH).simulate(8).getProbability(13), 0);
+        assertEquals(1.0, new SingleDummy(dealer, null, Position.SOUTH).simulate(8).getProbability(0), 0);
+    }
+
+    /*
+     * Every deal satisfies the Constraint so every "trick count" (North's
+     * spade length) is in range.
+     */
+    @Test
+    public void testConstrained() {
+        var constraints = Map.of(Position.NORTH, new Constraint().length(Suit.SPADES, 5, 7).hcp(15, 17));
+        var dealer = new ConstrainedDealer(constraints, SEED);
+        var distribution =
+            new SingleDummy(dealer, t -> Integer.bitCount(Cards.suit(t[Position.NORTH.ordinal()], Suit.SPADES)))
+            .simulate(DEALS);
+
+        assertEquals(DEALS, distribution.getDeals());
+        assertEquals(1.0, distribution.getAtLeast(5) - distribution.getAtLeast(8), 1e-9);
+    }
+}
@@ -0,0 +1,101 @@
+package ball.game.card.trick.pinochle;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import ball.game.card.Card;
+import ball.game.card.Card.Suit;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link Meld} test.
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class MeldTest {
+    @Test
+    public void testRun() {
+        assertEquals(15, score("A-H 10-H K-H Q-H J-H", Suit.HEARTS));
+        assertEquals(19, score("A-H 10-H K-H Q-H J-H K-H Q-H", Suit.HEARTS));
+        assertEquals(150, score("A-H 10-H K-H Q-H J-H A-H 10-H K-H Q-H J-H", Suit.HEARTS));
+        assertEquals(2, score("A-H 10-H K-H Q-H J-H", Suit.CLUBS));
+    }
+
+    @Test
+    public void testMarriages() {
+        assertEquals(4, score("K-H Q-H", Suit.HEARTS));
+        assertEquals(2, score("K-S Q-S", Suit.HEARTS));
+        assertEquals(8, score("K-H Q-H K-H Q-H", Suit.HEARTS));
+        assertEquals(4, score("K-S Q-S K-S Q-S 9-C", Suit.HEARTS));
+    }
+
+    @Test
+    public void testDix() {
+        assertEquals(1, score("9-H 9-S", Suit.HEARTS));
+        assertEquals(2, score("9-H 9-H", Suit.HEARTS));
+    }
+
+    @Test
+    public void testAround() {
+        assertEquals(10, score("A-C A-D A-H A-S", Suit.CLUBS));
+        assertEquals(100, score("A-C A-D A-H A-S A-C A-D A-H A-S", Suit.CLUBS));
+        assertEquals(4, score("J-C J-D J-H J-S", Suit.CLUBS));
+        assertEquals(0, score("10-C 10-D 10-H 10-S", Suit.CLUBS));
+        /*
+         * Kings and queens around:  8 + 6 plus a royal marriage and three
+         * marriages.
+         */
+        assertEquals(24, score("K-C K-D K-H K-S Q-C Q-D Q-H Q-S", Suit.SPADES));
+    }
+
+    @Test
+    public void testPinochle() {
+        assertEquals(4, score("Q-S J-D", Suit.HEARTS));
+        assertEquals(30, score("Q-S J-D Q-S J-D", Suit.HEARTS));
+        assertEquals(4, score("Q-S J-D J-D", Suit.HEARTS));
+        /*
+         * The queen of spades counts in a pinochle and a marriage.
+         */
+        assertEquals(6, score("Q-S J-D K-S", Suit.HEARTS));
+    }
+
+    @Test
+    public void testNone() {
+        assertEquals(0, score("A-S 10-S 9-C J-H", Suit.DIAMONDS));
+        assertEquals(0, Meld.score(0L, Suit.SPADES.ordinal()));
+    }
+
+    @Test
+    public void testTooMany() {
+        assertThrows(IllegalArgumentException.class, () -> score("A-S A-S A-S", Suit.SPADES));
+    }
+
+    private static int score(String string, Suit trump) {
+        return Meld.score(cards(string), trump);
+    }
+
+    private static List<Card> cards(String string) {
+        return Stream.of(string.split(" ")).map(Card::parse).collect(toList());
+    }
+}
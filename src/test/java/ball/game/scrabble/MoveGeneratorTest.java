@@ -0,0 +1,133 @@
+package ball.game.scrabble;
+/*-
+ * ##########################################################################
+ * Game Applications and Utilities
+ * %%
+ * Copyright (C) 2010 - 2022 Allen D. Ball
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ##########################################################################
+ */
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MoveGenerator} test.  Expected scores are computed by hand from
+ * the {@link Board} premiums ({@code C} is worth 3 points and every other
+ * letter 1).
+ *
+ * @author {@link.uri mailto:ball@hcf.dev Allen D. Ball}
+ */
+public class MoveGeneratorTest {
+    private static final Dawg DAWG =
+        new Dawg(List.of("CAT", "ACT", "AT", "TA", "CATS", "AS", "RETAINS"));
+
+    /*
+     * The first move must cover the center (double word) square:  CAT
+     * and ACT each fit three ways across and three ways down.
+     */
+    @Test
+    public void testFirstMove() {
+        var moves = new MoveGenerator(DAWG).generate(new Board(), tiles("CAT"));
+
+        assertEquals(20, moves.size());
+        assertEquals(12, moves.stream().filter(t -> t.getScore() == 10).count());
+        assertTrue(moves.stream().allMatch(t -> t.getScore() == ((t.getTiles() == 3) ? 10 : 4)));
+    }
+
+    /*
+     * A bingo scores 50 more:  14 (doubled) or 16 (doubled, covering
+     * the double letter square 4 squares from the center).
+     */
+    @Test
+    public void testBingo() {
+        var moves = new MoveGenerator(DAWG).generate(new Board(), tiles("RETAINS"));
+        var bingos = moves.stream().filter(t -> t.getTiles() == 7).collect(Collectors.toList());
+
+        assertEquals(14, bingos.size());
+        assertEquals(66, moves.get(0).getScore());
+        assertEquals(12, bingos.stream().filter(t -> t.getScore() == 66).count());
+        assertEquals(2, bingos.stream().filter(t -> t.getScore() == 64).count());
+    }
+
+    /*
+     * Blank tiles are played in lower case and score nothing.
+     */
+    @Test
+    public void testBlank() {
+        var moves = new MoveGenerator(DAWG).generate(new Board(), tiles("CA_"));
+        var words = moves.stream().map(Move::getWord).collect(Collectors.toSet());
+
+        assertEquals(Set.of("CAt", "ACt", "As", "At", "tA"), words);
+        assertTrue(moves.stream().allMatch(t -> t.getScore() == ((t.getTiles() == 3) ? 8 : 2)));
+    }
+
+    /*
+     * CAT across through the center:  Hooks, parallel plays, and cross
+     * words (with and without the Board maintaining the cross-checks).
+     */
+    @Test
+    public void testFixedBoard() {
+        var board = board();
+
+        assertEquals("[8G CATS 6, H8 AS 2]", new MoveGenerator(DAWG).generate(board, tiles("S")).toString());
+
+        var expected = "[J7 AS 8, 7I AS 6, 8G CATS 6, 9I AS 6, I7 AT 3, I8 TA 3, H8 AS 2]";
+
+        assertEquals(expected, new MoveGenerator(DAWG).generate(board, tiles("AS")).toString());
+
+        board.setLexicon(DAWG);
+
+        assertEquals(expected, new MoveGenerator(DAWG).generate(board, tiles("AS")).toString());
+    }
+
+    @Test
+    public void testPlay() {
+        var board = board();
+        var rack = new Rack();
+
+        rack.addAll(tiles("AS"));
+
+        var move = new MoveGenerator(DAWG).generate(board, rack).get(0);
+
+        move.play(board, rack);
+
+        assertTrue(rack.isEmpty());
+        assertEquals('A', board.get(6, 9).getLetter());
+        assertEquals('S', board.get(7, 9).getLetter());
+        assertTrue(new MoveGenerator(DAWG).generate(board, tiles("S")).stream()
+                   .noneMatch(t -> t.getWord().equals("CATS")));
+    }
+
+    private static Board board() {
+        var board = new Board();
+        var tiles = tiles("CAT");
+
+        for (int i = 0; i < tiles.size(); i += 1) {
+            board.get(7, 6 + i).play(tiles.get(i));
+        }
+
+        return board;
+    }
+
+    private static List<Tile> tiles(String letters) {
+        return letters.chars()
+            .mapToObj(t -> new Tile((char) t, (t == Tile.BLANK) ? 0 : (t == 'C') ? 3 : 1))
+            .collect(Collectors.toList());
+    }
+}